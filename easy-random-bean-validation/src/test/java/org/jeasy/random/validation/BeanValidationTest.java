@@ -187,7 +187,7 @@ public class BeanValidationTest {
         assertThat(bean.getDiscount()).isEqualTo(new BigDecimal(0.182723708049134681008496272625052370131015777587890625));
         assertThat(bean.getMinQuantity()).isEqualTo(91531906);
         assertThat(bean.getBriefMessage()).isEqualTo("tg");
-        assertThat(bean.getRegexString()).isEqualTo("vuna");
+        assertThat(bean.getRegexString()).isEqualTo("tguu");
         assertThat(bean.getPositive()).isEqualTo(91531902);
         assertThat(bean.getPositiveOrZero()).isEqualTo(91531901);
         assertThat(bean.getNegative()).isEqualTo(-2055951746);
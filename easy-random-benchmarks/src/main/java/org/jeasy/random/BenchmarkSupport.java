@@ -0,0 +1,51 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.RandomizerRegistry;
+
+import java.util.LinkedHashSet;
+import java.util.ServiceLoader;
+
+/**
+ * Wires internal components the same way {@link EasyRandom} does, for benchmarks that exercise them directly.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static RegistriesRandomizerProvider newRandomizerProvider(final EasyRandomParameters parameters) {
+        LinkedHashSet<RandomizerRegistry> registries = new LinkedHashSet<>();
+        registries.add(parameters.getCustomRandomizerRegistry());
+        registries.add(parameters.getExclusionRandomizerRegistry());
+        registries.addAll(parameters.getUserRegistries());
+        ServiceLoader.load(RandomizerRegistry.class).forEach(registries::add);
+        registries.forEach(registry -> registry.init(parameters));
+        RegistriesRandomizerProvider randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(registries);
+        return randomizerProvider;
+    }
+
+}
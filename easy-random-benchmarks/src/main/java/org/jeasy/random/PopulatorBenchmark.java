@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.benchmarks.beans.CollectionHeavyBean;
+import org.jeasy.random.benchmarks.beans.MapHeavyBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the array, collection and map populators on single fields.
+ * Lives in the {@code org.jeasy.random} package to reach the package-private populators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulatorBenchmark {
+
+    private EasyRandomParameters parameters;
+
+    private EasyRandom easyRandom;
+
+    private ArrayPopulator arrayPopulator;
+
+    private CollectionPopulator collectionPopulator;
+
+    private MapPopulator mapPopulator;
+
+    private Field stringList;
+
+    private Field beanList;
+
+    private Field stringMap;
+
+    private Field beanMap;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        parameters = new EasyRandomParameters().seed(42L);
+        easyRandom = new EasyRandom(parameters);
+        SubSeedGenerator subSeedGenerator = new SubSeedGenerator(easyRandom, parameters);
+        LazyCollections lazyCollections = new LazyCollections(easyRandom, parameters, subSeedGenerator);
+        CompactCollections compactCollections = new CompactCollections(parameters);
+        arrayPopulator = new ArrayPopulator(easyRandom, BenchmarkSupport.newRandomizerProvider(parameters));
+        collectionPopulator = new CollectionPopulator(easyRandom, lazyCollections, compactCollections);
+        mapPopulator = new MapPopulator(easyRandom, parameters.getObjectFactory(), lazyCollections, compactCollections);
+        stringList = CollectionHeavyBean.class.getDeclaredField("strings");
+        beanList = CollectionHeavyBean.class.getDeclaredField("beans");
+        stringMap = MapHeavyBean.class.getDeclaredField("stringMap");
+        beanMap = MapHeavyBean.class.getDeclaredField("beans");
+    }
+
+    @Benchmark
+    public Object objectArray() {
+        return arrayPopulator.getRandomArray(String[].class, new RandomizationContext(CollectionHeavyBean.class, parameters));
+    }
+
+    @Benchmark
+    public Object primitiveArray() {
+        return arrayPopulator.getRandomArray(int[].class, new RandomizationContext(CollectionHeavyBean.class, parameters));
+    }
+
+    @Benchmark
+    public Object collectionOfStrings() {
+        return collectionPopulator.getRandomCollection(stringList, new RandomizationContext(CollectionHeavyBean.class, parameters));
+    }
+
+    @Benchmark
+    public Object collectionOfBeans() {
+        return collectionPopulator.getRandomCollection(beanList, new RandomizationContext(CollectionHeavyBean.class, parameters));
+    }
+
+    @Benchmark
+    public Object mapOfStrings() {
+        return mapPopulator.getRandomMap(stringMap, new RandomizationContext(MapHeavyBean.class, parameters));
+    }
+
+    @Benchmark
+    public Object mapOfBeans() {
+        return mapPopulator.getRandomMap(beanMap, new RandomizationContext(MapHeavyBean.class, parameters));
+    }
+
+}
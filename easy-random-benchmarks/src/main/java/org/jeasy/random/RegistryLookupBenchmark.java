@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.benchmarks.beans.FakerBean;
+import org.jeasy.random.benchmarks.beans.FlatBean;
+import org.jeasy.random.benchmarks.beans.ValidatedBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures randomizer lookups through the registries chain, the way {@link EasyRandom} performs them for each field.
+ * Lives in the {@code org.jeasy.random} package to reach the package-private {@link RegistriesRandomizerProvider}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryLookupBenchmark {
+
+    private RegistriesRandomizerProvider randomizerProvider;
+
+    private RandomizationContext context;
+
+    private Field plainField;
+
+    private Field validatedField;
+
+    private Field annotatedField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(42L);
+        randomizerProvider = BenchmarkSupport.newRandomizerProvider(parameters);
+        context = new RandomizationContext(FlatBean.class, parameters);
+        plainField = FlatBean.class.getDeclaredField("name");
+        validatedField = ValidatedBean.class.getDeclaredField("email");
+        annotatedField = FakerBean.class.getDeclaredField("firstName");
+    }
+
+    @Benchmark
+    public Object byType() {
+        return randomizerProvider.getRandomizerByType(String.class, context);
+    }
+
+    @Benchmark
+    public Object byTypeMiss() {
+        return randomizerProvider.getRandomizerByType(FlatBean.class, context);
+    }
+
+    @Benchmark
+    public Object byField() {
+        return randomizerProvider.getRandomizerByField(plainField, context);
+    }
+
+    @Benchmark
+    public Object byValidatedField() {
+        return randomizerProvider.getRandomizerByField(validatedField, context);
+    }
+
+    @Benchmark
+    public Object byAnnotatedField() {
+        return randomizerProvider.getRandomizerByField(annotatedField, context);
+    }
+
+}
@@ -0,0 +1,59 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.benchmarks.beans.CollectionHeavyBean;
+import org.jeasy.random.benchmarks.beans.DeepBean;
+import org.jeasy.random.benchmarks.beans.EnumHeavyBean;
+import org.jeasy.random.benchmarks.beans.FakerBean;
+import org.jeasy.random.benchmarks.beans.FlatBean;
+import org.jeasy.random.benchmarks.beans.MapHeavyBean;
+import org.jeasy.random.benchmarks.beans.ValidatedBean;
+import org.jeasy.random.benchmarks.beans.WideBean;
+
+/**
+ * The shared corpus of benchmark beans, addressable by name from JMH {@code @Param} values.
+ */
+public enum BenchmarkBeans {
+
+    FLAT(FlatBean.class),
+    WIDE(WideBean.class),
+    DEEP(DeepBean.class),
+    COLLECTIONS(CollectionHeavyBean.class),
+    MAPS(MapHeavyBean.class),
+    ENUMS(EnumHeavyBean.class),
+    VALIDATED(ValidatedBean.class),
+    FAKER(FakerBean.class);
+
+    private final Class<?> type;
+
+    BenchmarkBeans(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+}
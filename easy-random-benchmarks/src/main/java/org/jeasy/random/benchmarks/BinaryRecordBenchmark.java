@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.BinaryRecordGenerator;
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.benchmarks.beans.TickBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Measures the throughput of binary records written by {@link BinaryRecordGenerator}, in GB/s: each invocation
+ * writes {@value #SIZE} bytes and counts one operation per byte, so the score in operations per nanosecond is the
+ * number of gigabytes written per second.
+ * <p>
+ * Records of {@link TickBean} are written to a heap buffer ({@code heap}), a direct buffer ({@code direct}), a buffer
+ * mapped once on a temporary file ({@code mapped}) and to a file mapped on every invocation ({@code file}), which
+ * includes creating, truncating and mapping the file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryRecordBenchmark {
+
+    // 16 MB, a whole number of records
+    private static final int SIZE = 1 << 24;
+
+    @Param({"heap", "direct", "mapped", "file"})
+    private String target;
+
+    private BinaryRecordGenerator<TickBean> generator;
+
+    private ByteBuffer buffer;
+
+    private Path file;
+
+    private long records;
+
+    @Setup
+    public void setUp() throws IOException {
+        generator = new EasyRandom(new EasyRandomParameters().seed(42L)).binaryRecords(TickBean.class);
+        records = SIZE / generator.getRecordSize();
+        if ("heap".equals(target)) {
+            buffer = ByteBuffer.allocate(SIZE);
+        } else if ("direct".equals(target)) {
+            buffer = ByteBuffer.allocateDirect(SIZE);
+        } else {
+            file = Files.createTempFile("easy-random-records", ".bin");
+            if ("mapped".equals(target)) {
+                try (FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+                }
+            }
+        }
+        if (buffer != null) {
+            buffer.order(ByteOrder.nativeOrder());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long write() throws IOException {
+        if (buffer == null) {
+            return generator.write(file, records);
+        }
+        buffer.clear();
+        return generator.write(buffer);
+    }
+
+}
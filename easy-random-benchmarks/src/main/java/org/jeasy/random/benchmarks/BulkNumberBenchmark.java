@@ -0,0 +1,140 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.BulkNumberGenerators;
+import org.jeasy.random.api.BulkNumberGenerator;
+import org.jeasy.random.randomizers.number.DoubleRandomizer;
+import org.jeasy.random.randomizers.number.FloatRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.number.LongRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of numbers generated per primitive type for arrays, in numbers per microsecond:
+ * element by element with the default randomizers ({@code randomizer}), in bulk with the scalar generator
+ * ({@code scalar}) and in bulk with the default generator ({@code default}), which is the SIMD generator of
+ * the {@code easy-random-vector} module when the benchmarks are built and run on JDK 17+ with
+ * {@code --add-modules jdk.incubator.vector}, and the scalar generator otherwise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkNumberBenchmark {
+
+    private static final long SEED = 42L;
+
+    private static final int SIZE = 4096;
+
+    @Param({"randomizer", "scalar", "default"})
+    private String generator;
+
+    private BulkNumberGenerator bulkNumberGenerator;
+
+    private IntegerRandomizer integerRandomizer;
+    private LongRandomizer longRandomizer;
+    private FloatRandomizer floatRandomizer;
+    private DoubleRandomizer doubleRandomizer;
+
+    private final int[] ints = new int[SIZE];
+    private final long[] longs = new long[SIZE];
+    private final float[] floats = new float[SIZE];
+    private final double[] doubles = new double[SIZE];
+
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        bulkNumberGenerator = "scalar".equals(generator) ? BulkNumberGenerators.scalar() : BulkNumberGenerators.getDefault();
+        integerRandomizer = new IntegerRandomizer(SEED);
+        longRandomizer = new LongRandomizer(SEED);
+        floatRandomizer = new FloatRandomizer(SEED);
+        doubleRandomizer = new DoubleRandomizer(SEED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] ints() {
+        if ("randomizer".equals(generator)) {
+            int[] index = {0};
+            integerRandomizer.fill(SIZE, value -> ints[index[0]++] = value);
+        } else {
+            bulkNumberGenerator.fill(seed++, ints, 0, SIZE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] longs() {
+        if ("randomizer".equals(generator)) {
+            int[] index = {0};
+            longRandomizer.fill(SIZE, value -> longs[index[0]++] = value);
+        } else {
+            bulkNumberGenerator.fill(seed++, longs, 0, SIZE, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] floats() {
+        if ("randomizer".equals(generator)) {
+            int[] index = {0};
+            floatRandomizer.fill(SIZE, value -> floats[index[0]++] = value);
+        } else {
+            bulkNumberGenerator.fill(seed++, floats, 0, SIZE, 0f, 1f);
+        }
+        return floats;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] doubles() {
+        if ("randomizer".equals(generator)) {
+            int[] index = {0};
+            doubleRandomizer.fill(SIZE, value -> doubles[index[0]++] = value);
+        } else {
+            bulkNumberGenerator.fill(seed++, doubles, 0, SIZE, 0d, 1d);
+        }
+        return doubles;
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.FirstNameRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost paid by short-lived JVMs: every measurement runs exactly once in a freshly forked JVM, so
+ * results include class loading, static initialization and interpretation before the JIT kicks in.
+ * <p>
+ * The end-to-end benchmarks ({@link #construction()}, {@link #firstObject(Bean)}, {@link #firstThousandObjects(Bean, Blackhole)})
+ * are complemented by phase benchmarks, each isolating one startup step. Phases are measured in separate JVMs and
+ * share common costs (like loading core classes), so they should be compared against their own baseline rather
+ * than summed. The registry parameter breaks the registry initialization down by module (core, bean-validation,
+ * randomizers). The bean parameter only varies the generated type: every {@link EasyRandom} discovers and initializes
+ * all the registries found on the classpath, so the end-to-end results of {@code FLAT} include the bean-validation
+ * and randomizers registries as well.
+ * <p>
+ * Use more forks for stable numbers, for example: {@code java -jar benchmarks.jar ColdStart -f 30}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    private static final int FIRST_OBJECTS = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Bean {
+
+        /*
+         * FLAT only needs the core module, VALIDATED the bean-validation module and FAKER the randomizers module,
+         * all the modules being loaded anyway.
+         */
+        @Param({"FLAT", "VALIDATED", "FAKER"})
+        private BenchmarkBeans bean;
+
+        private Class<?> type;
+
+        @Setup
+        public void setUp() {
+            type = bean.getType();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Registry {
+
+        @Param({
+                "org.jeasy.random.randomizers.registry.InternalRandomizerRegistry",
+                "org.jeasy.random.randomizers.registry.TimeRandomizerRegistry",
+                "org.jeasy.random.randomizers.registry.AnnotationRandomizerRegistry",
+                "org.jeasy.random.validation.BeanValidationRandomizerRegistry"
+        })
+        private String registryClassName;
+    }
+
+    /*
+     * End-to-end
+     */
+
+    @Benchmark
+    public EasyRandom construction() {
+        return new EasyRandom();
+    }
+
+    @Benchmark
+    public Object firstObject(Bean bean) {
+        return new EasyRandom().nextObject(bean.type);
+    }
+
+    @Benchmark
+    public void firstThousandObjects(Bean bean, Blackhole blackhole) {
+        EasyRandom easyRandom = new EasyRandom();
+        for (int i = 0; i < FIRST_OBJECTS; i++) {
+            blackhole.consume(easyRandom.nextObject(bean.type));
+        }
+    }
+
+    /*
+     * Phases
+     */
+
+    @Benchmark
+    public void registryDiscovery(Blackhole blackhole) {
+        ServiceLoader.load(RandomizerRegistry.class).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public RandomizerRegistry registryInitialization(Registry registry) throws ReflectiveOperationException {
+        RandomizerRegistry randomizerRegistry = (RandomizerRegistry) Class.forName(registry.registryClassName).newInstance();
+        randomizerRegistry.init(new EasyRandomParameters());
+        return randomizerRegistry;
+    }
+
+    @Benchmark
+    public Class<?> reflectionUtilsInitialization() throws ClassNotFoundException {
+        // static initialization of ReflectionUtils includes Jackson's ObjectMapper
+        return Class.forName("org.jeasy.random.util.ReflectionUtils");
+    }
+
+    @Benchmark
+    public Class<?> classpathScan() throws ClassNotFoundException {
+        // the ClassGraph scan runs in the static initializer of the facade
+        return Class.forName("org.jeasy.random.util.ClassGraphFacade");
+    }
+
+    @Benchmark
+    public String fakerInitialization() {
+        // loads Faker and its YAML dictionaries
+        return new FirstNameRandomizer().getRandomValue();
+    }
+
+}
@@ -0,0 +1,180 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.benchmarks.beans.Status;
+import org.jeasy.random.randomizers.CityRandomizer;
+import org.jeasy.random.randomizers.EmailRandomizer;
+import org.jeasy.random.randomizers.FirstNameRandomizer;
+import org.jeasy.random.randomizers.FullNameRandomizer;
+import org.jeasy.random.randomizers.RegularExpressionRandomizer;
+import org.jeasy.random.randomizers.SentenceRandomizer;
+import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.misc.UUIDRandomizer;
+import org.jeasy.random.randomizers.number.BigDecimalRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.range.LocalDateRangeRandomizer;
+import org.jeasy.random.randomizers.text.StringRandomizer;
+import org.jeasy.random.randomizers.time.DateRandomizer;
+import org.jeasy.random.randomizers.time.LocalDateTimeRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures individual randomizers in isolation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomizerBenchmark {
+
+    private static final long SEED = 42L;
+
+    private IntegerRandomizer integerRandomizer;
+    private StringRandomizer stringRandomizer;
+    private BigDecimalRandomizer bigDecimalRandomizer;
+    private DateRandomizer dateRandomizer;
+    private LocalDateTimeRandomizer localDateTimeRandomizer;
+    private LocalDateRangeRandomizer localDateRangeRandomizer;
+    private UUIDRandomizer uuidRandomizer;
+    private EnumRandomizer<Status> enumRandomizer;
+    private RegularExpressionRandomizer regularExpressionRandomizer;
+    private FirstNameRandomizer firstNameRandomizer;
+    private CityRandomizer cityRandomizer;
+    private FullNameRandomizer fullNameRandomizer;
+    private EmailRandomizer emailRandomizer;
+    private SentenceRandomizer sentenceRandomizer;
+
+    @Setup
+    public void setUp() {
+        integerRandomizer = new IntegerRandomizer(SEED);
+        stringRandomizer = new StringRandomizer(SEED);
+        bigDecimalRandomizer = new BigDecimalRandomizer(SEED);
+        dateRandomizer = new DateRandomizer(SEED);
+        localDateTimeRandomizer = new LocalDateTimeRandomizer(SEED);
+        localDateRangeRandomizer = new LocalDateRangeRandomizer(LocalDate.of(2000, 1, 1), LocalDate.of(2030, 12, 31), SEED);
+        uuidRandomizer = new UUIDRandomizer(SEED);
+        enumRandomizer = new EnumRandomizer<>(Status.class, SEED);
+        regularExpressionRandomizer = new RegularExpressionRandomizer("[a-z]{4}-[0-9]{3}", SEED);
+        firstNameRandomizer = new FirstNameRandomizer(SEED);
+        cityRandomizer = new CityRandomizer(SEED);
+        fullNameRandomizer = new FullNameRandomizer(SEED);
+        emailRandomizer = new EmailRandomizer(SEED);
+        sentenceRandomizer = new SentenceRandomizer(SEED);
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return integerRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String string() {
+        return stringRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimalRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public Date date() {
+        return dateRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return localDateTimeRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public LocalDate localDateRange() {
+        return localDateRangeRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return uuidRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public Status enumeration() {
+        return enumRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String regularExpression() {
+        return regularExpressionRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String firstName() {
+        return firstNameRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String city() {
+        return cityRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String fullName() {
+        return fullNameRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String email() {
+        return emailRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public String sentence() {
+        return sentenceRandomizer.getRandomValue();
+    }
+
+    @Benchmark
+    public FirstNameRandomizer fakerBasedRandomizerConstruction() {
+        return new FirstNameRandomizer(SEED);
+    }
+
+}
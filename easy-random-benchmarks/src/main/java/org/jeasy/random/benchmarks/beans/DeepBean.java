@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks.beans;
+
+import lombok.Data;
+
+/**
+ * A bean nested ten levels deep, used to measure the cost of recursion.
+ */
+@Data
+public class DeepBean {
+
+    private String name;
+    private int value;
+    private Level1 next;
+
+    @Data
+    public static class Level1 {
+        private String name;
+        private int value;
+        private Level2 next;
+    }
+
+    @Data
+    public static class Level2 {
+        private String name;
+        private int value;
+        private Level3 next;
+    }
+
+    @Data
+    public static class Level3 {
+        private String name;
+        private int value;
+        private Level4 next;
+    }
+
+    @Data
+    public static class Level4 {
+        private String name;
+        private int value;
+        private Level5 next;
+    }
+
+    @Data
+    public static class Level5 {
+        private String name;
+        private int value;
+        private Level6 next;
+    }
+
+    @Data
+    public static class Level6 {
+        private String name;
+        private int value;
+        private Level7 next;
+    }
+
+    @Data
+    public static class Level7 {
+        private String name;
+        private int value;
+        private Level8 next;
+    }
+
+    @Data
+    public static class Level8 {
+        private String name;
+        private int value;
+        private Level9 next;
+    }
+
+    @Data
+    public static class Level9 {
+        private String name;
+        private int value;
+    }
+
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks.beans;
+
+import lombok.Data;
+import org.jeasy.random.annotation.Randomizer;
+import org.jeasy.random.randomizers.CityRandomizer;
+import org.jeasy.random.randomizers.CompanyRandomizer;
+import org.jeasy.random.randomizers.CountryRandomizer;
+import org.jeasy.random.randomizers.EmailRandomizer;
+import org.jeasy.random.randomizers.FirstNameRandomizer;
+import org.jeasy.random.randomizers.LastNameRandomizer;
+import org.jeasy.random.randomizers.PhoneNumberRandomizer;
+import org.jeasy.random.randomizers.SentenceRandomizer;
+import org.jeasy.random.randomizers.StreetRandomizer;
+import org.jeasy.random.randomizers.ZipCodeRandomizer;
+
+/**
+ * A bean whose fields are all populated with Faker based randomizers.
+ */
+@Data
+public class FakerBean {
+
+    @Randomizer(FirstNameRandomizer.class)
+    private String firstName;
+
+    @Randomizer(LastNameRandomizer.class)
+    private String lastName;
+
+    @Randomizer(EmailRandomizer.class)
+    private String email;
+
+    @Randomizer(PhoneNumberRandomizer.class)
+    private String phoneNumber;
+
+    @Randomizer(CompanyRandomizer.class)
+    private String company;
+
+    @Randomizer(StreetRandomizer.class)
+    private String street;
+
+    @Randomizer(CityRandomizer.class)
+    private String city;
+
+    @Randomizer(ZipCodeRandomizer.class)
+    private String zipCode;
+
+    @Randomizer(CountryRandomizer.class)
+    private String country;
+
+    @Randomizer(SentenceRandomizer.class)
+    private String bio;
+
+}
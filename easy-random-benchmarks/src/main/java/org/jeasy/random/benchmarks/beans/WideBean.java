@@ -0,0 +1,238 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks.beans;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A bean with two hundred fields, used to measure per-field overhead.
+ */
+@Data
+public class WideBean {
+
+    private String field000;
+    private int field001;
+    private long field002;
+    private double field003;
+    private boolean field004;
+    private Integer field005;
+    private Long field006;
+    private BigDecimal field007;
+    private LocalDateTime field008;
+    private Status field009;
+    private String field010;
+    private int field011;
+    private long field012;
+    private double field013;
+    private boolean field014;
+    private Integer field015;
+    private Long field016;
+    private BigDecimal field017;
+    private LocalDateTime field018;
+    private Status field019;
+    private String field020;
+    private int field021;
+    private long field022;
+    private double field023;
+    private boolean field024;
+    private Integer field025;
+    private Long field026;
+    private BigDecimal field027;
+    private LocalDateTime field028;
+    private Status field029;
+    private String field030;
+    private int field031;
+    private long field032;
+    private double field033;
+    private boolean field034;
+    private Integer field035;
+    private Long field036;
+    private BigDecimal field037;
+    private LocalDateTime field038;
+    private Status field039;
+    private String field040;
+    private int field041;
+    private long field042;
+    private double field043;
+    private boolean field044;
+    private Integer field045;
+    private Long field046;
+    private BigDecimal field047;
+    private LocalDateTime field048;
+    private Status field049;
+    private String field050;
+    private int field051;
+    private long field052;
+    private double field053;
+    private boolean field054;
+    private Integer field055;
+    private Long field056;
+    private BigDecimal field057;
+    private LocalDateTime field058;
+    private Status field059;
+    private String field060;
+    private int field061;
+    private long field062;
+    private double field063;
+    private boolean field064;
+    private Integer field065;
+    private Long field066;
+    private BigDecimal field067;
+    private LocalDateTime field068;
+    private Status field069;
+    private String field070;
+    private int field071;
+    private long field072;
+    private double field073;
+    private boolean field074;
+    private Integer field075;
+    private Long field076;
+    private BigDecimal field077;
+    private LocalDateTime field078;
+    private Status field079;
+    private String field080;
+    private int field081;
+    private long field082;
+    private double field083;
+    private boolean field084;
+    private Integer field085;
+    private Long field086;
+    private BigDecimal field087;
+    private LocalDateTime field088;
+    private Status field089;
+    private String field090;
+    private int field091;
+    private long field092;
+    private double field093;
+    private boolean field094;
+    private Integer field095;
+    private Long field096;
+    private BigDecimal field097;
+    private LocalDateTime field098;
+    private Status field099;
+    private String field100;
+    private int field101;
+    private long field102;
+    private double field103;
+    private boolean field104;
+    private Integer field105;
+    private Long field106;
+    private BigDecimal field107;
+    private LocalDateTime field108;
+    private Status field109;
+    private String field110;
+    private int field111;
+    private long field112;
+    private double field113;
+    private boolean field114;
+    private Integer field115;
+    private Long field116;
+    private BigDecimal field117;
+    private LocalDateTime field118;
+    private Status field119;
+    private String field120;
+    private int field121;
+    private long field122;
+    private double field123;
+    private boolean field124;
+    private Integer field125;
+    private Long field126;
+    private BigDecimal field127;
+    private LocalDateTime field128;
+    private Status field129;
+    private String field130;
+    private int field131;
+    private long field132;
+    private double field133;
+    private boolean field134;
+    private Integer field135;
+    private Long field136;
+    private BigDecimal field137;
+    private LocalDateTime field138;
+    private Status field139;
+    private String field140;
+    private int field141;
+    private long field142;
+    private double field143;
+    private boolean field144;
+    private Integer field145;
+    private Long field146;
+    private BigDecimal field147;
+    private LocalDateTime field148;
+    private Status field149;
+    private String field150;
+    private int field151;
+    private long field152;
+    private double field153;
+    private boolean field154;
+    private Integer field155;
+    private Long field156;
+    private BigDecimal field157;
+    private LocalDateTime field158;
+    private Status field159;
+    private String field160;
+    private int field161;
+    private long field162;
+    private double field163;
+    private boolean field164;
+    private Integer field165;
+    private Long field166;
+    private BigDecimal field167;
+    private LocalDateTime field168;
+    private Status field169;
+    private String field170;
+    private int field171;
+    private long field172;
+    private double field173;
+    private boolean field174;
+    private Integer field175;
+    private Long field176;
+    private BigDecimal field177;
+    private LocalDateTime field178;
+    private Status field179;
+    private String field180;
+    private int field181;
+    private long field182;
+    private double field183;
+    private boolean field184;
+    private Integer field185;
+    private Long field186;
+    private BigDecimal field187;
+    private LocalDateTime field188;
+    private Status field189;
+    private String field190;
+    private int field191;
+    private long field192;
+    private double field193;
+    private boolean field194;
+    private Integer field195;
+    private Long field196;
+    private BigDecimal field197;
+    private LocalDateTime field198;
+    private Status field199;
+
+}
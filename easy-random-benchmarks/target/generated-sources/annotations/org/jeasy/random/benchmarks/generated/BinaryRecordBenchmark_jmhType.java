@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class BinaryRecordBenchmark_jmhType extends BinaryRecordBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class BulkNumberBenchmark_jmhType extends BulkNumberBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class ColdStartBenchmark_Bean_jmhType extends ColdStartBenchmark_Bean_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class ColdStartBenchmark_Registry_jmhType extends ColdStartBenchmark_Registry_jmhType_B3 {
+}
+
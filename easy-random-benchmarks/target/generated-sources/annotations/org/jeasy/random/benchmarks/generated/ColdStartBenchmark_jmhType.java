@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class ColdStartBenchmark_jmhType extends ColdStartBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class NextObjectBenchmark_jmhType extends NextObjectBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class ObjectsBenchmark_jmhType extends ObjectsBenchmark_jmhType_B3 {
+}
+
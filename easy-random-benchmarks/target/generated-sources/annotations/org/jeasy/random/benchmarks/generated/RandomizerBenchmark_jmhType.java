@@ -0,0 +1,4 @@
+package org.jeasy.random.benchmarks.generated;
+public class RandomizerBenchmark_jmhType extends RandomizerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.jeasy.random.generated;
+public class PopulatorBenchmark_jmhType extends PopulatorBenchmark_jmhType_B3 {
+}
+
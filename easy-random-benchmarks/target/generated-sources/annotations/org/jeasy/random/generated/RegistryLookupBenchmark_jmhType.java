@@ -0,0 +1,4 @@
+package org.jeasy.random.generated;
+public class RegistryLookupBenchmark_jmhType extends RegistryLookupBenchmark_jmhType_B3 {
+}
+
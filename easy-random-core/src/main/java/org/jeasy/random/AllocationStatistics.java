@@ -0,0 +1,230 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Bytes allocated by the generation, recorded when {@link EasyRandomParameters#allocationTracking(boolean)}
+ * is activated. Allocations are read from the allocation counter of the generating thread, so they include
+ * every allocation made while generating (randomizers, collections, reflection, etc), not only the
+ * retained objects.
+ *
+ * <p>Allocations are recorded per root type (the type passed to {@link EasyRandom#nextObject(Class)}),
+ * per generated type and per field. The bytes of a type or a field include the allocations of the nested
+ * objects (the whole subtree), while the self bytes of a type exclude the nested beans. For recursive
+ * structures, the subtree is accounted once, in the outermost object of the type or the outermost
+ * population of the field.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class AllocationStatistics {
+
+    private static final int COUNT = 0;
+    private static final int BYTES = 1;
+    private static final int SELF_BYTES = 2;
+
+    private final Map<Class<?>, long[]> roots = new HashMap<>();
+    private final Map<Class<?>, long[]> types = new HashMap<>();
+    private final Map<Field, long[]> fields = new HashMap<>();
+
+    AllocationStatistics() {
+    }
+
+    /**
+     * @return the root types of the generations
+     */
+    public Set<Class<?>> getRootTypes() {
+        return Collections.unmodifiableSet(roots.keySet());
+    }
+
+    /**
+     * @return the number of recorded generations
+     */
+    public long getGenerationCount() {
+        return roots.values().stream().mapToLong(counters -> counters[COUNT]).sum();
+    }
+
+    /**
+     * @return the bytes allocated by all the recorded generations
+     */
+    public long getTotalBytes() {
+        return roots.values().stream().mapToLong(counters -> counters[BYTES]).sum();
+    }
+
+    /**
+     * @param rootType of the generations
+     * @return the number of generations of the given root type
+     */
+    public long getGenerationCount(final Class<?> rootType) {
+        return get(roots, rootType, COUNT);
+    }
+
+    /**
+     * @param rootType of the generations
+     * @return the bytes allocated by the generations of the given root type
+     */
+    public long getTotalBytes(final Class<?> rootType) {
+        return get(roots, rootType, BYTES);
+    }
+
+    /**
+     * @return the generated types (root and nested)
+     */
+    public Set<Class<?>> getTypes() {
+        return Collections.unmodifiableSet(types.keySet());
+    }
+
+    /**
+     * @param type of the objects
+     * @return the number of objects of the given type generated
+     */
+    public long getObjectCount(final Class<?> type) {
+        return get(types, type, COUNT);
+    }
+
+    /**
+     * @param type of the objects
+     * @return the bytes allocated while generating objects of the given type, nested objects included
+     */
+    public long getAllocatedBytes(final Class<?> type) {
+        return get(types, type, BYTES);
+    }
+
+    /**
+     * @param type of the objects
+     * @return the bytes allocated while generating objects of the given type, nested beans excluded
+     */
+    public long getSelfAllocatedBytes(final Class<?> type) {
+        return get(types, type, SELF_BYTES);
+    }
+
+    /**
+     * @return the populated fields
+     */
+    public Set<Field> getFields() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * @param field populated field
+     * @return the number of times the given field has been populated
+     */
+    public long getPopulationCount(final Field field) {
+        return get(fields, field, COUNT);
+    }
+
+    /**
+     * @param field populated field
+     * @return the bytes allocated while populating the given field, nested objects included
+     */
+    public long getAllocatedBytes(final Field field) {
+        return get(fields, field, BYTES);
+    }
+
+    /**
+     * @param limit maximum number of fields to return
+     * @return the fields whose population allocated the most bytes, in decreasing order
+     */
+    public List<Field> getTopFields(final int limit) {
+        return fields.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Field, long[]> entry) -> entry.getValue()[BYTES]).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(toList());
+    }
+
+    void recordGeneration(final Class<?> rootType, final long bytes) {
+        long[] counters = roots.computeIfAbsent(rootType, type -> new long[2]);
+        counters[COUNT]++;
+        counters[BYTES] += bytes;
+    }
+
+    void recordObject(final Class<?> type, final long bytes, final long selfBytes) {
+        long[] counters = types.computeIfAbsent(type, key -> new long[3]);
+        counters[COUNT]++;
+        counters[BYTES] += bytes;
+        counters[SELF_BYTES] += selfBytes;
+    }
+
+    void recordField(final Field field, final long bytes) {
+        long[] counters = fields.computeIfAbsent(field, key -> new long[2]);
+        counters[COUNT]++;
+        counters[BYTES] += bytes;
+    }
+
+    void add(final AllocationStatistics statistics) {
+        merge(roots, statistics.roots);
+        merge(types, statistics.types);
+        merge(fields, statistics.fields);
+    }
+
+    AllocationStatistics copy() {
+        AllocationStatistics copy = new AllocationStatistics();
+        copy.add(this);
+        return copy;
+    }
+
+    private static <K> void merge(final Map<K, long[]> target, final Map<K, long[]> source) {
+        for (Map.Entry<K, long[]> entry : source.entrySet()) {
+            long[] values = entry.getValue();
+            long[] counters = target.computeIfAbsent(entry.getKey(), key -> new long[values.length]);
+            for (int i = 0; i < values.length; i++) {
+                counters[i] += values[i];
+            }
+        }
+    }
+
+    private static <K> long get(final Map<K, long[]> map, final K key, final int index) {
+        long[] counters = map.get(key);
+        return counters == null ? 0 : counters[index];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(format("AllocationStatistics(generations=%d, bytes=%d)%n",
+                getGenerationCount(), getTotalBytes()));
+        List<Class<?>> sortedTypes = new ArrayList<>(types.keySet());
+        sortedTypes.sort(Comparator.comparingLong((Class<?> type) -> getAllocatedBytes(type)).reversed());
+        for (Class<?> type : sortedTypes) {
+            summary.append(format("  %s: objects=%d, bytes=%d, selfBytes=%d%n", type.getName(),
+                    getObjectCount(type), getAllocatedBytes(type), getSelfAllocatedBytes(type)));
+        }
+        for (Field field : getTopFields(fields.size())) {
+            summary.append(format("  %s.%s: populations=%d, bytes=%d%n", field.getDeclaringClass().getName(),
+                    field.getName(), getPopulationCount(field), getAllocatedBytes(field)));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+/**
+ * Records the allocations of a single generation in an {@link AllocationStatistics} (see {@link RandomizationContext}).
+ *
+ * <p>Object and field frames are kept on primitive stacks, and the bytes allocated by the bookkeeping itself
+ * (stack growth, new statistics entries) are measured and subtracted from the enclosing frames.</p>
+ */
+class AllocationTracker {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final AllocationStatistics statistics = new AllocationStatistics();
+
+    private final Class<?> rootType;
+    private long rootStart;
+
+    // bytes allocated by the tracker so far, excluded from the measurements
+    private long overhead;
+
+    private Class<?>[] objectTypes = new Class<?>[INITIAL_DEPTH];
+    private long[] objectStarts = new long[INITIAL_DEPTH];
+    private long[] nestedObjectBytes = new long[INITIAL_DEPTH];
+    private int[] fieldDepths = new int[INITIAL_DEPTH];
+    private int objectDepth;
+
+    private Field[] fields = new Field[INITIAL_DEPTH];
+    private long[] fieldStarts = new long[INITIAL_DEPTH];
+    private int fieldDepth;
+
+    AllocationTracker(final Class<?> rootType) {
+        this.rootType = rootType;
+    }
+
+    AllocationStatistics getStatistics() {
+        return statistics;
+    }
+
+    void generationStarted() {
+        rootStart = allocatedBytes();
+    }
+
+    void generationCompleted() {
+        long end = ThreadAllocations.getAllocatedBytes();
+        statistics.recordGeneration(rootType, end - overhead - rootStart);
+        overhead += ThreadAllocations.getAllocatedBytes() - end;
+    }
+
+    void objectStarted(final Class<?> type) {
+        long start = ThreadAllocations.getAllocatedBytes();
+        if (objectDepth == objectTypes.length) {
+            int length = objectDepth * 2;
+            objectTypes = Arrays.copyOf(objectTypes, length);
+            objectStarts = Arrays.copyOf(objectStarts, length);
+            nestedObjectBytes = Arrays.copyOf(nestedObjectBytes, length);
+            fieldDepths = Arrays.copyOf(fieldDepths, length);
+        }
+        objectTypes[objectDepth] = type;
+        nestedObjectBytes[objectDepth] = 0;
+        fieldDepths[objectDepth] = fieldDepth;
+        overhead += ThreadAllocations.getAllocatedBytes() - start;
+        objectStarts[objectDepth++] = allocatedBytes();
+    }
+
+    void objectCompleted(final Class<?> type) {
+        long end = ThreadAllocations.getAllocatedBytes();
+        if (objectDepth > 0 && objectTypes[objectDepth - 1] == type) {
+            int frame = --objectDepth;
+            objectTypes[frame] = null;
+            long bytes = end - overhead - objectStarts[frame];
+            statistics.recordObject(type, isNested(objectTypes, frame, type) ? 0 : bytes, bytes - nestedObjectBytes[frame]);
+            if (frame > 0) {
+                nestedObjectBytes[frame - 1] += bytes;
+            }
+        }
+        overhead += ThreadAllocations.getAllocatedBytes() - end;
+    }
+
+    void objectFailed(final Class<?> type) {
+        // discard the frame of the failed object and the frames of its fields
+        while (objectDepth > 0) {
+            int frame = --objectDepth;
+            Class<?> frameType = objectTypes[frame];
+            objectTypes[frame] = null;
+            fieldDepth = Math.min(fieldDepth, fieldDepths[frame]);
+            if (frameType == type) {
+                break;
+            }
+        }
+        Arrays.fill(fields, fieldDepth, fields.length, null);
+    }
+
+    void fieldStarted(final Field field) {
+        long start = ThreadAllocations.getAllocatedBytes();
+        if (fieldDepth == fields.length) {
+            fields = Arrays.copyOf(fields, fieldDepth * 2);
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldDepth * 2);
+        }
+        fields[fieldDepth] = field;
+        overhead += ThreadAllocations.getAllocatedBytes() - start;
+        fieldStarts[fieldDepth++] = allocatedBytes();
+    }
+
+    void fieldCompleted(final Field field) {
+        long end = ThreadAllocations.getAllocatedBytes();
+        if (fieldDepth > 0 && fields[fieldDepth - 1].equals(field)) {
+            int frame = --fieldDepth;
+            fields[frame] = null;
+            statistics.recordField(field, isNested(fields, frame, field) ? 0 : end - overhead - fieldStarts[frame]);
+        }
+        overhead += ThreadAllocations.getAllocatedBytes() - end;
+    }
+
+    /*
+     * Recursive frames are already accounted in the outermost frame of the same type or field.
+     */
+    private static boolean isNested(final Object[] frames, final int depth, final Object frame) {
+        for (int i = 0; i < depth; i++) {
+            if (frames[i].equals(frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long allocatedBytes() {
+        return ThreadAllocations.getAllocatedBytes() - overhead;
+    }
+}
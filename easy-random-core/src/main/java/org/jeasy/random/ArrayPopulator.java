@@ -53,24 +53,48 @@ class ArrayPopulator {
         if (componentType.isPrimitive()) {
             return getRandomPrimitiveArray(componentType, context);
         }
-        int randomSize = easyRandom.getRandomCollectionSize();
-        T[] itemsList = (T[]) Array.newInstance(componentType, randomSize);
-        for (int i = 0; i < randomSize; i++) {
-            itemsList[i] = (T) easyRandom.doPopulateBean(fieldType.getComponentType(), context);
+        T[] itemsList = (T[]) newRandomArray(componentType, context);
+        if (!setRandomValues(itemsList, componentType, context)) {
+            for (int i = 0; i < itemsList.length; i++) {
+                itemsList[i] = (T) easyRandom.doPopulateBean(fieldType.getComponentType(), context);
+            }
         }
         return itemsList;
     }
 
+    /*
+     * An array of random length of the given non primitive component type, with null elements.
+     */
+    Object[] newRandomArray(final Class<?> componentType, final RandomizationContext context) {
+        int randomSize = context.getGenerationBudget().arrayLength(easyRandom.getRandomCollectionSize(context), componentType);
+        return (Object[]) Array.newInstance(componentType, randomSize);
+    }
+
     Object getRandomPrimitiveArray(final Class<?> primitiveType, RandomizationContext context) {
-        final int randomSize = abs((byte) easyRandom.nextInt());
+        final int randomSize = context.getGenerationBudget().arrayLength(abs((byte) easyRandom.nextInt()), primitiveType);
         final Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(primitiveType, context);
         if (randomizer instanceof ContextAwareRandomizer) {
             ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
         }
         final Object result = Array.newInstance(primitiveType, randomSize);
-        for (int index = 0; index < randomSize; index++) {
-            Array.set(result, index, randomizer.getRandomValue());
+        if (easyRandom.fillNumbers(result, null, primitiveType, randomizer)) {
+            return result;
         }
+        int[] index = {0};
+        randomizer.fill(randomSize, value -> Array.set(result, index[0]++, value));
         return result;
     }
+
+    /*
+     * Set the elements in bulk if they are generated by a randomizer (see EasyRandom#getBulkRandomizer).
+     */
+    boolean setRandomValues(final Object[] array, final Class<?> componentType, final RandomizationContext context) {
+        Randomizer<?> randomizer = easyRandom.getBulkRandomizer(componentType, context);
+        if (randomizer == null) {
+            return false;
+        }
+        int[] index = {0};
+        easyRandom.fillRandomValues(randomizer, componentType, array.length, value -> array[index[0]++] = value);
+        return true;
+    }
 }
@@ -0,0 +1,296 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.nio.file.StandardOpenOption.*;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Generator of random binary records of a bean layout, created with {@link EasyRandom#binaryRecords(Class, String...)}.
+ *
+ * <p>A record is the concatenation of the values of the primitive fields of the layout, in order, with fixed-width
+ * encodings: 1 byte for {@code boolean} (0 or 1) and {@code byte}, 2 bytes for {@code short} and {@code char},
+ * 4 bytes for {@code int} and {@code float} and 8 bytes for {@code long} and {@code double}, in the byte order of
+ * the target buffer. Records are written straight into (direct or mapped) {@link ByteBuffer}s, without allocating
+ * any object per record.</p>
+ *
+ * <p>Each field draws its values from its own generator, seeded from the seed and the field like
+ * {@link EasyRandom#columns(Class, int)} does, with the randomizer selected for it by the registries of the
+ * parameters. Fields generated by the built-in randomizer of their type are written straight from the seeded
+ * generator, other randomizers (custom, user or bean validation ones) are used at the cost of boxing each value.
+ * Excluded fields are not written. Instances of this class are not thread safe.</p>
+ *
+ * @param <T> the type of the bean layout
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class BinaryRecordGenerator<T> {
+
+    private static final long MAX_MAPPED_REGION_SIZE = 1L << 30;
+
+    private final Class<T> type;
+
+    private final List<String> fieldNames;
+
+    private final FieldWriter[] writers;
+
+    private final int recordSize;
+
+    /*
+     * Fields of an explicit layout can not be excluded, while excluded fields are left out of the default layout.
+     */
+    BinaryRecordGenerator(final Class<T> type, final List<Field> fields, final boolean explicitLayout,
+                          final EasyRandomParameters parameters) {
+        this.type = type;
+        this.fieldNames = new ArrayList<>();
+        List<FieldWriter> fieldWriters = new ArrayList<>();
+        int size = 0;
+        for (Field field : fields) {
+            FieldWriter writer = getFieldWriter(type, field, parameters);
+            if (writer == null) {
+                if (explicitLayout) {
+                    throw new IllegalArgumentException(String.format("Field '%s' of %s is excluded and can not be written in a binary record",
+                            field.getName(), type.getName()));
+                }
+                continue;
+            }
+            fieldNames.add(field.getName());
+            fieldWriters.add(writer);
+            size += sizeOf(field.getType());
+        }
+        this.writers = fieldWriters.toArray(new FieldWriter[0]);
+        this.recordSize = size;
+    }
+
+    /**
+     * Get the type of the bean layout.
+     *
+     * @return the type of the bean layout
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Get the names of the fields of a record, in order.
+     *
+     * @return the names of the fields of a record
+     */
+    public List<String> getFieldNames() {
+        return Collections.unmodifiableList(fieldNames);
+    }
+
+    /**
+     * Get the size of a record in bytes.
+     *
+     * @return the size of a record in bytes
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Fill the remaining space of the buffer with as many records as possible.
+     *
+     * @param buffer the buffer to write records to
+     * @return the number of written records
+     */
+    public int write(final ByteBuffer buffer) {
+        int records = buffer.remaining() / recordSize;
+        write(buffer, records);
+        return records;
+    }
+
+    /**
+     * Write records to the buffer, starting at its position.
+     *
+     * @param buffer the buffer to write records to
+     * @param records the number of records to write
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough remaining space
+     */
+    public void write(final ByteBuffer buffer, final int records) {
+        if ((long) records * recordSize > buffer.remaining()) {
+            throw new java.nio.BufferOverflowException();
+        }
+        for (int record = 0; record < records; record++) {
+            for (FieldWriter writer : writers) {
+                writer.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Write records to a file through memory mapped buffers. The file is created or truncated.
+     *
+     * @param file the file to write records to
+     * @param records the number of records to write
+     * @return the size of the file
+     * @throws IOException if the file can not be written
+     */
+    public long write(final Path file, final long records) throws IOException {
+        if (records < 0) {
+            throw new IllegalArgumentException("The number of records must be positive");
+        }
+        long recordsPerRegion = Math.max(1, MAX_MAPPED_REGION_SIZE / recordSize);
+        try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            long position = 0;
+            for (long remaining = records; remaining > 0; ) {
+                int regionRecords = (int) Math.min(remaining, recordsPerRegion);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) regionRecords * recordSize);
+                write(buffer, regionRecords);
+                position += buffer.capacity();
+                remaining -= regionRecords;
+            }
+            return position;
+        }
+    }
+
+    static boolean isSupported(final Class<?> fieldType) {
+        return fieldType.isPrimitive();
+    }
+
+    private static int sizeOf(final Class<?> type) {
+        if (type == boolean.class || type == byte.class) {
+            return Byte.BYTES;
+        }
+        if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+        return Long.BYTES;
+    }
+
+    /*
+     * The writer of the field, or null if the field is excluded. The randomizer of the field is selected like
+     * ColumnPopulator does, by a generator seeded from the seed and the field.
+     */
+    private static FieldWriter getFieldWriter(final Class<?> type, final Field field, final EasyRandomParameters parameters) {
+        Class<?> fieldType = field.getType();
+        String fieldName = field.getDeclaringClass().getName() + "." + field.getName();
+        long seed = SubSeedGenerator.mix(parameters.getSeed() + fieldName.hashCode());
+        EasyRandomParameters fieldParameters = parameters.copy().seed(seed);
+        EasyRandom easyRandom = new EasyRandom(fieldParameters);
+        RandomizationContext context = new RandomizationContext(type, fieldParameters);
+        context.pushStackItem(new RandomizationContextStackItem(null, field));
+
+        Randomizer<?> randomizer = easyRandom.getRandomizer(field, context);
+        if (randomizer instanceof SkipRandomizer) {
+            return null;
+        }
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        // the values of built-in randomizers are drawn straight from the seeded generator, without boxing
+        if (randomizer != null && (fieldType == char.class || !easyRandom.isDefaultRandomizer(field, fieldType))) {
+            return getRandomizerWriter(fieldType, randomizer);
+        }
+        Random random = new Random(seed);
+        if (fieldType == boolean.class) {
+            return buffer -> buffer.put((byte) (random.nextBoolean() ? 1 : 0));
+        }
+        if (fieldType == byte.class) {
+            return buffer -> buffer.put((byte) random.nextInt());
+        }
+        if (fieldType == short.class) {
+            return buffer -> buffer.putShort((short) random.nextInt());
+        }
+        if (fieldType == int.class) {
+            return buffer -> buffer.putInt(random.nextInt());
+        }
+        if (fieldType == float.class) {
+            return buffer -> buffer.putFloat(random.nextFloat());
+        }
+        if (fieldType == long.class) {
+            return buffer -> buffer.putLong(random.nextLong());
+        }
+        return buffer -> buffer.putDouble(random.nextDouble());
+    }
+
+    private static FieldWriter getRandomizerWriter(final Class<?> fieldType, final Randomizer<?> randomizer) {
+        if (fieldType == boolean.class) {
+            return buffer -> buffer.put((byte) ((Boolean) randomizer.getRandomValue() ? 1 : 0));
+        }
+        if (fieldType == byte.class) {
+            return buffer -> buffer.put((Byte) randomizer.getRandomValue());
+        }
+        if (fieldType == short.class) {
+            return buffer -> buffer.putShort((Short) randomizer.getRandomValue());
+        }
+        if (fieldType == char.class) {
+            return buffer -> buffer.putChar((Character) randomizer.getRandomValue());
+        }
+        if (fieldType == int.class) {
+            return buffer -> buffer.putInt((Integer) randomizer.getRandomValue());
+        }
+        if (fieldType == float.class) {
+            return buffer -> buffer.putFloat((Float) randomizer.getRandomValue());
+        }
+        if (fieldType == long.class) {
+            return buffer -> buffer.putLong((Long) randomizer.getRandomValue());
+        }
+        return buffer -> buffer.putDouble((Double) randomizer.getRandomValue());
+    }
+
+    static List<Field> getLayoutFields(final Class<?> type, final String[] fieldNames, final EasyRandomParameters parameters) {
+        List<Field> fields = new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+        if (fieldNames.length == 0) {
+            RandomizationContext context = new RandomizationContext(type, parameters);
+            fields.removeIf(field -> field.isSynthetic() || !isSupported(field.getType())
+                    || parameters.getExclusionPolicy().shouldBeExcluded(field, context));
+            return fields;
+        }
+        List<Field> layoutFields = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            Field field = fields.stream()
+                    .filter(candidate -> candidate.getName().equals(fieldName))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format("No field named '%s' in %s", fieldName, type.getName())));
+            if (!isSupported(field.getType())) {
+                throw new IllegalArgumentException(String.format("Field '%s' of type %s can not be written in a binary record, only primitive fields can",
+                        fieldName, field.getType().getName()));
+            }
+            layoutFields.add(field);
+        }
+        return layoutFields;
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(ByteBuffer buffer);
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.BulkNumberGenerator;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.number.DoubleRandomizer;
+import org.jeasy.random.randomizers.number.FloatRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.number.LongRandomizer;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Counter-based SplitMix64 generation of primitive numbers in bulk, see {@link BulkNumberGenerator}.
+ *
+ * <p>The raw value at index {@code i} is {@code mix64(seed + (i + 1) * 0x9e3779b97f4a7c15L)}, where {@code mix64}
+ * is the finalizer of the SplitMix64 generator. Since values do not depend on each other, they can be generated
+ * with SIMD instructions: the {@code easy-random-vector} module provides an implementation based on the
+ * {@code jdk.incubator.vector} module of JDK 17+. Without it, or on hardware without SIMD support, the scalar
+ * implementation of this class is used and generates the same values.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class BulkNumberGenerators {
+
+    /**
+     * Increment of the counter of the generator (the golden gamma of SplitMix64).
+     */
+    public static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final BulkNumberGenerator SCALAR = new ScalarBulkNumberGenerator();
+
+    private BulkNumberGenerators() {
+    }
+
+    /**
+     * Get the scalar generator.
+     *
+     * @return the scalar generator
+     */
+    public static BulkNumberGenerator scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Get the first supported generator registered with {@link ServiceLoader}, or the scalar generator if there is none.
+     * Generators that can not be loaded on the current JVM are ignored.
+     *
+     * @return the default generator
+     */
+    public static BulkNumberGenerator getDefault() {
+        return DefaultGenerator.INSTANCE;
+    }
+
+    /**
+     * Get the raw value at the given index.
+     *
+     * @param seed the seed of the generator
+     * @param index the index of the value
+     * @return the raw value, uniformly distributed over all longs
+     */
+    public static long nextLong(final long seed, final int index) {
+        return SubSeedGenerator.mix(seed + (index + 1L) * GAMMA);
+    }
+
+    /**
+     * Get the integer at the given index: the high 32 bits of the raw value are scaled to the range
+     * with a multiplication, {@code min + ((raw >>> 32) * (max - min + 1) >>> 32)}.
+     *
+     * @param seed the seed of the generator
+     * @param index the index of the value
+     * @param min min value (inclusive)
+     * @param max max value (inclusive)
+     * @return the integer at the given index
+     */
+    public static int nextInt(final long seed, final int index, final int min, final int max) {
+        return nextInt(nextLong(seed, index), min, (long) max - min + 1);
+    }
+
+    /**
+     * Get the long at the given index: the raw value is scaled to the range with the high 64 bits of the
+     * unsigned 128 bits product {@code raw * (max - min + 1)}, or is the raw value for the range of all longs.
+     *
+     * @param seed the seed of the generator
+     * @param index the index of the value
+     * @param min min value (inclusive)
+     * @param max max value (inclusive)
+     * @return the long at the given index
+     */
+    public static long nextLong(final long seed, final int index, final long min, final long max) {
+        return nextLong(nextLong(seed, index), min, max - min + 1);
+    }
+
+    /**
+     * Get the float at the given index: the high 23 bits of the raw value are the mantissa of a float in [1, 2),
+     * minus 1 this is a float {@code u} in [0, 1) and the value is {@code min + u * (max - min)}, computed in float
+     * arithmetic.
+     *
+     * @param seed the seed of the generator
+     * @param index the index of the value
+     * @param min min value (inclusive)
+     * @param max max value (exclusive)
+     * @return the float at the given index
+     */
+    public static float nextFloat(final long seed, final int index, final float min, final float max) {
+        return nextFloat(nextLong(seed, index), min, max - min);
+    }
+
+    /**
+     * Get the double at the given index: the high 52 bits of the raw value are the mantissa of a double in [1, 2),
+     * minus 1 this is a double {@code u} in [0, 1) and the value is {@code min + u * (max - min)}.
+     *
+     * @param seed the seed of the generator
+     * @param index the index of the value
+     * @param min min value (inclusive)
+     * @param max max value (exclusive)
+     * @return the double at the given index
+     */
+    public static double nextDouble(final long seed, final int index, final double min, final double max) {
+        return nextDouble(nextLong(seed, index), min, max - min);
+    }
+
+    /*
+     * Fill the array in bulk with a seed drawn from the random generator if the randomizer is the default
+     * randomizer of its element type, in the range of that randomizer. Returns false otherwise.
+     */
+    static boolean fill(final Object array, final Randomizer<?> randomizer, final Random random) {
+        Class<?> randomizerType = randomizer.getClass();
+        if (array instanceof int[] && randomizerType == IntegerRandomizer.class) {
+            int[] values = (int[]) array;
+            getDefault().fill(random.nextLong(), values, 0, values.length, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } else if (array instanceof long[] && randomizerType == LongRandomizer.class) {
+            long[] values = (long[]) array;
+            getDefault().fill(random.nextLong(), values, 0, values.length, Long.MIN_VALUE, Long.MAX_VALUE);
+        } else if (array instanceof float[] && randomizerType == FloatRandomizer.class) {
+            float[] values = (float[]) array;
+            getDefault().fill(random.nextLong(), values, 0, values.length, 0f, 1f);
+        } else if (array instanceof double[] && randomizerType == DoubleRandomizer.class) {
+            double[] values = (double[]) array;
+            getDefault().fill(random.nextLong(), values, 0, values.length, 0d, 1d);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static int nextInt(final long raw, final int min, final long bound) {
+        return (int) (min + ((raw >>> 32) * bound >>> 32));
+    }
+
+    // a bound of 0 stands for 2^64, the range of all longs
+    private static long nextLong(final long raw, final long min, final long bound) {
+        return bound == 0 ? raw : min + multiplyHighUnsigned(raw, bound);
+    }
+
+    // random mantissas of numbers in [1, 2) instead of integer to floating point conversions, which SIMD units lack
+    private static float nextFloat(final long raw, final float min, final float range) {
+        return min + (Float.intBitsToFloat((int) (raw >>> 41) | 0x3f800000) - 1f) * range;
+    }
+
+    private static double nextDouble(final long raw, final double min, final double range) {
+        return min + (Double.longBitsToDouble(raw >>> 12 | 0x3ff0000000000000L) - 1d) * range;
+    }
+
+    // high 64 bits of the unsigned 128 bits product, from 32 bits halves (Math.multiplyHigh is signed and Java 9+)
+    private static long multiplyHighUnsigned(final long x, final long y) {
+        long xLow = x & 0xffffffffL;
+        long xHigh = x >>> 32;
+        long yLow = y & 0xffffffffL;
+        long yHigh = y >>> 32;
+        long lowHigh = xLow * yHigh;
+        long highLow = xHigh * yLow;
+        long carry = ((xLow * yLow) >>> 32) + (lowHigh & 0xffffffffL) + (highLow & 0xffffffffL);
+        return xHigh * yHigh + (lowHigh >>> 32) + (highLow >>> 32) + (carry >>> 32);
+    }
+
+    private static class ScalarBulkNumberGenerator implements BulkNumberGenerator {
+
+        @Override
+        public void fill(final long seed, final int[] values, final int from, final int to, final int min, final int max) {
+            long bound = (long) max - min + 1;
+            for (int i = from; i < to; i++) {
+                values[i] = nextInt(nextLong(seed, i), min, bound);
+            }
+        }
+
+        @Override
+        public void fill(final long seed, final long[] values, final int from, final int to, final long min, final long max) {
+            long bound = max - min + 1;
+            for (int i = from; i < to; i++) {
+                values[i] = nextLong(nextLong(seed, i), min, bound);
+            }
+        }
+
+        @Override
+        public void fill(final long seed, final float[] values, final int from, final int to, final float min, final float max) {
+            float range = max - min;
+            for (int i = from; i < to; i++) {
+                values[i] = nextFloat(nextLong(seed, i), min, range);
+            }
+        }
+
+        @Override
+        public void fill(final long seed, final double[] values, final int from, final int to, final double min, final double max) {
+            double range = max - min;
+            for (int i = from; i < to; i++) {
+                values[i] = nextDouble(nextLong(seed, i), min, range);
+            }
+        }
+    }
+
+    private static class DefaultGenerator {
+
+        private static final BulkNumberGenerator INSTANCE = load();
+
+        private static BulkNumberGenerator load() {
+            Iterator<BulkNumberGenerator> generators = ServiceLoader.load(BulkNumberGenerator.class).iterator();
+            while (hasNext(generators)) {
+                try {
+                    BulkNumberGenerator generator = generators.next();
+                    if (generator.isSupported()) {
+                        return generator;
+                    }
+                } catch (ServiceConfigurationError | LinkageError e) {
+                    // not loadable on this JVM, like the vector generator without the jdk.incubator.vector module
+                }
+            }
+            return SCALAR;
+        }
+
+        private static boolean hasNext(final Iterator<BulkNumberGenerator> generators) {
+            try {
+                return generators.hasNext();
+            } catch (ServiceConfigurationError e) {
+                return false;
+            }
+        }
+    }
+}
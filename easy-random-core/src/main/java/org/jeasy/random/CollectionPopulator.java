@@ -23,6 +23,7 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.api.Randomizer;
 import org.objenesis.ObjenesisStd;
 
 import java.lang.reflect.Field;
@@ -42,36 +43,102 @@ class CollectionPopulator {
 
     private final EasyRandom easyRandom;
 
-    CollectionPopulator(final EasyRandom easyRandom) {
+    private final LazyCollections lazyCollections;
+
+    private final CompactCollections compactCollections;
+
+    CollectionPopulator(final EasyRandom easyRandom, final LazyCollections lazyCollections, final CompactCollections compactCollections) {
         this.easyRandom = easyRandom;
+        this.lazyCollections = lazyCollections;
+        this.compactCollections = compactCollections;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     Collection<?> getRandomCollection(final Field field, final RandomizationContext context) {
-        int randomSize = easyRandom.getRandomCollectionSize();
+        int randomSize = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+        Collection<?> lazyCollection = getLazyCollection(field, randomSize, context);
+        if (lazyCollection != null) {
+            return lazyCollection;
+        }
+        Collection collection = newCollection(field.getType(), randomSize);
+        Class<?> elementType = getElementType(field);
+        if (elementType != null && !addRandomValues(collection, elementType, randomSize, context)) {
+            // stop when the budget runs out, instead of adding the null elements of truncated beans
+            for (int i = 0; i < randomSize && !context.getGenerationBudget().isExhausted(); i++) {
+                Object item = easyRandom.doPopulateBean(elementType, context);
+                collection.add(item);
+            }
+        }
+        return complete(collection, field.getType());
+    }
+
+    /*
+     * The lazy collection of the field, or null if the field is not a lazy collection (see LazyCollections).
+     */
+    Collection<?> getLazyCollection(final Field field, final int size, final RandomizationContext context) {
         Class<?> fieldType = field.getType();
         Type fieldGenericType = field.getGenericType();
-        Collection collection;
+        return lazyCollections.isLazyCollection(fieldType, fieldGenericType)
+                ? lazyCollections.newLazyCollection(fieldType, fieldGenericType, size, context) : null;
+    }
 
-        if (isInterface(fieldType)) {
-            collection = getEmptyImplementationForCollectionInterface(fieldType);
-        } else {
-            collection = createEmptyCollectionForType(fieldType, randomSize);
-        }
+    Collection<?> newCollection(final Class<?> fieldType, final int size) {
+        return isInterface(fieldType) ? getEmptyImplementationForCollectionInterface(fieldType) : createEmptyCollectionForType(fieldType, size);
+    }
 
-        if (isParameterizedType(fieldGenericType)) { // populate only parametrized types, raw types will be empty
-            ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-            Type type = parameterizedType.getActualTypeArguments()[0];
+    /*
+     * The type of the elements to generate, or null if the collection is left empty:
+     * only parameterized types are populated, raw types are left empty.
+     */
+    static Class<?> getElementType(final Field field) {
+        Type fieldGenericType = field.getGenericType();
+        if (isParameterizedType(fieldGenericType)) {
+            Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
             if (isPopulatable(type)) {
-                for (int i = 0; i < randomSize; i++) {
-                    Object item = easyRandom.doPopulateBean((Class<?>) type, context);
-                    collection.add(item);
-                }
+                return (Class<?>) type;
+            }
+        }
+        return null;
+    }
 
+    Collection<?> complete(final Collection<?> collection, final Class<?> fieldType) {
+        return compactCollections.isCompactCollection(fieldType) ? CompactCollections.copyOf(collection) : collection;
+    }
+
+    /*
+     * Clear and refill an existing collection (when recycling). Returns false if the collection is not mutable.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    boolean refillCollection(final Collection collection, final Field field, final RandomizationContext context) {
+        try {
+            collection.clear();
+            Class<?> elementType = getElementType(field);
+            if (elementType != null) {
+                int randomSize = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+                if (!addRandomValues(collection, elementType, randomSize, context)) {
+                    for (int i = 0; i < randomSize && !context.getGenerationBudget().isExhausted(); i++) {
+                        collection.add(easyRandom.doPopulateBean(elementType, context));
+                    }
+                }
             }
+        } catch (UnsupportedOperationException e) {
+            // immutable collections (possibly empty, so clear() did not fail) are replaced
+            return false;
         }
-        return collection;
+        return true;
+    }
 
+    /*
+     * Add the elements in bulk if they are generated by a randomizer (see EasyRandom#getBulkRandomizer).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    boolean addRandomValues(final Collection collection, final Class<?> type, final int size, final RandomizationContext context) {
+        Randomizer<?> randomizer = easyRandom.getBulkRandomizer(type, context);
+        if (randomizer == null) {
+            return false;
+        }
+        easyRandom.fillRandomValues(randomizer, type, size, collection::add);
+        return true;
     }
 
     Collection<?> createEmptyCollectionForType(Class<?> fieldType, int initialSize) {
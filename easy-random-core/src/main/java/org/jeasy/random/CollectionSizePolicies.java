@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.CollectionSizePolicy;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Common {@link CollectionSizePolicy} implementations. All policies draw sizes within
+ * the collection size range of the parameters ({@link EasyRandomParameters#collectionSizeRange(int, int)}).
+ *
+ * <p>With the {@link #uniform()} policy, the number of generated objects grows exponentially with the depth
+ * of nested collections. The {@link #geometricDecay(double)} and {@link #levelCaps(int...)} policies
+ * shrink collections of deeper levels so that the expected size of deeply nested object graphs stays
+ * bounded.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class CollectionSizePolicies {
+
+    /**
+     * Create a policy drawing sizes uniformly within the collection size range, whatever the depth.
+     * This is the default policy.
+     *
+     * @return a uniform collection size policy
+     */
+    public static CollectionSizePolicy uniform() {
+        return (context, random) -> {
+            EasyRandomParameters.Range<Integer> range = context.getParameters().getCollectionSizeRange();
+            return nextSize(random, range.getMin(), range.getMax());
+        };
+    }
+
+    /**
+     * Create a policy scaling both bounds of the collection size range by {@code factor} for each
+     * level of depth: collections of fields at depth {@code d} have a size within
+     * {@code [min * factor^(d-1), max * factor^(d-1)]} (rounded down). For example, with the range
+     * [1, 100] and a factor of 0.5, collections of the root object have 1 to 100 elements, collections
+     * of their elements 0 to 50 elements, and so on. Since the expected number of elements per collection
+     * eventually falls below 1, the expected size of the object graph is bounded whatever its depth.
+     *
+     * @param factor the decay factor, between 0 (exclusive) and 1 (inclusive)
+     * @return a geometric decay collection size policy
+     */
+    public static CollectionSizePolicy geometricDecay(final double factor) {
+        if (factor <= 0 || factor > 1) {
+            throw new IllegalArgumentException(format("factor (%s) must be in ]0, 1]", factor));
+        }
+        return (context, random) -> {
+            EasyRandomParameters.Range<Integer> range = context.getParameters().getCollectionSizeRange();
+            double scale = Math.pow(factor, level(context));
+            return nextSize(random, (int) (range.getMin() * scale), (int) (range.getMax() * scale));
+        };
+    }
+
+    /**
+     * Create a policy capping the collection size range at each level of depth: collections of fields
+     * at depth {@code d} have at most {@code maxSizes[d-1]} elements, the last cap applying to all deeper
+     * levels. For example, {@code levelCaps(10, 3, 1)} generates up to 10 elements at the first level, up
+     * to 3 at the second one and at most 1 at deeper ones, so that the size of the object graph grows
+     * linearly with its depth.
+     *
+     * @param maxSizes the maximum collection sizes of each level
+     * @return a level caps collection size policy
+     */
+    public static CollectionSizePolicy levelCaps(final int... maxSizes) {
+        if (maxSizes.length == 0) {
+            throw new IllegalArgumentException("At least one level cap must be specified");
+        }
+        for (int maxSize : maxSizes) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Level caps must be >= 0");
+            }
+        }
+        int[] caps = maxSizes.clone();
+        return (context, random) -> {
+            EasyRandomParameters.Range<Integer> range = context.getParameters().getCollectionSizeRange();
+            int cap = caps[Math.min(level(context), caps.length - 1)];
+            int max = Math.min(range.getMax(), cap);
+            return nextSize(random, Math.min(range.getMin(), max), max);
+        };
+    }
+
+    // 0 for collections of the root object
+    private static int level(final RandomizerContext context) {
+        return Math.max(0, context.getCurrentRandomizationDepth() - 1);
+    }
+
+    private static int nextSize(final Random random, final int min, final int max) {
+        if (min == max) {
+            return min;
+        }
+        return random.nextInt((max - min) + 1) + min;
+    }
+}
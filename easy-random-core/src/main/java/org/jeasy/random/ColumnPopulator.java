@@ -0,0 +1,193 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Random columns populator used by {@link EasyRandom#columns(Class, int)}.
+ *
+ * <p>Each column is filled in a loop by the randomizer of its field, without creating instances of the type.
+ * Columns are filled in parallel, each by its own {@link EasyRandom} seeded from the seed and the field,
+ * with its own copy of the custom and exclusion registries, so columns do not depend on each other nor on the order
+ * in which they are filled. Custom randomizer instances are shared between columns and should therefore be thread safe.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class ColumnPopulator {
+
+    private final EasyRandomParameters parameters;
+
+    ColumnPopulator(final EasyRandomParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    <T> Columns<T> getRandomColumns(final Class<T> type, final int size) {
+        List<Field> fields = getColumnFields(type);
+        Object[] columns = new Object[fields.size()];
+        IntStream.range(0, fields.size()).parallel()
+                .forEach(i -> columns[i] = getRandomColumn(type, fields.get(i), size));
+        Map<String, Object> columnsByName = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (columns[i] != null) {
+                columnsByName.putIfAbsent(fields.get(i).getName(), columns[i]);
+            }
+        }
+        return new Columns<>(type, size, columnsByName);
+    }
+
+    private List<Field> getColumnFields(final Class<?> type) {
+        RandomizationContext context = new RandomizationContext(type, parameters);
+        List<Field> fields = new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+        fields.removeIf(field -> field.isSynthetic() || parameters.getExclusionPolicy().shouldBeExcluded(field, context));
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object getRandomColumn(final Class<?> type, final Field field, final int size) {
+        String fieldName = field.getDeclaringClass().getName() + "." + field.getName();
+        long seed = SubSeedGenerator.mix(parameters.getSeed() + fieldName.hashCode());
+        EasyRandomParameters columnParameters = parameters.copy().seed(seed);
+        EasyRandom easyRandom = new EasyRandom(columnParameters);
+        RandomizationContext context = new RandomizationContext(type, columnParameters);
+        context.pushStackItem(new RandomizationContextStackItem(null, field));
+
+        Randomizer<?> randomizer = easyRandom.getRandomizer(field, context);
+        if (randomizer instanceof SkipRandomizer) {
+            return null;
+        }
+        if (randomizer == null) {
+            throw new IllegalArgumentException(String.format("Unable to generate a column for field '%s' of type %s: " +
+                    "no randomizer is registered for it, either register one or exclude the field",
+                    field.getName(), field.getType().getName()));
+        }
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        StringPool stringPool = easyRandom.getStringPool(field);
+        if (stringPool != null) {
+            return getDictionaryColumn(easyRandom, stringPool, (Randomizer<String>) randomizer, size);
+        }
+        return getColumn(field, randomizer, size, easyRandom);
+    }
+
+    private Object getColumn(final Field field, final Randomizer<?> randomizer, final int size, final EasyRandom easyRandom) {
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            int[] column = new int[size];
+            if (!easyRandom.fillNumbers(column, field, type, randomizer)) {
+                for (int i = 0; i < size; i++) {
+                    column[i] = (Integer) randomizer.getRandomValue();
+                }
+            }
+            return column;
+        }
+        if (type == long.class) {
+            long[] column = new long[size];
+            if (!easyRandom.fillNumbers(column, field, type, randomizer)) {
+                for (int i = 0; i < size; i++) {
+                    column[i] = (Long) randomizer.getRandomValue();
+                }
+            }
+            return column;
+        }
+        if (type == double.class) {
+            double[] column = new double[size];
+            if (!easyRandom.fillNumbers(column, field, type, randomizer)) {
+                for (int i = 0; i < size; i++) {
+                    column[i] = (Double) randomizer.getRandomValue();
+                }
+            }
+            return column;
+        }
+        if (type == float.class) {
+            float[] column = new float[size];
+            if (!easyRandom.fillNumbers(column, field, type, randomizer)) {
+                for (int i = 0; i < size; i++) {
+                    column[i] = (Float) randomizer.getRandomValue();
+                }
+            }
+            return column;
+        }
+        if (type == boolean.class) {
+            boolean[] column = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                column[i] = (Boolean) randomizer.getRandomValue();
+            }
+            return column;
+        }
+        if (type == short.class) {
+            short[] column = new short[size];
+            for (int i = 0; i < size; i++) {
+                column[i] = (Short) randomizer.getRandomValue();
+            }
+            return column;
+        }
+        if (type == byte.class) {
+            byte[] column = new byte[size];
+            for (int i = 0; i < size; i++) {
+                column[i] = (Byte) randomizer.getRandomValue();
+            }
+            return column;
+        }
+        if (type == char.class) {
+            char[] column = new char[size];
+            for (int i = 0; i < size; i++) {
+                column[i] = (Character) randomizer.getRandomValue();
+            }
+            return column;
+        }
+        Object[] column = (Object[]) Array.newInstance(type, size);
+        for (int i = 0; i < size; i++) {
+            column[i] = randomizer.getRandomValue();
+        }
+        return column;
+    }
+
+    private DictionaryColumn getDictionaryColumn(final Random random, final StringPool stringPool,
+                                                 final Randomizer<String> randomizer, final int size) {
+        int[] codes = new int[size];
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String value = stringPool.next(random, randomizer::getRandomValue);
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.put(value, code);
+            }
+            codes[i] = code;
+        }
+        return new DictionaryColumn(codes, dictionary.keySet().toArray(new String[0]));
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.*;
+
+/**
+ * Random records of a type generated in columnar (struct-of-arrays) layout by {@link EasyRandom#columns(Class, int)}.
+ *
+ * <p>There is one column per populated field of the type, named after the field. Columns of primitive fields are
+ * primitive arrays, columns of {@link String} fields backed by a string pool are {@link DictionaryColumn}s and
+ * columns of other fields are arrays of the field type.</p>
+ *
+ * @param <T> the type of the records
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class Columns<T> {
+
+    private final Class<T> type;
+
+    private final int size;
+
+    private final Map<String, Object> columns;
+
+    Columns(final Class<T> type, final int size, final Map<String, Object> columns) {
+        this.type = type;
+        this.size = size;
+        this.columns = Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * Get the type of the records.
+     *
+     * @return the type of the records
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Get the number of records, which is the length of each column.
+     *
+     * @return the number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the names of the columns, in the order of the fields of the type.
+     *
+     * @return the names of the columns
+     */
+    public Set<String> getNames() {
+        return columns.keySet();
+    }
+
+    /**
+     * Get a column by name.
+     *
+     * @param name the name of the column
+     * @return the column (an array or a {@link DictionaryColumn})
+     * @throws IllegalArgumentException if there is no column with the given name
+     */
+    public Object getColumn(final String name) {
+        Object column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException(String.format("No column named '%s' in %s", name, columns.keySet()));
+        }
+        return column;
+    }
+
+    /**
+     * Get a column by name with the expected column type, {@code int[].class} or {@code String[].class} for example.
+     *
+     * @param name the name of the column
+     * @param columnType the expected type of the column
+     * @param <C> the type of the column
+     * @return the column
+     * @throws IllegalArgumentException if there is no column with the given name and type
+     */
+    public <C> C getColumn(final String name, final Class<C> columnType) {
+        Object column = getColumn(name);
+        if (!columnType.isInstance(column)) {
+            throw new IllegalArgumentException(String.format("Column '%s' is of type %s, not %s",
+                    name, column.getClass().getSimpleName(), columnType.getSimpleName()));
+        }
+        return columnType.cast(column);
+    }
+}
@@ -0,0 +1,265 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.*;
+
+/**
+ * Compact immutable collections used when {@link EasyRandomParameters#compactCollections(boolean)} is enabled.
+ *
+ * <p>Lists are backed by an array of the exact size. Sets and maps use open addressing with linear probing
+ * in a single array (keys and values are interleaved for maps) of twice their size, so they do not carry
+ * growth slack nor an entry object per element like {@link HashSet} and {@link HashMap} do.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class CompactCollections {
+
+    private static final int EXPAND_FACTOR = 2;
+
+    private final EasyRandomParameters parameters;
+
+    CompactCollections(final EasyRandomParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    boolean isCompactCollection(final Class<?> fieldType) {
+        return parameters.isCompactCollections()
+                && (fieldType.equals(List.class) || fieldType.equals(Collection.class) || fieldType.equals(Set.class));
+    }
+
+    boolean isCompactMap(final Class<?> fieldType) {
+        return parameters.isCompactCollections() && fieldType.equals(Map.class);
+    }
+
+    static Collection<?> copyOf(final Collection<?> collection) {
+        if (collection instanceof Set) {
+            return new CompactSet(collection);
+        }
+        return new CompactList(collection.toArray());
+    }
+
+    static Map<?, ?> copyOf(final Map<?, ?> map) {
+        return new CompactMap(map);
+    }
+
+    private static int indexOf(final Object key, final int length) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), length);
+    }
+
+    private static class CompactList extends AbstractList<Object> implements RandomAccess {
+
+        private final Object[] elements;
+
+        private CompactList(final Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(final int index) {
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    private static class CompactSet extends AbstractSet<Object> {
+
+        private final Object[] table;
+
+        private final int size;
+
+        private final boolean containsNull;
+
+        private CompactSet(final Collection<?> elements) {
+            table = new Object[Math.max(1, elements.size() * EXPAND_FACTOR)];
+            boolean nullElement = false;
+            int count = 0;
+            for (Object element : elements) {
+                if (element == null) {
+                    nullElement = true;
+                } else if (insert(element)) {
+                    count++;
+                }
+            }
+            containsNull = nullElement;
+            size = nullElement ? count + 1 : count;
+        }
+
+        private boolean insert(final Object element) {
+            int index = indexOf(element, table.length);
+            while (table[index] != null) {
+                if (table[index].equals(element)) {
+                    return false;
+                }
+                index = (index + 1) % table.length;
+            }
+            table[index] = element;
+            return true;
+        }
+
+        @Override
+        public boolean contains(final Object element) {
+            if (element == null) {
+                return containsNull;
+            }
+            int index = indexOf(element, table.length);
+            while (table[index] != null) {
+                if (table[index].equals(element)) {
+                    return true;
+                }
+                index = (index + 1) % table.length;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+
+                private int index = -1;
+
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public Object next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    remaining--;
+                    if (remaining == 0 && containsNull) {
+                        return null;
+                    }
+                    do {
+                        index++;
+                    } while (table[index] == null);
+                    return table[index];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static class CompactMap extends AbstractMap<Object, Object> {
+
+        // keys at even indexes, their values at the next index
+        private final Object[] table;
+
+        private final int size;
+
+        private CompactMap(final Map<?, ?> map) {
+            table = new Object[Math.max(2, map.size() * EXPAND_FACTOR * 2)];
+            int count = 0;
+            for (Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() != null) {
+                    int index = probe(entry.getKey());
+                    if (table[index] == null) {
+                        count++;
+                    }
+                    table[index] = entry.getKey();
+                    table[index + 1] = entry.getValue();
+                }
+            }
+            size = count;
+        }
+
+        // index of the key if present, or of the empty slot where it would be inserted
+        private int probe(final Object key) {
+            int index = indexOf(key, table.length >> 1) << 1;
+            while (table[index] != null && !table[index].equals(key)) {
+                index = (index + 2) % table.length;
+            }
+            return index;
+        }
+
+        @Override
+        public Object get(final Object key) {
+            if (key == null) {
+                return null;
+            }
+            int index = probe(key);
+            return table[index] == null ? null : table[index + 1];
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key != null && table[probe(key)] != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    return new Iterator<Entry<Object, Object>>() {
+
+                        private int index = -2;
+
+                        private int remaining = size;
+
+                        @Override
+                        public boolean hasNext() {
+                            return remaining > 0;
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            if (remaining == 0) {
+                                throw new NoSuchElementException();
+                            }
+                            remaining--;
+                            do {
+                                index += 2;
+                            } while (table[index] == null);
+                            return new SimpleImmutableEntry<>(table[index], table[index + 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Finds the constructor through which a type can be populated when
+ * {@link EasyRandomParameters#constructorInjection(boolean)} is enabled.
+ *
+ * <p>A suitable constructor takes one parameter per instance field of the type. Parameters are mapped to fields
+ * by name when parameter names are available (classes compiled with {@code -parameters}, records), or by declaration
+ * order and type otherwise (for classes without inherited fields, like those with a Lombok {@code @AllArgsConstructor}).
+ * The constructor is invoked through a {@link MethodHandle} cached per type by each {@link EasyRandom} instance,
+ * so that cached handles do not keep the class loaders of populated types alive after the instance is gone.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class ConstructorInjector {
+
+    private final Map<Class<?>, Optional<Injection>> injections = new ConcurrentHashMap<>();
+
+    /**
+     * Get the constructor injection of the given type.
+     *
+     * @param type the type to populate
+     * @return the constructor injection of the type, or null if it has no suitable constructor
+     */
+    Injection getInjection(final Class<?> type) {
+        return injections.computeIfAbsent(type, ConstructorInjector::findInjection).orElse(null);
+    }
+
+    private static Optional<Injection> findInjection(final Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isEnum() || type.isArray()
+                || (type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers()))) {
+            return Optional.empty();
+        }
+        List<Field> declaredFields = getInstanceFields(Arrays.asList(type.getDeclaredFields()));
+        List<Field> inheritedFields = getInstanceFields(getInheritedFields(type));
+        List<Field> fields = new ArrayList<>(declaredFields);
+        fields.addAll(inheritedFields);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() != fields.size() || constructor.isSynthetic()) {
+                continue;
+            }
+            List<Field> arguments = mapByName(constructor, fields);
+            if (arguments == null && inheritedFields.isEmpty()) {
+                arguments = mapByOrder(constructor, fields);
+            }
+            if (arguments != null) {
+                try {
+                    constructor.setAccessible(true);
+                    MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                            .asType(MethodType.genericMethodType(fields.size()))
+                            .asSpreader(Object[].class, fields.size());
+                    return Optional.of(new Injection(arguments, handle));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<Field> getInstanceFields(final List<Field> fields) {
+        List<Field> instanceFields = new ArrayList<>();
+        for (Field field : fields) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                instanceFields.add(field);
+            }
+        }
+        return instanceFields;
+    }
+
+    private static List<Field> mapByName(final Constructor<?> constructor, final List<Field> fields) {
+        Parameter[] parameters = constructor.getParameters();
+        List<Field> arguments = new ArrayList<>();
+        for (Parameter parameter : parameters) {
+            if (!parameter.isNamePresent()) {
+                return null;
+            }
+            Field field = fields.stream()
+                    .filter(candidate -> candidate.getName().equals(parameter.getName()) && candidate.getType().equals(parameter.getType()))
+                    .findFirst().orElse(null);
+            if (field == null || arguments.contains(field)) {
+                return null;
+            }
+            arguments.add(field);
+        }
+        return arguments;
+    }
+
+    private static List<Field> mapByOrder(final Constructor<?> constructor, final List<Field> fields) {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!parameterTypes[i].equals(fields.get(i).getType())) {
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * A constructor and the fields its parameters are mapped to.
+     */
+    static class Injection {
+
+        private final List<Field> fields;
+
+        private final MethodHandle constructor;
+
+        private Injection(final List<Field> fields, final MethodHandle constructor) {
+            this.fields = fields;
+            this.constructor = constructor;
+        }
+
+        List<Field> getFields() {
+            return fields;
+        }
+
+        /**
+         * Create a new instance with the given arguments. Null arguments of primitive parameters are replaced
+         * with the default value of their type.
+         */
+        Object newInstance(final Object[] arguments) throws Throwable {
+            for (int i = 0; i < arguments.length; i++) {
+                Class<?> type = fields.get(i).getType();
+                if (arguments[i] == null && type.isPrimitive()) {
+                    arguments[i] = Array.get(Array.newInstance(type, 1), 0);
+                }
+            }
+            return constructor.invokeExact(arguments);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+/**
+ * Dictionary-encoded column of strings: each row holds the code of its value in a dictionary of distinct values.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class DictionaryColumn {
+
+    private final int[] codes;
+
+    private final String[] dictionary;
+
+    DictionaryColumn(final int[] codes, final String[] dictionary) {
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Get the code of each row, which is the index of its value in the dictionary.
+     *
+     * @return the codes of the rows
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Get the distinct values of the column, in order of first appearance.
+     *
+     * @return the dictionary of the column
+     */
+    public String[] getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Get the value of a row.
+     *
+     * @param row the index of the row
+     * @return the value of the row
+     */
+    public String get(final int row) {
+        return dictionary[codes[row]];
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return codes.length;
+    }
+}
@@ -25,10 +25,12 @@ package org.jeasy.random;
 
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.registry.InternalRandomizerRegistry;
 
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -59,6 +61,18 @@ public class EasyRandom extends Random {
 
     private final ExclusionPolicy exclusionPolicy;
 
+    private final StringPools stringPools;
+
+    private final Collection<RandomizerRegistry> loadedRegistries;
+
+    private final ConstructorInjector constructorInjector;
+
+    private final IterativePopulator iterativePopulator;
+
+    private final ReferencePool sharedReferencePool;
+
+    private final AllocationStatistics allocationStatistics;
+
     public EasyRandom() {
         this(new EasyRandomParameters());
     }
@@ -66,17 +80,29 @@ public class EasyRandom extends Random {
     public EasyRandom(final EasyRandomParameters easyRandomParameters) {
         Objects.requireNonNull(easyRandomParameters, "Parameters must not be null");
         super.setSeed(easyRandomParameters.getSeed());
+        loadedRegistries = loadRegistries();
         LinkedHashSet<RandomizerRegistry> registries = setupRandomizerRegistries(easyRandomParameters);
         RandomizerProvider customRandomizerProvider = easyRandomParameters.getRandomizerProvider();
         randomizerProvider = customRandomizerProvider == null ? new RegistriesRandomizerProvider() : customRandomizerProvider;
         randomizerProvider.setRandomizerRegistries(registries);
         objectFactory = easyRandomParameters.getObjectFactory();
         arrayPopulator = new ArrayPopulator(this, this.randomizerProvider);
-        collectionPopulator = new CollectionPopulator(this);
-        mapPopulator = new MapPopulator(this, objectFactory);
+        SubSeedGenerator subSeedGenerator = new SubSeedGenerator(this, easyRandomParameters);
+        LazyCollections lazyCollections = new LazyCollections(this, easyRandomParameters, subSeedGenerator);
+        CompactCollections compactCollections = new CompactCollections(easyRandomParameters);
+        collectionPopulator = new CollectionPopulator(this, lazyCollections, compactCollections);
+        mapPopulator = new MapPopulator(this, objectFactory, lazyCollections, compactCollections);
         enumRandomizersByType = new ConcurrentHashMap<>();
-        fieldPopulator = new FieldPopulator(this, this.randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator);
         exclusionPolicy = easyRandomParameters.getExclusionPolicy();
+        stringPools = new StringPools(easyRandomParameters);
+        LazyProxies lazyProxies = new LazyProxies(easyRandomParameters, subSeedGenerator);
+        fieldPopulator = new FieldPopulator(this, this.randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, stringPools,
+                lazyProxies);
+        constructorInjector = new ConstructorInjector();
+        iterativePopulator = new IterativePopulator(this, easyRandomParameters, this.randomizerProvider, stringPools, constructorInjector,
+                fieldPopulator, arrayPopulator, collectionPopulator, mapPopulator, lazyProxies);
+        sharedReferencePool = new ReferencePool();
+        allocationStatistics = new AllocationStatistics();
         this.parameters = easyRandomParameters;
     }
 
@@ -89,7 +115,48 @@ public class EasyRandom extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextObject(final Class<T> type) {
-        return doPopulateBean(type, new RandomizationContext(type, parameters));
+        RandomizationContext context = new RandomizationContext(type, parameters);
+        context.generationStarted();
+        T result = parameters.isIterativePopulation() ? iterativePopulator.populate(type, context) : doPopulateBean(type, context);
+        context.generationCompleted();
+        recordAllocations(context);
+        return result;
+    }
+
+    /**
+     * Populate an existing instance with random data, overwriting the values of its fields in place.
+     *
+     * <p>Recycling contract: fields that are not excluded are overwritten whatever their current value
+     * (the {@link EasyRandomParameters#overrideDefaultInitialization(boolean)} parameter does not apply).
+     * Nested beans, mutable collections and mutable maps that are already referenced by the target are
+     * populated in place (collections and maps are cleared and refilled), while other values, as well as
+     * immutable collections and maps, are replaced. The caller must therefore not keep references to
+     * parts of a recycled object graph that it expects to remain unchanged.</p>
+     *
+     * @param target the instance to populate
+     * @param <T>    the actual type of the target object
+     * @return the populated target
+     * @throws ObjectCreationException when unable to populate the target
+     */
+    public <T> T populate(final T target) {
+        Objects.requireNonNull(target, "Target must not be null");
+        RandomizationContext context = new RandomizationContext(target.getClass(), parameters, true);
+        context.generationStarted();
+        boolean started = context.objectStarted(target.getClass());
+        try {
+            populateBean(target, context);
+            context.objectCompleted(target.getClass(), target);
+            context.generationCompleted();
+            recordAllocations(context);
+        } catch (Throwable e) {
+            if (started) {
+                context.objectFailed(target.getClass(), e);
+            }
+            if (!parameters.isIgnoreRandomizationErrors()) {
+                throw new ObjectCreationException("Unable to populate an instance of type " + target.getClass(), e);
+            }
+        }
+        return target;
     }
 
     /**
@@ -109,20 +176,166 @@ public class EasyRandom extends Random {
         return Stream.generate(() -> nextObject(type)).limit(streamSize);
     }
 
+    /**
+     * Generate a stream of random instances of the given type that recycles a pool of instances:
+     * the first {@code poolSize} instances are created, the next ones are the same instances
+     * populated again with {@link #populate(Object)}, in the same order. The instance at index
+     * {@code i} of the stream is therefore reused at index {@code i + poolSize}, and must not
+     * be used any more by then. Instances that could not be generated (null when
+     * {@link EasyRandomParameters#ignoreRandomizationErrors(boolean)} is activated) are generated again
+     * instead of being populated. The stream keeps the state of its pool and must be consumed sequentially:
+     * it must not be made parallel.
+     *
+     * @param type       the type for which instances will be generated
+     * @param streamSize the number of instances to generate
+     * @param poolSize   the number of distinct instances
+     * @param <T>        the actual type of the target objects
+     * @return a stream of random instances of the given type
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> Stream<T> recycledObjects(final Class<T> type, final int streamSize, final int poolSize) {
+        if (streamSize < 0) {
+            throw new IllegalArgumentException("The stream size must be positive");
+        }
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("The pool size must be greater than zero");
+        }
+        List<T> pool = new ArrayList<>(Math.min(poolSize, streamSize));
+        int[] index = {0};
+        return Stream.generate(() -> {
+            int i = index[0]++ % poolSize;
+            if (i == pool.size()) {
+                pool.add(null);
+            }
+            T instance = pool.get(i);
+            if (instance == null) {
+                instance = nextObject(type);
+                pool.set(i, instance);
+                return instance;
+            }
+            return populate(instance);
+        }).limit(streamSize);
+    }
+
+    /**
+     * Generate random records of the given type in columnar (struct-of-arrays) layout: one array per field,
+     * filled by the randomizer of the field, without creating instances of the type. Columns are generated
+     * in parallel. Every populated field must have a registered randomizer (or be excluded).
+     *
+     * @param type the type of the records
+     * @param size the number of records to generate
+     * @param <T> the actual type of the records
+     * @return the columns of the generated records
+     * @throws IllegalArgumentException when the size is negative or a field has no randomizer
+     * @see Columns
+     */
+    public <T> Columns<T> columns(final Class<T> type, final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The number of records must be positive");
+        }
+        return new ColumnPopulator(parameters).getRandomColumns(type, size);
+    }
+
+    /**
+     * Create a generator of random binary records of the given type, made of the values of its primitive fields
+     * with fixed-width encodings, to be written straight into direct or mapped buffers.
+     *
+     * @param type the type of the bean layout
+     * @param fieldNames the fields of a record, in order (by default, all primitive fields in declaration order)
+     * @param <T> the actual type of the bean layout
+     * @return a generator of binary records
+     * @throws IllegalArgumentException when a field does not exist, is not primitive or is excluded
+     * @see BinaryRecordGenerator
+     */
+    public <T> BinaryRecordGenerator<T> binaryRecords(final Class<T> type, final String... fieldNames) {
+        List<Field> fields = BinaryRecordGenerator.getLayoutFields(type, fieldNames, parameters);
+        BinaryRecordGenerator<T> generator = new BinaryRecordGenerator<>(type, fields, fieldNames.length > 0, parameters);
+        if (generator.getFieldNames().isEmpty()) {
+            throw new IllegalArgumentException("Type " + type.getName() + " has no primitive field to write");
+        }
+        return generator;
+    }
+
+    /**
+     * Explain what {@link #nextObject(Class)} does for the given type, without generating values: the resolved
+     * randomizer of each field path and the registry providing it, excluded fields, expected collection sizes,
+     * recursion cut points, and the estimated number of objects and bytes per root object.
+     *
+     * @param type the type to explain
+     * @return the generation report of the given type
+     */
+    public GenerationReport explain(final Class<?> type) {
+        return new GenerationExplainer(parameters, randomizerProvider).explain(type);
+    }
+
+    /**
+     * Same as {@link #explain(Class)}, additionally sampling real generations of the given type (with a separate
+     * {@link EasyRandom} instance, using the same parameters) to attribute time and allocations to field paths.
+     *
+     * @param type the type to explain
+     * @param samples the number of objects to generate
+     * @return the generation report of the given type, including samples
+     * @throws IllegalArgumentException when the number of samples is not positive
+     */
+    public GenerationReport explain(final Class<?> type, final int samples) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("The number of samples must be greater than zero");
+        }
+        return new GenerationExplainer(parameters, randomizerProvider).explain(type, samples);
+    }
+
+    /**
+     * Get statistics of the string pools configured with {@link EasyRandomParameters#stringPool(int)}
+     * or {@link EasyRandomParameters#internStrings()}, including an estimate of the memory they saved.
+     *
+     * @return statistics of the string pools of this instance
+     */
+    public StringPoolStatistics getStringPoolStatistics() {
+        return stringPools.getStatistics();
+    }
+
+    /**
+     * Get the bytes allocated by the generations of this instance, per root type, per generated type
+     * and per field. Allocations are only recorded when {@link EasyRandomParameters#allocationTracking(boolean)}
+     * is activated.
+     *
+     * @return a snapshot of the allocations recorded by this instance
+     */
+    public AllocationStatistics getAllocationStatistics() {
+        synchronized (allocationStatistics) {
+            return allocationStatistics.copy();
+        }
+    }
+
+    private void recordAllocations(final RandomizationContext context) {
+        AllocationStatistics allocations = context.getAllocationStatistics();
+        if (allocations != null) {
+            synchronized (allocationStatistics) {
+                allocationStatistics.add(allocations);
+            }
+        }
+    }
+
     <T> T doPopulateBean(final Class<T> type, final RandomizationContext context) {
         if (exclusionPolicy.shouldBeExcluded(type, context)) {
             return null;
         }
 
         T result;
+        boolean started = false;
         try {
 
             Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+            context.randomizerSelected(type, null, randomizer);
             if (randomizer != null) {
                 if (randomizer instanceof ContextAwareRandomizer) {
                     ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
                 }
-                return (T) randomizer.getRandomValue();
+                StringPool stringPool = stringPools.getStringPool(type);
+                if (stringPool != null) {
+                    return (T) stringPool.next(this, () -> (String) randomizer.getRandomValue());
+                }
+                return (T) context.getRandomValue(randomizer);
             }
 
             // Collection types are randomized without introspection for internal fields
@@ -135,29 +348,61 @@ public class EasyRandom extends Random {
                 return (T) context.getPopulatedBean(type);
             }
 
+            // share an already generated instance according to the reference sharing policy, except for the root object
+            boolean shareReferences = context.getCurrentRandomizationDepth() > 0
+                    && parameters.getReferenceSharingPolicy() != ReferenceSharingPolicies.none();
+            if (shareReferences) {
+                Object sharedReference = selectSharedReference(type, context);
+                if (sharedReference != null) {
+                    return (T) sharedReference;
+                }
+            }
+
+            // truncate the object graph once the budget is spent
+            GenerationBudget budget = context.getGenerationBudget();
+            if (budget.isExhausted()) {
+                return null;
+            }
+            started = context.objectStarted(type);
+
+            // create a new instance of the target type through its constructor if possible
+            ConstructorInjector.Injection injection = parameters.isConstructorInjection() ? constructorInjector.getInjection(type) : null;
+            if (injection != null && context.startConstruction(type)) {
+                try {
+                    result = (T) newInstance(injection, context);
+                } finally {
+                    context.endConstruction(type);
+                }
+                if (shareReferences) {
+                    addSharedReference(type, result, context);
+                }
+                budget.addObject(result);
+                context.setRandomizedObject(result);
+                context.addPopulatedBean(type, result);
+                context.objectCompleted(type, result);
+                return result;
+            }
+
             // create a new instance of the target type
             result = objectFactory.createInstance(type, context);
+            if (shareReferences) {
+                addSharedReference(type, result, context);
+            }
+            budget.addObject(result);
             context.setRandomizedObject(result);
 
             // cache instance in the population context
             context.addPopulatedBean(type, result);
 
-            // retrieve declared and inherited fields
-            List<Field> fields = getDeclaredFields(result);
-            // we can not use type here, because with classpath scanning enabled the result can be a subtype
-            fields.addAll(getInheritedFields(result.getClass()));
-
-            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
-            // This field should be excluded
-            if (type.getEnclosingClass() != null) {
-                fields.removeIf(field -> field.getName().equals("this$0"));
-            }
-
             // populate fields with random data
-            populateFields(fields, result, context);
+            populateFields(getFields(result, type), result, context);
 
+            context.objectCompleted(type, result);
             return result;
         } catch (Throwable e) {
+            if (started) {
+                context.objectFailed(type, e);
+            }
             if (parameters.isIgnoreRandomizationErrors()) {
                 return null;
             } else {
@@ -166,7 +411,7 @@ public class EasyRandom extends Random {
         }
     }
 
-    private <T> T randomize(final Class<T> type, final RandomizationContext context) {
+    <T> T randomize(final Class<T> type, final RandomizationContext context) {
         if (isEnumType(type)) {
             if (!enumRandomizersByType.containsKey(type)) {
                 enumRandomizersByType.put(type, new EnumRandomizer(type, parameters.getSeed()));
@@ -185,6 +430,113 @@ public class EasyRandom extends Random {
         return null;
     }
 
+    /*
+     * Populate the fields of an existing object (when recycling).
+     */
+    void populateBean(final Object target, final RandomizationContext context) throws IllegalAccessException {
+        context.setRandomizedObject(target);
+        context.addPopulatedBean(target.getClass(), target);
+        populateFields(getFields(target, target.getClass()), target, context);
+    }
+
+    /*
+     * Declared and inherited fields of a bean of the given type.
+     */
+    List<Field> getFields(final Object bean, final Class<?> type) {
+        List<Field> fields = getDeclaredFields(bean);
+        // we can not use type here, because with classpath scanning enabled the bean can be a subtype
+        fields.addAll(getInheritedFields(bean.getClass()));
+
+        // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
+        // This field should be excluded
+        if (type.getEnclosingClass() != null) {
+            fields.removeIf(field -> field.getName().equals("this$0"));
+        }
+        return fields;
+    }
+
+    Object selectSharedReference(final Class<?> type, final RandomizationContext context) {
+        ReferenceSharingPolicy referenceSharingPolicy = parameters.getReferenceSharingPolicy();
+        List<Object> sharedReferences = getSharedReferencePool(context).getInstances(referenceSharingPolicy.getPoolKey(type, context));
+        int selected = referenceSharingPolicy.select(type, sharedReferences.size(), context, this);
+        return selected == ReferenceSharingPolicy.NEW_INSTANCE ? null : sharedReferences.get(selected);
+    }
+
+    void addSharedReference(final Class<?> type, final Object instance, final RandomizationContext context) {
+        ReferenceSharingPolicy referenceSharingPolicy = parameters.getReferenceSharingPolicy();
+        List<Object> sharedReferences = getSharedReferencePool(context).getInstances(referenceSharingPolicy.getPoolKey(type, context));
+        if (sharedReferences.size() < referenceSharingPolicy.getPoolCapacity()) {
+            sharedReferences.add(instance);
+        }
+    }
+
+    private ReferencePool getSharedReferencePool(final RandomizationContext context) {
+        return parameters.getReferenceSharingPolicy().isSharedAcrossObjects() ? sharedReferencePool : context.getReferencePool();
+    }
+
+    private Object newInstance(final ConstructorInjector.Injection injection, final RandomizationContext context) throws Throwable {
+        List<Field> fields = injection.getFields();
+        Object[] arguments = new Object[fields.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            Field field = fields.get(i);
+            if (!exclusionPolicy.shouldBeExcluded(field, context)) {
+                arguments[i] = fieldPopulator.getRandomValue(field, context);
+            } else {
+                context.fieldExcluded(field);
+            }
+        }
+        return injection.newInstance(arguments);
+    }
+
+    /*
+     * Return the randomizer generating the elements of the given type of a collection, a map or an array in bulk,
+     * or null if the elements must be generated one by one with doPopulateBean: when no randomizer is registered
+     * for the type, when the type is excluded, when strings are pooled, when randomization errors are ignored
+     * (failed elements are set to null) or when the generation is observed element by element.
+     */
+    Randomizer<?> getBulkRandomizer(final Class<?> type, final RandomizationContext context) {
+        if (context.isObserved() || parameters.isIgnoreRandomizationErrors() || stringPools.getStringPool(type) != null
+                || exclusionPolicy.shouldBeExcluded(type, context)) {
+            return null;
+        }
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        return randomizer;
+    }
+
+    /*
+     * Generate values with a bulk randomizer, failing as doPopulateBean does for each value. Exceptions
+     * thrown by the consumer are propagated as is.
+     */
+    <T> void fillRandomValues(final Randomizer<T> randomizer, final Class<?> type, final int count, final Consumer<? super T> consumer) {
+        try {
+            randomizer.fill(count, value -> {
+                try {
+                    consumer.accept(value);
+                } catch (RuntimeException e) {
+                    throw new ConsumerException(e);
+                }
+            });
+        } catch (ConsumerException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (Throwable e) {
+            throw new ObjectCreationException("Unable to create a random instance of type " + type, e);
+        }
+    }
+
+    /*
+     * Generate a value with a bulk randomizer, failing as doPopulateBean does.
+     */
+    Object getRandomValue(final Randomizer<?> randomizer, final Class<?> type) {
+        try {
+            return randomizer.getRandomValue();
+        } catch (Throwable e) {
+            throw new ObjectCreationException("Unable to create a random instance of type " + type, e);
+        }
+    }
+
     private <T> void populateFields(final List<Field> fields, final T result, final RandomizationContext context) throws IllegalAccessException {
         for (final Field field : fields) {
             populateField(field, result, context);
@@ -192,22 +544,67 @@ public class EasyRandom extends Random {
     }
 
     private <T> void populateField(final Field field, final T result, final RandomizationContext context) throws IllegalAccessException {
-        if (exclusionPolicy.shouldBeExcluded(field, context)) {
-            return;
+        if (shouldBePopulated(field, result, context)) {
+            fieldPopulator.populateField(result, field, context);
         }
-        if (!parameters.isOverrideDefaultInitialization() && getFieldValue(result, field) != null && !isPrimitiveFieldWithDefaultValue(result, field)) {
-          return;
+    }
+
+    /*
+     * Fields are not populated if they are excluded or, unless overridden, initialized with a non default value.
+     */
+    boolean shouldBePopulated(final Field field, final Object result, final RandomizationContext context) throws IllegalAccessException {
+        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+            context.fieldExcluded(field);
+            return false;
         }
-        fieldPopulator.populateField(result, field, context);
+        return parameters.isOverrideDefaultInitialization() || context.isRecycling() || getFieldValue(result, field) == null
+                || isPrimitiveFieldWithDefaultValue(result, field);
     }
 
-    int getRandomCollectionSize() {
-        int minCollectionSize = parameters.getCollectionSizeRange().getMin();
-        int maxCollectionSize = parameters.getCollectionSizeRange().getMax();
-        if (minCollectionSize == maxCollectionSize) {
-            return minCollectionSize;
+    Randomizer<?> getRandomizer(final Field field, final RandomizationContext context) {
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
+        if (randomizer == null) {
+            randomizer = randomizerProvider.getRandomizerByType(field.getType(), context);
+        }
+        if (randomizer == null && isEnumType(field.getType())) {
+            randomizer = new EnumRandomizer(field.getType(), parameters.getSeed());
         }
-        return nextInt((maxCollectionSize - minCollectionSize) + 1) + minCollectionSize;
+        return randomizer;
+    }
+
+    /*
+     * Fill a numeric array in bulk if activated (see EasyRandomParameters#bulkNumbers) and if the randomizer selected
+     * for the field (or for the type if the field is null) is a default randomizer. Returns false otherwise.
+     */
+    boolean fillNumbers(final Object array, final Field field, final Class<?> type, final Randomizer<?> randomizer) {
+        return parameters.isBulkNumbers() && isDefaultRandomizer(field, type) && BulkNumberGenerators.fill(array, randomizer, this);
+    }
+
+    // provided by the internal registry, and not by a custom one
+    boolean isDefaultRandomizer(final Field field, final Class<?> type) {
+        return randomizerProvider instanceof RegistriesRandomizerProvider
+                && ((RegistriesRandomizerProvider) randomizerProvider).getProvidingRegistry(field, type) instanceof InternalRandomizerRegistry;
+    }
+
+    StringPool getStringPool(final Field field) {
+        return stringPools.getStringPool(field);
+    }
+
+    int getRandomCollectionSize(final RandomizationContext context) {
+        int size = parameters.getCollectionSizePolicy().getCollectionSize(context, this);
+        context.collectionSized(size);
+        return size;
+    }
+
+    /*
+     * Restart the generation from the given seed, as if this instance was just created with it.
+     * Used to generate the elements of lazy collections independently of the access order.
+     */
+    void reseed(final long seed) {
+        super.setSeed(seed);
+        parameters.setSeed(seed);
+        loadedRegistries.forEach(registry -> registry.init(parameters));
+        enumRandomizersByType.clear();
     }
 
     private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasyRandomParameters parameters) {
@@ -215,7 +612,7 @@ public class EasyRandom extends Random {
         registries.add(parameters.getCustomRandomizerRegistry());
         registries.add(parameters.getExclusionRandomizerRegistry());
         registries.addAll(parameters.getUserRegistries());
-        registries.addAll(loadRegistries());
+        registries.addAll(loadedRegistries);
         registries.forEach(registry -> registry.init(parameters));
         return registries;
     }
@@ -226,4 +623,10 @@ public class EasyRandom extends Random {
         return registries;
     }
 
+    private static class ConsumerException extends RuntimeException {
+
+        ConsumerException(final RuntimeException cause) {
+            super(cause);
+        }
+    }
 }
@@ -34,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.time.ZonedDateTime.of;
@@ -70,6 +71,11 @@ public class EasyRandomParameters {
      */
     public static final int DEFAULT_RANDOMIZATION_DEPTH = Integer.MAX_VALUE;
 
+    /**
+     * Default budget of objects, bytes and collection elements, which means that the budget is unlimited.
+     */
+    public static final long DEFAULT_BUDGET = Long.MAX_VALUE;
+
     /**
      * Default string length size.
      */
@@ -95,15 +101,29 @@ public class EasyRandomParameters {
     private long seed;
     private int objectPoolSize;
     private int randomizationDepth;
+    private long maxObjects;
+    private long maxBytes;
+    private long maxCollectionElements;
     private Charset charset;
     private boolean scanClasspathForConcreteTypes;
     private boolean overrideDefaultInitialization;
     private boolean ignoreRandomizationErrors;
+    private boolean lazyCollections;
+    private boolean softLazyCollections;
+    private boolean lazyProxies;
+    private boolean compactCollections;
+    private boolean constructorInjection;
     private Range<Integer> collectionSizeRange;
     private Range<Integer> stringLengthRange;
     private Range<LocalDate> dateRange;
     private Range<LocalTime> timeRange;
     private ExclusionPolicy exclusionPolicy;
+    private CollectionSizePolicy collectionSizePolicy;
+    private ReferenceSharingPolicy referenceSharingPolicy;
+    private GenerationListener generationListener;
+    private boolean allocationTracking;
+    private boolean bulkNumbers;
+    private boolean iterativePopulation;
     private ObjectFactory objectFactory;
     private RandomizerProvider randomizerProvider;
 
@@ -113,6 +133,8 @@ public class EasyRandomParameters {
     private Set<RandomizerRegistry> userRegistries;
     private Set<Predicate<Field>> fieldExclusionPredicates;
     private Set<Predicate<Class<?>>> typeExclusionPredicates;
+    private Map<Predicate<Field>, Supplier<StringPool>> fieldStringPools;
+    private Supplier<StringPool> stringPool;
 
     public EasyRandomParameters() {
         seed = DEFAULT_SEED;
@@ -120,8 +142,16 @@ public class EasyRandomParameters {
         scanClasspathForConcreteTypes = false;
         overrideDefaultInitialization = false;
         ignoreRandomizationErrors = false;
+        lazyCollections = false;
+        softLazyCollections = false;
+        lazyProxies = false;
+        compactCollections = false;
+        constructorInjection = false;
         objectPoolSize = DEFAULT_OBJECT_POOL_SIZE;
         randomizationDepth = DEFAULT_RANDOMIZATION_DEPTH;
+        maxObjects = DEFAULT_BUDGET;
+        maxBytes = DEFAULT_BUDGET;
+        maxCollectionElements = DEFAULT_BUDGET;
         dateRange = new Range<>(DEFAULT_DATES_RANGE.getMin().toLocalDate(), DEFAULT_DATES_RANGE.getMax().toLocalDate());
         timeRange = new Range<>(LocalTime.MIN, LocalTime.MAX);
         collectionSizeRange = DEFAULT_COLLECTION_SIZE_RANGE;
@@ -131,7 +161,10 @@ public class EasyRandomParameters {
         userRegistries = new LinkedHashSet<>();
         fieldExclusionPredicates = new HashSet<>();
         typeExclusionPredicates = new HashSet<>();
+        fieldStringPools = new LinkedHashMap<>();
         exclusionPolicy = new ExclusionChecker();
+        collectionSizePolicy = CollectionSizePolicies.uniform();
+        referenceSharingPolicy = ReferenceSharingPolicies.none();
         objectFactory = new ObjenesisObjectFactory();
     }
 
@@ -190,6 +223,36 @@ public class EasyRandomParameters {
         this.randomizationDepth = randomizationDepth;
     }
 
+    public long getMaxObjects() {
+        return maxObjects;
+    }
+    public void setMaxObjects(long maxObjects) {
+        if (maxObjects < 1) {
+            throw new IllegalArgumentException("maxObjects must be >= 1");
+        }
+        this.maxObjects = maxObjects;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+    public void setMaxBytes(long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be >= 1");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxCollectionElements() {
+        return maxCollectionElements;
+    }
+    public void setMaxCollectionElements(long maxCollectionElements) {
+        if (maxCollectionElements < 0) {
+            throw new IllegalArgumentException("maxCollectionElements must be >= 0");
+        }
+        this.maxCollectionElements = maxCollectionElements;
+    }
+
     public Charset getCharset() {
         return charset;
     }
@@ -219,6 +282,41 @@ public class EasyRandomParameters {
         this.ignoreRandomizationErrors = ignoreRandomizationErrors;
     }
 
+    public boolean isLazyCollections() {
+        return lazyCollections;
+    }
+    public void setLazyCollections(boolean lazyCollections) {
+        this.lazyCollections = lazyCollections;
+    }
+
+    public boolean isSoftLazyCollections() {
+        return softLazyCollections;
+    }
+    public void setSoftLazyCollections(boolean softLazyCollections) {
+        this.softLazyCollections = softLazyCollections;
+    }
+
+    public boolean isLazyProxies() {
+        return lazyProxies;
+    }
+    public void setLazyProxies(boolean lazyProxies) {
+        this.lazyProxies = lazyProxies;
+    }
+
+    public boolean isCompactCollections() {
+        return compactCollections;
+    }
+    public void setCompactCollections(boolean compactCollections) {
+        this.compactCollections = compactCollections;
+    }
+
+    public boolean isConstructorInjection() {
+        return constructorInjection;
+    }
+    public void setConstructorInjection(boolean constructorInjection) {
+        this.constructorInjection = constructorInjection;
+    }
+
     public ExclusionPolicy getExclusionPolicy() {
         return exclusionPolicy;
     }
@@ -227,6 +325,50 @@ public class EasyRandomParameters {
         this.exclusionPolicy = exclusionPolicy;
     }
 
+    public CollectionSizePolicy getCollectionSizePolicy() {
+        return collectionSizePolicy;
+    }
+    public void setCollectionSizePolicy(CollectionSizePolicy collectionSizePolicy) {
+        Objects.requireNonNull(collectionSizePolicy, "Collection size policy must not be null");
+        this.collectionSizePolicy = collectionSizePolicy;
+    }
+
+    public ReferenceSharingPolicy getReferenceSharingPolicy() {
+        return referenceSharingPolicy;
+    }
+    public void setReferenceSharingPolicy(ReferenceSharingPolicy referenceSharingPolicy) {
+        Objects.requireNonNull(referenceSharingPolicy, "Reference sharing policy must not be null");
+        this.referenceSharingPolicy = referenceSharingPolicy;
+    }
+
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+    public void setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+    }
+
+    public boolean isAllocationTracking() {
+        return allocationTracking;
+    }
+    public void setAllocationTracking(boolean allocationTracking) {
+        this.allocationTracking = allocationTracking;
+    }
+
+    public boolean isBulkNumbers() {
+        return bulkNumbers;
+    }
+    public void setBulkNumbers(boolean bulkNumbers) {
+        this.bulkNumbers = bulkNumbers;
+    }
+
+    public boolean isIterativePopulation() {
+        return iterativePopulation;
+    }
+    public void setIterativePopulation(boolean iterativePopulation) {
+        this.iterativePopulation = iterativePopulation;
+    }
+
     public ObjectFactory getObjectFactory() {
         return objectFactory;
     }
@@ -263,6 +405,14 @@ public class EasyRandomParameters {
         return userRegistries;
     }
 
+    Map<Predicate<Field>, Supplier<StringPool>> getFieldStringPools() {
+        return fieldStringPools;
+    }
+
+    Supplier<StringPool> getStringPool() {
+        return stringPool;
+    }
+
     /**
      * Register a custom randomizer for the given field predicate.
      * <strong>The predicate must at least specify the field type</strong>
@@ -326,6 +476,69 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Draw generated strings from pools of {@code poolSize} strings: the first {@code poolSize}
+     * strings are generated as usual, next ones are picked from them. Each string field has its own pool,
+     * so that its values always come from its own randomizer, and strings that are not field values
+     * (like collection elements) share one pool. The heap cost of generated objects is then bounded by
+     * the pool size and the number of string fields whatever the number of objects.
+     * See {@link EasyRandom#getStringPoolStatistics()} for the resulting memory savings.
+     *
+     * @param poolSize the number of distinct strings
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters stringPool(final int poolSize) {
+        checkStringPoolSize(poolSize);
+        stringPool = () -> StringPool.bounded(poolSize);
+        return this;
+    }
+
+    /**
+     * Draw the values of the string fields matching the given predicate from pools of
+     * {@code poolSize} strings, one per field. Fields matching several predicates use the pool registered first.
+     *
+     * @param predicate to identify the fields
+     * @param poolSize  the number of distinct strings
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see #stringPool(int)
+     * @see FieldPredicates
+     */
+    public EasyRandomParameters stringPool(final Predicate<Field> predicate, final int poolSize) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+        checkStringPoolSize(poolSize);
+        fieldStringPools.put(predicate, () -> StringPool.bounded(poolSize));
+        return this;
+    }
+
+    /**
+     * Intern all generated strings: equal strings are replaced with the same instance, so that the heap
+     * cost of generated objects is proportional to the number of distinct strings. Unlike
+     * {@link #stringPool(int)}, generated strings are not changed, which is useful with randomizers
+     * generating values from a small set (names, cities, etc).
+     * See {@link EasyRandom#getStringPoolStatistics()} for the resulting memory savings.
+     *
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters internStrings() {
+        stringPool = StringPool::interning;
+        return this;
+    }
+
+    /**
+     * Intern the values of the string fields matching the given predicate.
+     * Fields matching several predicates use the pool registered first.
+     *
+     * @param predicate to identify the fields
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see #internStrings()
+     * @see FieldPredicates
+     */
+    public EasyRandomParameters internStrings(final Predicate<Field> predicate) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+        fieldStringPools.put(predicate, StringPool::interning);
+        return this;
+    }
+
     /**
      * Provide a custom exclusion policy.
      *
@@ -337,6 +550,91 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Provide a custom collection size policy.
+     *
+     * @param collectionSizePolicy to use
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     *
+     * @see CollectionSizePolicies
+     */
+    public EasyRandomParameters collectionSizePolicy(CollectionSizePolicy collectionSizePolicy) {
+        setCollectionSizePolicy(collectionSizePolicy);
+        return this;
+    }
+
+    /**
+     * Provide a custom reference sharing policy.
+     *
+     * @param referenceSharingPolicy to use
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     *
+     * @see ReferenceSharingPolicies
+     */
+    public EasyRandomParameters referenceSharingPolicy(ReferenceSharingPolicy referenceSharingPolicy) {
+        setReferenceSharingPolicy(referenceSharingPolicy);
+        return this;
+    }
+
+    /**
+     * Register a listener notified of the progress of the generation, for example a {@link GenerationMetrics}
+     * aggregator. Several listeners can be combined with {@link GenerationListener#of(GenerationListener...)}.
+     * Deactivated by default.
+     *
+     * @param generationListener to notify, or null to deactivate notifications
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters generationListener(GenerationListener generationListener) {
+        setGenerationListener(generationListener);
+        return this;
+    }
+
+    /**
+     * Record the bytes allocated by the generation, per root type, per generated type and per field, from
+     * the allocation counters of the current thread. The allocations of the current generation are available
+     * with {@link RandomizerContext#getAllocationStatistics()} and the cumulated allocations with
+     * {@link EasyRandom#getAllocationStatistics()}. Tracking has no effect on JVMs without thread allocation
+     * counters. Deactivated by default.
+     *
+     * @param allocationTracking true to record allocations
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters allocationTracking(boolean allocationTracking) {
+        setAllocationTracking(allocationTracking);
+        return this;
+    }
+
+    /**
+     * Generate arrays and columns of {@code int}, {@code long}, {@code float} and {@code double} in bulk with
+     * {@link BulkNumberGenerators#getDefault()}, a counter-based generator vectorized with SIMD instructions when
+     * the {@code easy-random-vector} module is available. Values are in the ranges of the default randomizers of
+     * these types but differ from the values generated when deactivated; elements whose type has a custom
+     * randomizer are still generated by it. Deactivated by default.
+     *
+     * @param bulkNumbers true to generate numeric arrays and columns in bulk
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters bulkNumbers(boolean bulkNumbers) {
+        setBulkNumbers(bulkNumbers);
+        return this;
+    }
+
+    /**
+     * Populate the objects generated by {@link EasyRandom#nextObject(Class)} with an explicit work stack instead of
+     * recursive calls, so that the depth of the generated object graphs is limited by the heap and not by the
+     * thread stack size (deep graphs need a high {@link #randomizationDepth(int)} and, for recursive types, a high
+     * {@link #objectPoolSize(int)}). Generated objects are identical to those generated when deactivated, for the
+     * same seed. {@link EasyRandom#populate(Object)} and randomizers calling back into {@link EasyRandom} still
+     * recurse. Deactivated by default.
+     *
+     * @param iterativePopulation true to populate objects iteratively
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters iterativePopulation(boolean iterativePopulation) {
+        setIterativePopulation(iterativePopulation);
+        return this;
+    }
+
     /**
      * Provide a custom object factory.
      *
@@ -371,7 +669,8 @@ public class EasyRandomParameters {
     }
 
     /**
-     * Set the collection size range.
+     * Set the collection size range. It does not apply to arrays of primitive types
+     * (see {@link CollectionSizePolicy}).
      *
      * @param minCollectionSize the minimum collection size
      * @param maxCollectionSize the maximum collection size
@@ -431,6 +730,47 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Set the maximum number of beans generated by a call to {@link EasyRandom#nextObject(Class)}.
+     * Once it is reached, beans that remain to be generated are set to null and collections,
+     * maps and arrays are empty.
+     *
+     * @param maxObjects the maximum number of generated beans
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see GenerationBudget
+     */
+    public EasyRandomParameters maxObjects(final long maxObjects) {
+        setMaxObjects(maxObjects);
+        return this;
+    }
+
+    /**
+     * Set the maximum estimated size in bytes of the objects generated by a call to {@link EasyRandom#nextObject(Class)}.
+     * Once it is reached, beans that remain to be generated are set to null and collections,
+     * maps and arrays are empty.
+     *
+     * @param maxBytes the maximum estimated size of generated objects
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see GenerationBudget
+     */
+    public EasyRandomParameters maxBytes(final long maxBytes) {
+        setMaxBytes(maxBytes);
+        return this;
+    }
+
+    /**
+     * Set the maximum number of collection, map and array elements generated by a call to
+     * {@link EasyRandom#nextObject(Class)}. Collections, maps and arrays are shrunk to the remaining elements.
+     *
+     * @param maxCollectionElements the maximum number of generated elements
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see GenerationBudget
+     */
+    public EasyRandomParameters maxCollectionElements(final long maxCollectionElements) {
+        setMaxCollectionElements(maxCollectionElements);
+        return this;
+    }
+
     /**
      * Set the charset to use for character based fields.
      *
@@ -538,6 +878,140 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Should interface-typed {@link java.util.List}, {@link java.util.Collection}, {@link java.util.Set}
+     * and {@link java.util.Map} fields be populated with lazy implementations? Only the size of a lazy
+     * collection is drawn at population time, each element (each value for maps) is generated on first
+     * access from the seed, the field path and its index, so huge object graphs can be described without
+     * being materialized. Sets are lazy only when their elements are beans. Lazy collections are read-only.
+     *
+     * Deactivated by default.
+     *
+     * @param lazyCollections whether to populate collections and maps lazily or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters lazyCollections(boolean lazyCollections) {
+        setLazyCollections(lazyCollections);
+        return this;
+    }
+
+    /**
+     * Should the materialized elements of lazy collections be softly referenced? If so, they may be
+     * reclaimed by the garbage collector and are generated again (identically) on next access.
+     * Only used when {@link #lazyCollections(boolean)} is enabled.
+     *
+     * Deactivated by default.
+     *
+     * @param softLazyCollections whether to softly reference the elements of lazy collections or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters softLazyCollections(boolean softLazyCollections) {
+        setSoftLazyCollections(softLazyCollections);
+        return this;
+    }
+
+    /**
+     * Should interface-typed fields (other than collections and maps) without a registered randomizer
+     * be populated with lazy proxies? A lazy proxy generates the real object from a sub-seed on its first
+     * method invocation and delegates all invocations to it, so only the used branches of the object graph
+     * are generated. The real object is created by the {@link ObjectFactory}, which should be able to create
+     * instances of interfaces (see {@link #scanClasspathForConcreteTypes(boolean)}).
+     *
+     * Deactivated by default.
+     *
+     * @param lazyProxies whether to populate interface-typed fields with lazy proxies or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters lazyProxies(boolean lazyProxies) {
+        setLazyProxies(lazyProxies);
+        return this;
+    }
+
+    /**
+     * Should interface-typed {@link java.util.List}, {@link java.util.Collection}, {@link java.util.Set}
+     * and {@link java.util.Map} fields be populated with compact immutable implementations? They are backed
+     * by an array of the exact size (with open addressing for sets and maps) instead of carrying growth slack
+     * and an entry object per element, which saves heap for fixtures kept in memory. Lazy collections
+     * (see {@link #lazyCollections(boolean)}) take precedence.
+     *
+     * Deactivated by default.
+     *
+     * @param compactCollections whether to populate collections and maps with compact immutable implementations or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters compactCollections(boolean compactCollections) {
+        setCompactCollections(compactCollections);
+        return this;
+    }
+
+    /**
+     * Should objects be created through a constructor taking one argument per field (an all-args or record
+     * canonical constructor) instead of being created by the {@link ObjectFactory} and populated field by field?
+     * Constructor parameters are mapped to fields by name when parameter names are available (classes compiled
+     * with {@code -parameters} and records), by declaration order and type otherwise. Types without such a
+     * constructor are populated as usual.
+     *
+     * Deactivated by default.
+     *
+     * @param constructorInjection whether to populate objects through their constructor or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters constructorInjection(boolean constructorInjection) {
+        setConstructorInjection(constructorInjection);
+        return this;
+    }
+
+    /**
+     * Copy these parameters. The custom and exclusion registries are copied, so that they can be initialized
+     * by another {@link EasyRandom} concurrently, user registries, randomizers, predicates and policies are shared
+     * with the copy.
+     */
+    EasyRandomParameters copy() {
+        EasyRandomParameters copy = new EasyRandomParameters();
+        copy.seed = seed;
+        copy.objectPoolSize = objectPoolSize;
+        copy.randomizationDepth = randomizationDepth;
+        copy.maxObjects = maxObjects;
+        copy.maxBytes = maxBytes;
+        copy.maxCollectionElements = maxCollectionElements;
+        copy.charset = charset;
+        copy.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
+        copy.overrideDefaultInitialization = overrideDefaultInitialization;
+        copy.ignoreRandomizationErrors = ignoreRandomizationErrors;
+        copy.lazyCollections = lazyCollections;
+        copy.softLazyCollections = softLazyCollections;
+        copy.lazyProxies = lazyProxies;
+        copy.compactCollections = compactCollections;
+        copy.constructorInjection = constructorInjection;
+        copy.collectionSizeRange = collectionSizeRange;
+        copy.stringLengthRange = stringLengthRange;
+        copy.dateRange = dateRange;
+        copy.timeRange = timeRange;
+        copy.exclusionPolicy = exclusionPolicy;
+        copy.collectionSizePolicy = collectionSizePolicy;
+        copy.referenceSharingPolicy = referenceSharingPolicy;
+        copy.generationListener = generationListener;
+        copy.allocationTracking = allocationTracking;
+        copy.bulkNumbers = bulkNumbers;
+        copy.iterativePopulation = iterativePopulation;
+        copy.objectFactory = objectFactory;
+        copy.randomizerProvider = randomizerProvider;
+        copy.customRandomizerRegistry = customRandomizerRegistry.copy();
+        copy.exclusionRandomizerRegistry = exclusionRandomizerRegistry.copy();
+        copy.userRegistries = userRegistries;
+        copy.fieldExclusionPredicates = fieldExclusionPredicates;
+        copy.typeExclusionPredicates = typeExclusionPredicates;
+        copy.fieldStringPools = fieldStringPools;
+        copy.stringPool = stringPool;
+        return copy;
+    }
+
+    private static void checkStringPoolSize(final int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be >= 1");
+        }
+    }
+
     /**
      * Utility class to hold a range of values.
      *
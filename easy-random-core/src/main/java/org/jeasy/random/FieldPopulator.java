@@ -29,7 +29,10 @@ import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
 
 import static org.jeasy.random.util.CollectionUtils.randomElementOf;
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -41,6 +44,7 @@ import static org.jeasy.random.util.ReflectionUtils.*;
  *     <li>{@link EasyRandom} whenever the field is a user defined type.</li>
  *     <li>{@link ArrayPopulator} whenever the field is an array type.</li>
  *     <li>{@link CollectionPopulator}, {@link MapPopulator} whenever the field is a collection type.</li>
+ *     <li>{@link LazyProxies} whenever the field is an interface type and lazy proxies are enabled.</li>
  * </ul>
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
@@ -56,49 +60,147 @@ class FieldPopulator {
 
     private final RandomizerProvider randomizerProvider;
 
+    private final StringPools stringPools;
+
+    private final LazyProxies lazyProxies;
+
     FieldPopulator(final EasyRandom easyRandom, final RandomizerProvider randomizerProvider,
-                   final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator, final MapPopulator mapPopulator) {
+                   final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator, final MapPopulator mapPopulator,
+                   final StringPools stringPools, final LazyProxies lazyProxies) {
         this.easyRandom = easyRandom;
         this.randomizerProvider = randomizerProvider;
         this.arrayPopulator = arrayPopulator;
         this.collectionPopulator = collectionPopulator;
         this.mapPopulator = mapPopulator;
+        this.stringPools = stringPools;
+        this.lazyProxies = lazyProxies;
     }
 
     void populateField(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
+        context.fieldStarted(field);
         Randomizer<?> randomizer = getRandomizer(field, context);
         if (randomizer instanceof SkipRandomizer) {
+            context.fieldExcluded(field);
+            context.fieldCompleted(field);
             return;
         }
         if (randomizer instanceof ContextAwareRandomizer) {
             ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
         }
         context.pushStackItem(new RandomizationContextStackItem(target, field));
+        if (randomizer == null && context.isRecycling() && recycle(target, field, context)) {
+            context.popStackItem();
+            context.fieldCompleted(field);
+            return;
+        }
         if(!context.hasExceededRandomizationDepth()) {
             Object value;
             if (randomizer != null) {
-                value = randomizer.getRandomValue();
+                value = getRandomizedValue(randomizer, field, context);
             } else {
                 try {
                     value = generateRandomValue(field, context);
                 } catch (ObjectCreationException e) {
-                    String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
-                          field.getType().getName(), field.getName(), target.getClass().getName());
                     // FIXME catch ObjectCreationException and throw ObjectCreationException ?
-                    throw new ObjectCreationException(exceptionMessage, e);
+                    throw newFieldException(target, field, e);
                 }
             }
             setProperty(target, field, value);
+            context.popStackItem();
+            context.fieldPopulated(field, value);
+        } else {
+            if (context.isRecycling() && !field.getType().isPrimitive()) {
+                // past the depth limit, fields are left null as in a new object, not bound to a previous graph
+                setProperty(target, field, null);
+            }
+            context.popStackItem();
+        }
+        context.fieldCompleted(field);
+    }
+
+    /**
+     * Generate a random value for the given field of an object that is not created yet,
+     * to be passed as constructor argument.
+     */
+    Object getRandomValue(final Field field, final RandomizationContext context) {
+        context.fieldStarted(field);
+        Randomizer<?> randomizer = getRandomizer(field, context);
+        if (randomizer instanceof SkipRandomizer) {
+            context.fieldExcluded(field);
+            context.fieldCompleted(field);
+            return null;
+        }
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        context.pushStackItem(new RandomizationContextStackItem(null, field));
+        Object value = null;
+        if(!context.hasExceededRandomizationDepth()) {
+            if (randomizer != null) {
+                value = getRandomizedValue(randomizer, field, context);
+            } else {
+                try {
+                    value = generateRandomValue(field, context);
+                } catch (ObjectCreationException e) {
+                    throw newConstructorArgumentException(field, e);
+                }
+            }
+            context.popStackItem();
+            context.fieldPopulated(field, value);
+        } else {
+            context.popStackItem();
+        }
+        context.fieldCompleted(field);
+        return value;
+    }
+
+    /*
+     * Populate the current value of the field in place, if it is a bean, a mutable collection or a mutable map.
+     */
+    private boolean recycle(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
+        Object value = getFieldValue(target, field);
+        if (value == null || context.hasExceededRandomizationDepth()) {
+            return false;
+        }
+        Class<?> valueType = value.getClass();
+        if (value instanceof Collection && isCollectionType(field.getType())) {
+            return collectionPopulator.refillCollection((Collection<?>) value, field, context);
         }
-        context.popStackItem();
+        if (value instanceof Map && isMapType(field.getType())) {
+            return mapPopulator.refillMap((Map<?, ?>) value, field, context);
+        }
+        if (isIntrospectable(valueType) && !isCollectionType(valueType) && !isMapType(valueType)
+                && !valueType.getName().startsWith("java") && !Proxy.isProxyClass(valueType)) {
+            if (context.markRecycled(value)) {
+                easyRandom.populateBean(value, context);
+            }
+            return true;
+        }
+        return false;
     }
 
-    private Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
+    static ObjectCreationException newFieldException(final Object target, final Field field, final ObjectCreationException cause) {
+        return new ObjectCreationException(String.format("Unable to create type: %s for field: %s of class: %s",
+                field.getType().getName(), field.getName(), target.getClass().getName()), cause);
+    }
+
+    static ObjectCreationException newConstructorArgumentException(final Field field, final ObjectCreationException cause) {
+        return new ObjectCreationException(String.format("Unable to create type: %s for constructor argument: %s of class: %s",
+                field.getType().getName(), field.getName(), field.getDeclaringClass().getName()), cause);
+    }
+
+    Object getRandomizedValue(final Randomizer<?> randomizer, final Field field, final RandomizationContext context) {
+        StringPool stringPool = stringPools.isEmpty() ? null : stringPools.getStringPool(field);
+        return stringPool == null ? context.getRandomValue(randomizer) : stringPool.next(easyRandom, () -> (String) randomizer.getRandomValue());
+    }
+
+    Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
         // issue 241: if there is no custom randomizer by field, then check by type
         Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
         if (randomizer == null) {
             randomizer = randomizerProvider.getRandomizerByType(field.getType(), context);
         }
+        context.randomizerSelected(field.getType(), field, randomizer);
         return randomizer;
     }
 
@@ -113,18 +215,27 @@ class FieldPopulator {
             value = collectionPopulator.getRandomCollection(field, context);
         } else if (isMapType(fieldType)) {
             value = mapPopulator.getRandomMap(field, context);
+        } else if (lazyProxies.isLazyProxy(fieldType)) {
+            value = lazyProxies.newLazyProxy(fieldType, context);
         } else {
-            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but can not inherit*/) {
-                Class<?> randomConcreteSubType = randomElementOf(filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), fieldGenericType));
-                if (randomConcreteSubType == null) {
-                    throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
-                } else {
-                    value = easyRandom.doPopulateBean(randomConcreteSubType, context);
-                }
-            } else {
-                value = easyRandom.doPopulateBean(fieldType, context);
-            }
+            value = easyRandom.doPopulateBean(getBeanType(field, context), context);
         }
         return value;
     }
+
+    /*
+     * The type of the bean to generate for the field: the type of the field, or a random concrete subtype
+     * if the field is abstract and classpath scanning is enabled.
+     */
+    Class<?> getBeanType(final Field field, final RandomizationContext context) {
+        Class<?> fieldType = field.getType();
+        if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but can not inherit*/) {
+            Class<?> randomConcreteSubType = randomElementOf(filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), field.getGenericType()));
+            if (randomConcreteSubType == null) {
+                throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
+            }
+            return randomConcreteSubType;
+        }
+        return fieldType;
+    }
 }
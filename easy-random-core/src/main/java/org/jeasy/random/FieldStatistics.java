@@ -0,0 +1,324 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * {@link GenerationListener} computing data-quality statistics of the generated values per field path, in
+ * bounded memory whatever the number of generated objects. Register it with
+ * {@link EasyRandomParameters#generationListener(GenerationListener)} and read the per-field summaries after
+ * a run, for example after consuming {@link EasyRandom#objects(Class, int)}:
+ *
+ * <pre>
+ *     FieldStatistics statistics = new FieldStatistics();
+ *     EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().generationListener(statistics));
+ *     easyRandom.objects(Person.class, 1_000_000).forEach(repository::save);
+ *     FieldStatistics.FieldSummary age = statistics.getSummary("age");
+ * </pre>
+ *
+ * <p>For each field path, the statistics record the number of populations, null values and exclusions,
+ * estimate the number of distinct values with a HyperLogLog sketch, and estimate the quantiles with a KLL
+ * sketch. Quantiles and ranges are computed on the numeric value of numbers, the epoch time of dates and the
+ * length or size of strings, collections, maps and arrays. Distinct values of collections, maps and arrays
+ * are counted on their sizes, and distinct values of beans on their identity.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public class FieldStatistics implements GenerationListener {
+
+    private final ConcurrentMap<String, FieldSketch> sketches = new ConcurrentHashMap<>();
+
+    @Override
+    public void fieldPopulated(final Field field, final Object value, final RandomizerContext context) {
+        getSketch(field, context).add(value);
+    }
+
+    @Override
+    public void fieldExcluded(final Field field, final RandomizerContext context) {
+        // static fields are never populated, they are not part of the generated data
+        if (!Modifier.isStatic(field.getModifiers())) {
+            getSketch(field, context).exclude();
+        }
+    }
+
+    /**
+     * @return the field paths with recorded values or exclusions, sorted
+     */
+    public List<String> getPaths() {
+        List<String> paths = new ArrayList<>(sketches.keySet());
+        Collections.sort(paths);
+        return paths;
+    }
+
+    /**
+     * @param path of the field, as returned by {@link RandomizerContext#getCurrentField()} for the field
+     * @return a snapshot of the statistics of the given field path, or null if nothing has been recorded for it
+     */
+    public FieldSummary getSummary(final String path) {
+        FieldSketch sketch = sketches.get(path);
+        return sketch == null ? null : sketch.summarize(path);
+    }
+
+    /**
+     * Discard the recorded statistics.
+     */
+    public void reset() {
+        sketches.clear();
+    }
+
+    private FieldSketch getSketch(final Field field, final RandomizerContext context) {
+        String parentPath = context.getCurrentField();
+        String path = parentPath.isEmpty() ? field.getName() : parentPath + "." + field.getName();
+        return sketches.computeIfAbsent(path, p -> new FieldSketch());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("FieldStatistics");
+        for (String path : getPaths()) {
+            report.append(System.lineSeparator()).append("  ").append(getSummary(path));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Statistics of the values generated for a field path.
+     */
+    public static class FieldSummary {
+
+        private final String path;
+        private final long populationCount;
+        private final long nullCount;
+        private final long excludedCount;
+        private final long distinctCount;
+        private final long measuredCount;
+        private final double min;
+        private final double max;
+        private final double[][] weightedItems;
+
+        FieldSummary(final String path, final long populationCount, final long nullCount, final long excludedCount,
+                     final long distinctCount, final KllSketch values) {
+            this.path = path;
+            this.populationCount = populationCount;
+            this.nullCount = nullCount;
+            this.excludedCount = excludedCount;
+            this.distinctCount = distinctCount;
+            this.measuredCount = values.getCount();
+            this.min = values.getMin();
+            this.max = values.getMax();
+            this.weightedItems = values.getWeightedItems();
+        }
+
+        /**
+         * @return the field path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the number of values generated for the field
+         */
+        public long getPopulationCount() {
+            return populationCount;
+        }
+
+        /**
+         * @return the number of null values generated for the field
+         */
+        public long getNullCount() {
+            return nullCount;
+        }
+
+        /**
+         * @return the number of times the field has been excluded or skipped
+         */
+        public long getExcludedCount() {
+            return excludedCount;
+        }
+
+        /**
+         * @return the ratio of null values among the generated values, between 0 and 1
+         */
+        public double getNullRate() {
+            return populationCount == 0 ? 0 : (double) nullCount / populationCount;
+        }
+
+        /**
+         * @return the ratio of exclusions among the populations and exclusions of the field, between 0 and 1
+         */
+        public double getExclusionRate() {
+            long total = populationCount + excludedCount;
+            return total == 0 ? 0 : (double) excludedCount / total;
+        }
+
+        /**
+         * @return the estimated number of distinct non null values
+         */
+        public long getDistinctCount() {
+            return distinctCount;
+        }
+
+        /**
+         * @return the number of values with a numeric measure (number, date, length or size)
+         */
+        public long getMeasuredCount() {
+            return measuredCount;
+        }
+
+        /**
+         * @return the smallest measure, or NaN if no value has been measured
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * @return the largest measure, or NaN if no value has been measured
+         */
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * @param fraction of the measured values, between 0 and 1 (0.5 for the median)
+         * @return the estimated quantile of the measures, or NaN if no value has been measured
+         */
+        public double getQuantile(final double fraction) {
+            if (fraction < 0 || fraction > 1) {
+                throw new IllegalArgumentException("The quantile fraction must be between 0 and 1");
+            }
+            return KllSketch.getQuantile(weightedItems, measuredCount, min, max, fraction);
+        }
+
+        @Override
+        public String toString() {
+            String summary = format("%s: populations=%d, nulls=%d, excluded=%d, distinct~%d", path, populationCount,
+                    nullCount, excludedCount, distinctCount);
+            if (measuredCount > 0) {
+                summary += format(", min=%s, p50~%s, p99~%s, max=%s", min, getQuantile(0.5), getQuantile(0.99), max);
+            }
+            return summary;
+        }
+    }
+
+    private static class FieldSketch {
+
+        private final HyperLogLog distinctValues = new HyperLogLog();
+        private final KllSketch values = new KllSketch();
+        private long populationCount;
+        private long nullCount;
+        private long excludedCount;
+
+        synchronized void add(final Object value) {
+            populationCount++;
+            if (value == null) {
+                nullCount++;
+                return;
+            }
+            distinctValues.add(HyperLogLog.hash(hashOf(value)));
+            values.add(measureOf(value));
+        }
+
+        synchronized void exclude() {
+            excludedCount++;
+        }
+
+        synchronized FieldSummary summarize(final String path) {
+            return new FieldSummary(path, populationCount, nullCount, excludedCount, distinctValues.estimate(), values);
+        }
+
+        /*
+         * Hash collections, maps and arrays on their sizes (hashing their content would be costly, and would
+         * materialize lazy collections) and beans on their identity.
+         */
+        private static long hashOf(final Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return Double.doubleToLongBits(((Number) value).doubleValue());
+            }
+            if (value instanceof Collection || value instanceof Map || value.getClass().isArray()) {
+                return (long) measureOf(value);
+            }
+            Class<?> type = value.getClass();
+            if (type.isEnum() || type.getName().startsWith("java.")) {
+                return value.hashCode();
+            }
+            return System.identityHashCode(value);
+        }
+
+        private static double measureOf(final Object value) {
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            if (value instanceof Date) {
+                return ((Date) value).getTime();
+            }
+            if (value instanceof Instant) {
+                return ((Instant) value).getEpochSecond();
+            }
+            if (value instanceof LocalDate) {
+                return ((LocalDate) value).toEpochDay();
+            }
+            if (value instanceof LocalDateTime) {
+                return ((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC);
+            }
+            if (value instanceof CharSequence) {
+                return ((CharSequence) value).length();
+            }
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).size();
+            }
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).size();
+            }
+            if (value.getClass().isArray()) {
+                return Array.getLength(value);
+            }
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Budget of a single call to {@link EasyRandom#nextObject(Class)}, bounding the number of generated
+ * objects, their estimated size in bytes and the number of generated collection elements.
+ * See {@link EasyRandomParameters#maxObjects(long)}, {@link EasyRandomParameters#maxBytes(long)}
+ * and {@link EasyRandomParameters#maxCollectionElements(long)}.
+ *
+ * <p>Once the object or byte budget is spent, beans that remain to be generated are set to null and
+ * collections, maps and arrays are empty. Collections, maps and arrays are shrunk to the remaining
+ * collection element budget. Since the budget is consumed in generation order, the truncated object
+ * graph is the same for the same seed.</p>
+ *
+ * <p>Sizes are shallow sizes estimated for a 64-bit JVM with compressed references: beans account for
+ * their header and fields, arrays for their header and slots, and each collection and map element for
+ * {@value #ELEMENT_BYTES} bytes. Values generated by randomizers (strings, numbers, dates, etc) are not
+ * accounted.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class GenerationBudget {
+
+    static final int ELEMENT_BYTES = 16;
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    private static final Map<Class<?>, Long> SHALLOW_SIZES = new ConcurrentHashMap<>();
+
+    private final long maxObjects;
+    private final long maxBytes;
+    private final long maxCollectionElements;
+
+    private long objects;
+    private long bytes;
+    private long collectionElements;
+
+    GenerationBudget(final EasyRandomParameters parameters) {
+        maxObjects = parameters.getMaxObjects();
+        maxBytes = parameters.getMaxBytes();
+        maxCollectionElements = parameters.getMaxCollectionElements();
+    }
+
+    /**
+     * Get the number of beans generated so far.
+     *
+     * @return the number of generated beans
+     */
+    public long getObjects() {
+        return objects;
+    }
+
+    /**
+     * Get the estimated size of the beans, collections, maps and arrays generated so far.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the number of collection, map and array elements generated so far.
+     *
+     * @return the number of generated elements
+     */
+    public long getCollectionElements() {
+        return collectionElements;
+    }
+
+    /**
+     * Is the object or byte budget spent? When it is, no more beans are generated.
+     *
+     * @return true if the object or byte budget is spent
+     */
+    public boolean isExhausted() {
+        return objects >= maxObjects || bytes >= maxBytes;
+    }
+
+    void addObject(final Object object) {
+        objects++;
+        bytes += shallowSizeOf(object.getClass());
+    }
+
+    /**
+     * Shrink the requested size of a collection or map to the remaining budget, and consume it.
+     */
+    int collectionSize(final int requestedSize) {
+        int size = allowedSize(requestedSize);
+        collectionElements += size;
+        bytes += (long) size * ELEMENT_BYTES;
+        return size;
+    }
+
+    /**
+     * Shrink the requested length of an array to the remaining budget, and consume it.
+     */
+    int arrayLength(final int requestedLength, final Class<?> componentType) {
+        int length = allowedSize(requestedLength);
+        collectionElements += length;
+        bytes += align(ARRAY_HEADER_BYTES + (long) length * sizeOf(componentType));
+        return length;
+    }
+
+    private int allowedSize(final int requestedSize) {
+        if (isExhausted()) {
+            return 0;
+        }
+        return (int) Math.min(requestedSize, maxCollectionElements - collectionElements);
+    }
+
+    static long shallowSizeOf(final Class<?> type) {
+        return SHALLOW_SIZES.computeIfAbsent(type, key -> {
+            long size = OBJECT_HEADER_BYTES;
+            for (Class<?> current = key; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += sizeOf(field.getType());
+                    }
+                }
+            }
+            return align(size);
+        });
+    }
+
+    private static int sizeOf(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long align(final long size) {
+        return (size + 7) & ~7;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationBudget(objects=" + objects + ", bytes=" + bytes + ", collectionElements=" + collectionElements + ")";
+    }
+}
@@ -0,0 +1,456 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.GenerationReport.FieldReport;
+import org.jeasy.random.GenerationReport.Resolution;
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.api.RandomizerProvider;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+
+import static org.jeasy.random.util.ReflectionUtils.*;
+
+/**
+ * Builds {@link GenerationReport}s by walking the same decisions as {@link EasyRandom#doPopulateBean(Class, RandomizationContext)}
+ * and {@link FieldPopulator} without generating values, and optionally by sampling real generations.
+ */
+class GenerationExplainer {
+
+    private static final int COLLECTION_SIZE_DRAWS = 64;
+    private static final double PRIMITIVE_ARRAY_SIZE = 64; // mean of abs((byte) nextInt())
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int HASH_NODE = 32;
+
+    private final EasyRandomParameters parameters;
+    private final RandomizerProvider randomizerProvider;
+    private final ExclusionPolicy exclusionPolicy;
+    private final LazyProxies lazyProxies;
+    private final Random random;
+    private final Map<Class<?>, Long> shallowSizes = new HashMap<>();
+    private final Map<Class<?>, Integer> populatedBeans = new HashMap<>();
+    private final List<FieldReport> fields = new ArrayList<>();
+    private double objects;
+    private double bytes;
+
+    GenerationExplainer(final EasyRandomParameters parameters, final RandomizerProvider randomizerProvider) {
+        this.parameters = parameters;
+        this.randomizerProvider = randomizerProvider;
+        this.exclusionPolicy = parameters.getExclusionPolicy();
+        this.lazyProxies = new LazyProxies(parameters, null);
+        this.random = new Random(parameters.getSeed());
+    }
+
+    GenerationReport explain(final Class<?> type) {
+        walkObject(type, 1, "", new RandomizationContext(type, parameters));
+        return new GenerationReport(type, fields, objects, Math.round(bytes));
+    }
+
+    GenerationReport explain(final Class<?> type, final int samples) {
+        GenerationReport report = explain(type);
+        Sampler sampler = new Sampler(parameters);
+        EasyRandom easyRandom = new EasyRandom(parameters.copy().generationListener(sampler));
+        long nanos = 0;
+        long allocatedBytes = 0;
+        for (int i = 0; i < samples; i++) {
+            long startBytes = ThreadAllocations.getAllocatedBytes();
+            long startTime = System.nanoTime();
+            easyRandom.nextObject(type);
+            nanos += System.nanoTime() - startTime;
+            allocatedBytes += ThreadAllocations.getAllocatedBytes() - startBytes;
+        }
+        boolean allocationsSupported = ThreadAllocations.isSupported();
+        long[] overhead = sampler.getTotalOverhead();
+        report.setSample(samples, (double) sampler.objects / samples, Math.max(0, nanos - overhead[0]) / samples,
+                allocationsSupported ? Math.max(0, allocatedBytes - overhead[1]) / samples : -1);
+        for (FieldReport field : report.getFields()) {
+            long[] sample = sampler.paths.get(field.getPath());
+            if (sample != null) {
+                field.setSample(sample[0] / samples, allocationsSupported ? sample[1] / samples : -1);
+            }
+        }
+        return report;
+    }
+
+    /*
+     * Mirrors EasyRandom#doPopulateBean
+     */
+    private void walkObject(final Class<?> type, final double count, final String path, final RandomizationContext context) {
+        if (exclusionPolicy.shouldBeExcluded(type, context)) {
+            return;
+        }
+        if (randomizerProvider.getRandomizerByType(type, context) != null) {
+            addValue(type, count);
+            return;
+        }
+        if (!isIntrospectable(type)) {
+            if (!isEnumType(type)) {
+                objects += count;
+                bytes += count * ARRAY_HEADER;
+            }
+            return;
+        }
+        if (isPooled(type)) {
+            fields.add(new FieldReport(path, type, Resolution.OBJECT_POOL, null, null, 0, count));
+            return;
+        }
+        objects += count;
+        bytes += count * shallowSizeOf(type);
+        populatedBeans.merge(type, 1, Integer::sum);
+        for (Field field : getFields(type)) {
+            walkField(field, count, context);
+        }
+    }
+
+    /*
+     * Mirrors RandomizationContext#hasAlreadyRandomizedType: beans of a type are reused from the object pool once
+     * objectPoolSize of them have been populated anywhere in the graph, which also bounds the walk of types
+     * referencing themselves several times.
+     */
+    private boolean isPooled(final Class<?> type) {
+        return populatedBeans.getOrDefault(type, 0) >= parameters.getObjectPoolSize();
+    }
+
+    /*
+     * Mirrors EasyRandom#populateField and FieldPopulator#populateField
+     */
+    private void walkField(final Field field, final double count, final RandomizationContext context) {
+        String parentPath = context.getCurrentField();
+        String path = parentPath.isEmpty() ? field.getName() : parentPath + "." + field.getName();
+        Class<?> fieldType = field.getType();
+        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+            fields.add(new FieldReport(path, fieldType, Resolution.EXCLUDED, null, null, 0, count));
+            return;
+        }
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
+        Field lookupField = field;
+        if (randomizer == null) {
+            randomizer = randomizerProvider.getRandomizerByType(fieldType, context);
+            lookupField = null;
+        }
+        if (randomizer instanceof SkipRandomizer) {
+            fields.add(new FieldReport(path, fieldType, Resolution.SKIPPED, null, null, 0, count));
+            return;
+        }
+        context.pushStackItem(new RandomizationContextStackItem(null, field));
+        try {
+            if (context.hasExceededRandomizationDepth()) {
+                fields.add(new FieldReport(path, fieldType, Resolution.DEPTH_LIMIT, null, null, 0, count));
+            } else if (randomizer != null) {
+                fields.add(new FieldReport(path, fieldType, Resolution.RANDOMIZER, randomizer.getClass(),
+                        getProvidingRegistry(lookupField, fieldType), 0, count));
+                addValue(fieldType, count);
+            } else {
+                walkFieldValue(field, path, count, context);
+            }
+        } finally {
+            context.popStackItem();
+        }
+    }
+
+    /*
+     * Mirrors FieldPopulator#generateRandomValue
+     */
+    private void walkFieldValue(final Field field, final String path, final double count, final RandomizationContext context) {
+        Class<?> fieldType = field.getType();
+        Type fieldGenericType = field.getGenericType();
+        if (isArrayType(fieldType)) {
+            Class<?> componentType = fieldType.getComponentType();
+            if (componentType.isPrimitive()) {
+                fields.add(new FieldReport(path, fieldType, Resolution.ARRAY, null, null, PRIMITIVE_ARRAY_SIZE, count));
+                objects += count;
+                bytes += count * align(ARRAY_HEADER + PRIMITIVE_ARRAY_SIZE * primitiveSizeOf(componentType));
+            } else {
+                double size = getExpectedCollectionSize(context);
+                fields.add(new FieldReport(path, fieldType, Resolution.ARRAY, null, null, size, count));
+                objects += count;
+                bytes += count * align(ARRAY_HEADER + size * REFERENCE);
+                walkObject(componentType, count * size, path, context);
+            }
+        } else if (isCollectionType(fieldType)) {
+            double size = getExpectedCollectionSize(context);
+            fields.add(new FieldReport(path, fieldType, Resolution.COLLECTION, null, null, size, count));
+            objects += count;
+            bytes += count * collectionSizeOf(fieldType, size);
+            Type[] typeArguments = getTypeArguments(fieldGenericType);
+            if (typeArguments.length == 1 && isPopulatable(typeArguments[0])) {
+                walkObject((Class<?>) typeArguments[0], count * size, path, context);
+            }
+        } else if (isMapType(fieldType)) {
+            double size = getExpectedCollectionSize(context);
+            fields.add(new FieldReport(path, fieldType, Resolution.MAP, null, null, size, count));
+            objects += count;
+            bytes += count * collectionSizeOf(fieldType, size);
+            Type[] typeArguments = getTypeArguments(fieldGenericType);
+            if (typeArguments.length == 2 && isPopulatable(typeArguments[0]) && isPopulatable(typeArguments[1])) {
+                walkObject((Class<?>) typeArguments[0], count * size, path, context);
+                walkObject((Class<?>) typeArguments[1], count * size, path, context);
+            }
+        } else if (lazyProxies.isLazyProxy(fieldType)) {
+            fields.add(new FieldReport(path, fieldType, Resolution.LAZY_PROXY, null, null, 0, count));
+            objects += count;
+            bytes += count * OBJECT_HEADER * 2;
+        } else if (parameters.isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType)) {
+            fields.add(new FieldReport(path, fieldType, Resolution.ABSTRACT_TYPE, null, null, 0, count));
+        } else if (isEnumType(fieldType)) {
+            fields.add(new FieldReport(path, fieldType, Resolution.RANDOMIZER, EnumRandomizer.class, null, 0, count));
+        } else {
+            if (isIntrospectable(fieldType) && !isPooled(fieldType)) {
+                fields.add(new FieldReport(path, fieldType, Resolution.BEAN, null, null, 0, count));
+            }
+            walkObject(fieldType, count, path, context);
+        }
+    }
+
+    private Class<?> getProvidingRegistry(final Field field, final Class<?> type) {
+        if (!(randomizerProvider instanceof RegistriesRandomizerProvider)) {
+            return null;
+        }
+        RandomizerRegistry registry = ((RegistriesRandomizerProvider) randomizerProvider).getProvidingRegistry(field, type);
+        return registry == null ? null : registry.getClass();
+    }
+
+    private double getExpectedCollectionSize(final RandomizationContext context) {
+        long total = 0;
+        for (int i = 0; i < COLLECTION_SIZE_DRAWS; i++) {
+            total += parameters.getCollectionSizePolicy().getCollectionSize(context, random);
+        }
+        return (double) total / COLLECTION_SIZE_DRAWS;
+    }
+
+    private List<Field> getFields(final Class<?> type) {
+        List<Field> declaredFields = new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+        declaredFields.addAll(getInheritedFields(type));
+        if (type.getEnclosingClass() != null) {
+            declaredFields.removeIf(field -> field.getName().equals("this$0"));
+        }
+        // static fields are never populated, they are left out of the report
+        declaredFields.removeIf(ReflectionUtils::isStatic);
+        return declaredFields;
+    }
+
+    private static Type[] getTypeArguments(final Type type) {
+        return isParameterizedType(type) ? ((ParameterizedType) type).getActualTypeArguments() : new Type[0];
+    }
+
+    /*
+     * Size estimations, for a 64-bit JVM with compressed references
+     */
+
+    private void addValue(final Class<?> type, final double count) {
+        if (type.isPrimitive() || isEnumType(type)) {
+            return;
+        }
+        if (type == String.class) {
+            EasyRandomParameters.Range<Integer> lengthRange = parameters.getStringLengthRange();
+            double length = (lengthRange.getMin() + lengthRange.getMax()) / 2.0;
+            objects += count * 2;
+            bytes += count * (shallowSizeOf(String.class) + align(ARRAY_HEADER + 2 * length));
+            return;
+        }
+        objects += count;
+        bytes += count * shallowSizeOf(type);
+    }
+
+    private long shallowSizeOf(final Class<?> type) {
+        if (type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return ARRAY_HEADER;
+        }
+        return shallowSizes.computeIfAbsent(type, t -> {
+            long size = OBJECT_HEADER;
+            for (Class<?> current = t; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!isStatic(field)) {
+                        size += field.getType().isPrimitive() ? primitiveSizeOf(field.getType()) : REFERENCE;
+                    }
+                }
+            }
+            return align(size);
+        });
+    }
+
+    private static double collectionSizeOf(final Class<?> type, final double size) {
+        if (List.class.isAssignableFrom(type) || Queue.class.isAssignableFrom(type)) {
+            return 24 + align(ARRAY_HEADER + size * REFERENCE);
+        }
+        int capacity = Math.max(1, (int) Math.ceil(size / 0.75));
+        double tableSize = Integer.highestOneBit(capacity * 2 - 1);
+        return 48 + align(ARRAY_HEADER + tableSize * REFERENCE) + size * HASH_NODE;
+    }
+
+    private static int primitiveSizeOf(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(final double size) {
+        return ((long) Math.ceil(size) + 7) & ~7L;
+    }
+
+    /*
+     * Inclusive time and allocations per field path of sampled generations. The cost of the measurements
+     * themselves is calibrated and subtracted.
+     */
+    private static class Sampler implements GenerationListener {
+
+        private static final int CALIBRATION_ROUNDS = 1000;
+
+        private final Map<String, long[]> paths = new HashMap<>();
+        private final Deque<Entry> started = new ArrayDeque<>();
+        private long objects;
+        private long measuredFields;
+        private long[] selfOverhead = {0, 0};
+        private long[] nestedOverhead = {0, 0};
+
+        Sampler(final EasyRandomParameters parameters) {
+            calibrate(parameters);
+        }
+
+        @Override
+        public void objectStarted(final Class<?> type, final RandomizerContext context) {
+            started.push(new Entry(null, null));
+        }
+
+        @Override
+        public void objectCompleted(final Class<?> type, final Object object, final RandomizerContext context) {
+            Entry entry = started.pop();
+            if (!started.isEmpty()) {
+                started.peek().nested += entry.nested;
+            }
+            objects++;
+        }
+
+        @Override
+        public void objectFailed(final Class<?> type, final Throwable error, final RandomizerContext context) {
+            while (!started.isEmpty() && started.pop().field != null) {
+                // discard the fields of the failed object
+            }
+        }
+
+        @Override
+        public void fieldStarted(final Field field, final RandomizerContext context) {
+            String parentPath = context.getCurrentField();
+            Entry entry = new Entry(field, parentPath.isEmpty() ? field.getName() : parentPath + "." + field.getName());
+            started.push(entry);
+            entry.startTime = System.nanoTime();
+            entry.startBytes = ThreadAllocations.getAllocatedBytes();
+        }
+
+        @Override
+        public void fieldCompleted(final Field field, final RandomizerContext context) {
+            long endBytes = ThreadAllocations.getAllocatedBytes();
+            long endTime = System.nanoTime();
+            if (started.isEmpty() || started.peek().field != field) {
+                return;
+            }
+            Entry entry = started.pop();
+            long[] sample = paths.computeIfAbsent(entry.path, p -> new long[2]);
+            sample[0] += Math.max(0, endTime - entry.startTime - selfOverhead[0] - entry.nested * nestedOverhead[0]);
+            sample[1] += Math.max(0, endBytes - entry.startBytes - selfOverhead[1] - entry.nested * nestedOverhead[1]);
+            if (!started.isEmpty()) {
+                started.peek().nested += entry.nested + 1;
+            }
+            measuredFields++;
+        }
+
+        /*
+         * Total measurement cost included in a root object generation.
+         */
+        long[] getTotalOverhead() {
+            return new long[]{measuredFields * nestedOverhead[0], measuredFields * nestedOverhead[1]};
+        }
+
+        private void calibrate(final EasyRandomParameters parameters) {
+            RandomizationContext context = new RandomizationContext(Object.class, parameters);
+            Field field;
+            try {
+                field = Sampler.class.getDeclaredField("objects");
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+            long[] self = {Long.MAX_VALUE, Long.MAX_VALUE};
+            long[] nested = {Long.MAX_VALUE, Long.MAX_VALUE};
+            for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+                long startBytes = ThreadAllocations.getAllocatedBytes();
+                long startTime = System.nanoTime();
+                fieldStarted(field, context);
+                fieldCompleted(field, context);
+                long endTime = System.nanoTime();
+                long endBytes = ThreadAllocations.getAllocatedBytes();
+                long[] sample = paths.get(field.getName());
+                self[0] = Math.min(self[0], sample[0]);
+                self[1] = Math.min(self[1], sample[1]);
+                nested[0] = Math.min(nested[0], endTime - startTime);
+                nested[1] = Math.min(nested[1], endBytes - startBytes);
+                paths.clear();
+            }
+            selfOverhead = self;
+            nestedOverhead = nested;
+            measuredFields = 0;
+        }
+
+        private static class Entry {
+
+            private final Field field;
+            private final String path;
+            private long startTime;
+            private long startBytes;
+            private long nested;
+
+            Entry(final Field field, final String path) {
+                this.field = field;
+                this.path = path;
+            }
+        }
+    }
+}
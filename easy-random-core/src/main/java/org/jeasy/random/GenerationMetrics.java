@@ -0,0 +1,299 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * A low overhead {@link GenerationListener} aggregating generation metrics: objects and fields per second,
+ * latency percentiles per type, time spent per field, registry hit rate and collection sizes.
+ * Counters are striped ({@link LongAdder}) and histograms are lock-free, so a single instance can be shared
+ * between {@link EasyRandom} instances and threads.
+ *
+ * <p>Object latencies are inclusive: the latency of an object includes the time spent generating the
+ * objects it references.</p>
+ *
+ * <pre>
+ * GenerationMetrics metrics = new GenerationMetrics();
+ * EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().generationListener(metrics));
+ * </pre>
+ */
+public class GenerationMetrics implements GenerationListener {
+
+    private final LongAdder objects = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder fields = new LongAdder();
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder registryMisses = new LongAdder();
+    private final LongAdder collections = new LongAdder();
+    private final LongAdder collectionElements = new LongAdder();
+    private final ConcurrentMap<Class<?>, LatencyHistogram> typeLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Field, LongAdder[]> fieldTimes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Timers> timers = ThreadLocal.withInitial(Timers::new);
+    private volatile long startTime = System.nanoTime();
+
+    @Override
+    public void objectStarted(final Class<?> type, final RandomizerContext context) {
+        timers.get().start(type);
+    }
+
+    @Override
+    public void objectCompleted(final Class<?> type, final Object object, final RandomizerContext context) {
+        long elapsed = timers.get().stop(type);
+        if (elapsed >= 0) {
+            typeLatencies.computeIfAbsent(type, t -> new LatencyHistogram()).record(elapsed);
+        }
+        objects.increment();
+    }
+
+    @Override
+    public void objectFailed(final Class<?> type, final Throwable error, final RandomizerContext context) {
+        timers.get().unwind(type);
+        failures.increment();
+    }
+
+    @Override
+    public void fieldStarted(final Field field, final RandomizerContext context) {
+        timers.get().start(field);
+    }
+
+    @Override
+    public void fieldCompleted(final Field field, final RandomizerContext context) {
+        long elapsed = timers.get().stop(field);
+        if (elapsed >= 0) {
+            LongAdder[] counters = fieldTimes.computeIfAbsent(field, f -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            counters[0].increment();
+            counters[1].add(elapsed);
+        }
+        fields.increment();
+    }
+
+    @Override
+    public void randomizerSelected(final Class<?> type, final Field field, final Randomizer<?> randomizer, final RandomizerContext context) {
+        if (randomizer != null) {
+            registryHits.increment();
+        } else {
+            registryMisses.increment();
+        }
+    }
+
+    @Override
+    public void collectionSized(final int size, final RandomizerContext context) {
+        collections.increment();
+        collectionElements.add(size);
+    }
+
+    /**
+     * @return number of objects generated (not counting values provided by randomizers)
+     */
+    public long getObjectCount() {
+        return objects.sum();
+    }
+
+    /**
+     * @return number of objects whose generation failed
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return number of populated fields
+     */
+    public long getFieldCount() {
+        return fields.sum();
+    }
+
+    /**
+     * @return objects generated per second since the creation of this instance or the last {@link #reset()}
+     */
+    public double getObjectsPerSecond() {
+        return perSecond(getObjectCount());
+    }
+
+    /**
+     * @return fields populated per second since the creation of this instance or the last {@link #reset()}
+     */
+    public double getFieldsPerSecond() {
+        return perSecond(getFieldCount());
+    }
+
+    /**
+     * @return ratio of randomizer lookups for which a registry provided a randomizer, between 0 and 1
+     */
+    public double getRegistryHitRate() {
+        long hits = registryHits.sum();
+        long lookups = hits + registryMisses.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return average size chosen by the collection size policy
+     */
+    public double getAverageCollectionSize() {
+        long count = collections.sum();
+        return count == 0 ? 0 : (double) collectionElements.sum() / count;
+    }
+
+    /**
+     * @return the types of the generated objects
+     */
+    public Set<Class<?>> getTypes() {
+        return Collections.unmodifiableSet(typeLatencies.keySet());
+    }
+
+    /**
+     * @param type of the objects
+     * @return number of objects of the given type generated
+     */
+    public long getObjectCount(final Class<?> type) {
+        LatencyHistogram histogram = typeLatencies.get(type);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Get a latency percentile of the generation of objects of the given type.
+     * The value is approximated (by excess) with a relative error below 12.5%.
+     *
+     * @param type of the objects
+     * @param percentile between 0 and 100, for example 99 for the 99th percentile
+     * @return the latency in nanoseconds, or 0 if no object of the type has been generated
+     */
+    public long getLatencyPercentile(final Class<?> type, final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+        LatencyHistogram histogram = typeLatencies.get(type);
+        return histogram == null ? 0 : histogram.getPercentile(percentile);
+    }
+
+    /**
+     * @param field populated
+     * @return number of times the given field has been populated
+     */
+    public long getFieldCount(final Field field) {
+        LongAdder[] counters = fieldTimes.get(field);
+        return counters == null ? 0 : counters[0].sum();
+    }
+
+    /**
+     * @param field populated
+     * @return total time spent populating the given field, in nanoseconds
+     */
+    public long getFieldTime(final Field field) {
+        LongAdder[] counters = fieldTimes.get(field);
+        return counters == null ? 0 : counters[1].sum();
+    }
+
+    /**
+     * Reset all metrics. Generations in progress while resetting may be partially accounted.
+     */
+    public void reset() {
+        objects.reset();
+        failures.reset();
+        fields.reset();
+        registryHits.reset();
+        registryMisses.reset();
+        collections.reset();
+        collectionElements.reset();
+        typeLatencies.clear();
+        fieldTimes.clear();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(format("objects: %d (%.1f/s), failures: %d, fields: %d (%.1f/s), registry hit rate: %.3f, average collection size: %.1f%n",
+                getObjectCount(), getObjectsPerSecond(), getFailureCount(), getFieldCount(), getFieldsPerSecond(),
+                getRegistryHitRate(), getAverageCollectionSize()));
+        typeLatencies.forEach((type, histogram) -> report.append(format("%s: count=%d, p50=%dns, p90=%dns, p99=%dns, max=%dns%n",
+                type.getName(), histogram.getCount(), histogram.getPercentile(50), histogram.getPercentile(90),
+                histogram.getPercentile(99), histogram.getPercentile(100))));
+        return report.toString();
+    }
+
+    private double perSecond(final long count) {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed <= 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /*
+     * Start times of the objects and fields in progress on the current thread.
+     */
+    private static class Timers {
+
+        private Object[] keys = new Object[16];
+        private long[] startTimes = new long[16];
+        private int size;
+
+        void start(final Object key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                startTimes = Arrays.copyOf(startTimes, size * 2);
+            }
+            keys[size] = key;
+            startTimes[size++] = System.nanoTime();
+        }
+
+        /*
+         * Return the time elapsed since the given key was started, or -1 if it is not the last started key.
+         */
+        long stop(final Object key) {
+            if (size == 0 || keys[size - 1] != key) {
+                return -1;
+            }
+            keys[--size] = null;
+            return System.nanoTime() - startTimes[size];
+        }
+
+        /*
+         * Discard the given key and the keys started after it, which will not be stopped.
+         */
+        void unwind(final Object key) {
+            int index = size - 1;
+            while (index >= 0 && keys[index] != key) {
+                index--;
+            }
+            if (index < 0) {
+                return;
+            }
+            Arrays.fill(keys, index, size, null);
+            size = index;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Report of what {@link EasyRandom#nextObject(Class)} does for a type, see {@link EasyRandom#explain(Class)}.
+ *
+ * <p>Estimates are computed statically from the type, the parameters and the registered randomizers, without
+ * generating values: collection sizes are averaged over draws of the collection size policy, recursive types are
+ * counted once (actual generation unrolls them until the object pool is full) and sizes assume a 64-bit JVM with
+ * compressed references. Sampled values, when requested with {@link EasyRandom#explain(Class, int)}, are averages
+ * per root object measured on real generations.</p>
+ */
+@Getter
+public class GenerationReport {
+
+    /**
+     * How the value of a field is generated.
+     */
+    public enum Resolution {
+        /** Generated by a randomizer. */
+        RANDOMIZER,
+        /** Excluded by the exclusion policy, left untouched. */
+        EXCLUDED,
+        /** Skipped by a {@link org.jeasy.random.randomizers.misc.SkipRandomizer}, left untouched. */
+        SKIPPED,
+        /** A bean generated by introspection of its fields. */
+        BEAN,
+        /** An array, with elements generated like beans. */
+        ARRAY,
+        /** A collection, with elements generated like beans. */
+        COLLECTION,
+        /** A map, with keys and values generated like beans. */
+        MAP,
+        /** A lazy proxy, generated on first use. */
+        LAZY_PROXY,
+        /** An abstract type, replaced by a random concrete subtype found on the classpath. */
+        ABSTRACT_TYPE,
+        /** Recursion cut point: a type generated as many times as the object pool size higher in the graph, reused from the pool. */
+        OBJECT_POOL,
+        /** Recursion cut point: the randomization depth is exceeded, the field is left untouched. */
+        DEPTH_LIMIT
+    }
+
+    /**
+     * Report of a field path.
+     */
+    @Getter
+    public static class FieldReport {
+
+        /**
+         * Path of the field from the root type, like {@link org.jeasy.random.api.RandomizerContext#getCurrentField()}.
+         */
+        private final String path;
+
+        /**
+         * Type of the field (or of the elements, for {@link Resolution#OBJECT_POOL} cut points of collections).
+         */
+        private final Class<?> type;
+
+        private final Resolution resolution;
+
+        /**
+         * Class of the randomizer, for {@link Resolution#RANDOMIZER}.
+         */
+        private final Class<?> randomizer;
+
+        /**
+         * Class of the registry providing the randomizer, or null if the randomizer is not provided by a registry
+         * (enumerations, custom randomizer provider).
+         */
+        private final Class<?> registry;
+
+        /**
+         * Expected size of arrays, collections and maps.
+         */
+        private final double expectedSize;
+
+        /**
+         * Expected number of times this field path is populated per root object.
+         */
+        private final double expectedCount;
+
+        /**
+         * Average time spent populating this field path per sampled root object, in nanoseconds (-1 if not sampled).
+         */
+        private long sampledNanos = -1;
+
+        /**
+         * Average bytes allocated populating this field path per sampled root object (-1 if not sampled or not supported).
+         */
+        private long sampledBytes = -1;
+
+        FieldReport(final String path, final Class<?> type, final Resolution resolution, final Class<?> randomizer,
+                    final Class<?> registry, final double expectedSize, final double expectedCount) {
+            this.path = path;
+            this.type = type;
+            this.resolution = resolution;
+            this.randomizer = randomizer;
+            this.registry = registry;
+            this.expectedSize = expectedSize;
+            this.expectedCount = expectedCount;
+        }
+
+        void setSample(final long sampledNanos, final long sampledBytes) {
+            this.sampledNanos = sampledNanos;
+            this.sampledBytes = sampledBytes;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder line = new StringBuilder(format("%-40s %-24s %-13s", path, type.getSimpleName(), resolution));
+            if (randomizer != null) {
+                line.append(' ').append(randomizer.getSimpleName());
+                if (registry != null) {
+                    line.append(" (").append(registry.getSimpleName()).append(')');
+                }
+            }
+            if (expectedSize > 0) {
+                line.append(format(" size=%.1f", expectedSize));
+            }
+            line.append(format(" count=%.1f", expectedCount));
+            if (sampledNanos >= 0) {
+                line.append(format(" time=%dns", sampledNanos));
+            }
+            if (sampledBytes >= 0) {
+                line.append(format(" allocated=%dB", sampledBytes));
+            }
+            return line.toString();
+        }
+    }
+
+    private final Class<?> type;
+
+    /**
+     * Reports of the field paths, in generation order.
+     */
+    private final List<FieldReport> fields;
+
+    /**
+     * Estimated number of objects (beans, collections, maps, arrays and non primitive values) per root object.
+     */
+    private final double estimatedObjectCount;
+
+    /**
+     * Estimated retained size of a root object, in bytes.
+     */
+    private final long estimatedBytes;
+
+    /**
+     * Number of sampled generations (0 if not sampled).
+     */
+    private int samples;
+
+    /**
+     * Average number of beans generated per sampled root object.
+     */
+    private double sampledObjectCount;
+
+    /**
+     * Average generation time per sampled root object, in nanoseconds.
+     */
+    private long sampledNanos;
+
+    /**
+     * Average bytes allocated per sampled root object (-1 if not supported by the JVM).
+     */
+    private long sampledBytes;
+
+    GenerationReport(final Class<?> type, final List<FieldReport> fields, final double estimatedObjectCount, final long estimatedBytes) {
+        this.type = type;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.estimatedObjectCount = estimatedObjectCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    void setSample(final int samples, final double sampledObjectCount, final long sampledNanos, final long sampledBytes) {
+        this.samples = samples;
+        this.sampledObjectCount = sampledObjectCount;
+        this.sampledNanos = sampledNanos;
+        this.sampledBytes = sampledBytes;
+    }
+
+    /**
+     * @return reports of the fields left unpopulated, excluded by the exclusion policy or skipped
+     * (like fields annotated with {@link org.jeasy.random.annotation.Exclude})
+     */
+    public List<FieldReport> getExcludedFields() {
+        return fields.stream()
+                .filter(field -> field.resolution == Resolution.EXCLUDED || field.resolution == Resolution.SKIPPED)
+                .collect(toList());
+    }
+
+    /**
+     * @return reports of the recursion cut points, from the object pool and the randomization depth limit
+     */
+    public List<FieldReport> getCutPoints() {
+        return fields.stream()
+                .filter(field -> field.resolution == Resolution.OBJECT_POOL || field.resolution == Resolution.DEPTH_LIMIT)
+                .collect(toList());
+    }
+
+    /**
+     * @param path of the field
+     * @return the report of the given field path, or null if the path is not generated
+     */
+    public FieldReport getField(final String path) {
+        return fields.stream().filter(field -> field.path.equals(path)).findFirst().orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(format("Generation report of %s%n", type.getName()));
+        report.append(format("estimated objects: %.1f, estimated size: %d bytes%n", estimatedObjectCount, estimatedBytes));
+        if (samples > 0) {
+            report.append(format("sampled %d objects: %.1f beans, %d ns, %d bytes allocated per object%n",
+                    samples, sampledObjectCount, sampledNanos, sampledBytes));
+        }
+        fields.forEach(field -> report.append(field).append(format("%n")));
+        return report.toString();
+    }
+}
@@ -0,0 +1,689 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.*;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+import static org.jeasy.random.util.ReflectionUtils.*;
+
+/**
+ * Populates objects with an explicit stack of frames instead of recursive calls, when
+ * {@link EasyRandomParameters#iterativePopulation(boolean)} is enabled.
+ *
+ * <p>Each recursive call of {@link EasyRandom#doPopulateBean(Class, RandomizationContext)} that generates nested
+ * values (the fields of a bean, the constructor arguments of a bean and the elements of arrays, collections and maps)
+ * is replaced by a frame, which is resumed with the value generated by the frame pushed above it. Frames perform the
+ * same steps in the same order as {@link EasyRandom}, {@link FieldPopulator} and the array, collection and map
+ * populators, so that the same random values are drawn and the same objects are generated for a given seed.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+class IterativePopulator {
+
+    /*
+     * Returned instead of a value when a frame has been pushed to generate it.
+     */
+    private static final Object PENDING = new Object();
+
+    private final EasyRandom easyRandom;
+
+    private final EasyRandomParameters parameters;
+
+    private final RandomizerProvider randomizerProvider;
+
+    private final ObjectFactory objectFactory;
+
+    private final ExclusionPolicy exclusionPolicy;
+
+    private final StringPools stringPools;
+
+    private final ConstructorInjector constructorInjector;
+
+    private final FieldPopulator fieldPopulator;
+
+    private final ArrayPopulator arrayPopulator;
+
+    private final CollectionPopulator collectionPopulator;
+
+    private final MapPopulator mapPopulator;
+
+    private final LazyProxies lazyProxies;
+
+    IterativePopulator(final EasyRandom easyRandom, final EasyRandomParameters parameters, final RandomizerProvider randomizerProvider,
+                       final StringPools stringPools, final ConstructorInjector constructorInjector, final FieldPopulator fieldPopulator,
+                       final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator, final MapPopulator mapPopulator,
+                       final LazyProxies lazyProxies) {
+        this.easyRandom = easyRandom;
+        this.parameters = parameters;
+        this.randomizerProvider = randomizerProvider;
+        this.objectFactory = parameters.getObjectFactory();
+        this.exclusionPolicy = parameters.getExclusionPolicy();
+        this.stringPools = stringPools;
+        this.constructorInjector = constructorInjector;
+        this.fieldPopulator = fieldPopulator;
+        this.arrayPopulator = arrayPopulator;
+        this.collectionPopulator = collectionPopulator;
+        this.mapPopulator = mapPopulator;
+        this.lazyProxies = lazyProxies;
+    }
+
+    <T> T populate(final Class<T> type, final RandomizationContext context) {
+        return (T) new Population(context).run(type);
+    }
+
+    /**
+     * The frames of a single population.
+     */
+    private class Population {
+
+        private final RandomizationContext context;
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        Population(final RandomizationContext context) {
+            this.context = context;
+        }
+
+        Object run(final Class<?> type) {
+            Object value = call(type);
+            Throwable error = null;
+            while (!frames.isEmpty()) {
+                Frame frame = frames.peek();
+                Object result;
+                try {
+                    result = error == null ? frame.resume(value) : frame.recover(error);
+                } catch (Throwable e) {
+                    frames.pop();
+                    value = null;
+                    error = e;
+                    continue;
+                }
+                error = null;
+                if (result == PENDING) {
+                    value = null;
+                } else {
+                    frames.pop();
+                    value = result;
+                }
+            }
+            if (error != null) {
+                // the bottom frame fails like doPopulateBean, with an ObjectCreationException
+                throw error instanceof RuntimeException ? (RuntimeException) error : new ObjectCreationException("Unable to create a random instance of type " + type, error);
+            }
+            return value;
+        }
+
+        /*
+         * Steps of EasyRandom#doPopulateBean before populating the fields or the constructor arguments of the bean.
+         */
+        private Object call(final Class<?> type) {
+            if (exclusionPolicy.shouldBeExcluded(type, context)) {
+                return null;
+            }
+
+            boolean started = false;
+            try {
+
+                Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+                context.randomizerSelected(type, null, randomizer);
+                if (randomizer != null) {
+                    if (randomizer instanceof ContextAwareRandomizer) {
+                        ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+                    }
+                    StringPool stringPool = stringPools.getStringPool(type);
+                    if (stringPool != null) {
+                        return stringPool.next(easyRandom, () -> (String) randomizer.getRandomValue());
+                    }
+                    return context.getRandomValue(randomizer);
+                }
+
+                if (!isIntrospectable(type)) {
+                    if (isArrayType(type) && !type.getComponentType().isPrimitive()) {
+                        return generateArray(type, type);
+                    }
+                    return easyRandom.randomize(type, context);
+                }
+
+                if (context.hasAlreadyRandomizedType(type)) {
+                    return context.getPopulatedBean(type);
+                }
+
+                boolean shareReferences = context.getCurrentRandomizationDepth() > 0
+                        && parameters.getReferenceSharingPolicy() != ReferenceSharingPolicies.none();
+                if (shareReferences) {
+                    Object sharedReference = easyRandom.selectSharedReference(type, context);
+                    if (sharedReference != null) {
+                        return sharedReference;
+                    }
+                }
+
+                GenerationBudget budget = context.getGenerationBudget();
+                if (budget.isExhausted()) {
+                    return null;
+                }
+                started = context.objectStarted(type);
+
+                ConstructorInjector.Injection injection = parameters.isConstructorInjection() ? constructorInjector.getInjection(type) : null;
+                if (injection != null && context.startConstruction(type)) {
+                    return push(new ConstructorFrame(type, started, shareReferences, injection));
+                }
+
+                Object result = objectFactory.createInstance(type, context);
+                if (shareReferences) {
+                    easyRandom.addSharedReference(type, result, context);
+                }
+                budget.addObject(result);
+                context.setRandomizedObject(result);
+                context.addPopulatedBean(type, result);
+                return push(new BeanFrame(type, started, result, easyRandom.getFields(result, type)));
+            } catch (Throwable e) {
+                return fail(type, started, e);
+            }
+        }
+
+        /*
+         * Steps of FieldPopulator#generateRandomValue.
+         */
+        private Object generate(final Field field) {
+            Class<?> fieldType = field.getType();
+            if (isArrayType(fieldType)) {
+                return fieldType.getComponentType().isPrimitive() ? arrayPopulator.getRandomArray(fieldType, context) : generateArray(fieldType, null);
+            }
+            if (isCollectionType(fieldType)) {
+                return generateCollection(field);
+            }
+            if (isMapType(fieldType)) {
+                return generateMap(field);
+            }
+            if (lazyProxies.isLazyProxy(fieldType)) {
+                return lazyProxies.newLazyProxy(fieldType, context);
+            }
+            return call(fieldPopulator.getBeanType(field, context));
+        }
+
+        /*
+         * Arrays generated by doPopulateBean (as elements of collections, for instance) fail like beans of the array type.
+         */
+        private Object generateArray(final Class<?> arrayType, final Class<?> failingType) {
+            Class<?> componentType = arrayType.getComponentType();
+            Object[] array = arrayPopulator.newRandomArray(componentType, context);
+            if (arrayPopulator.setRandomValues(array, componentType, context)) {
+                return array;
+            }
+            if (failingType != null) {
+                frames.push(new CatchFrame(failingType));
+            }
+            return push(new ArrayFrame(array, componentType));
+        }
+
+        private Object generateCollection(final Field field) {
+            int size = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+            Collection<?> lazyCollection = collectionPopulator.getLazyCollection(field, size, context);
+            if (lazyCollection != null) {
+                return lazyCollection;
+            }
+            Collection collection = collectionPopulator.newCollection(field.getType(), size);
+            Class<?> elementType = CollectionPopulator.getElementType(field);
+            if (elementType == null || collectionPopulator.addRandomValues(collection, elementType, size, context)) {
+                return collectionPopulator.complete(collection, field.getType());
+            }
+            return push(new CollectionFrame(field.getType(), collection, elementType, size));
+        }
+
+        private Object generateMap(final Field field) {
+            int size = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+            Map<?, ?> lazyMap = mapPopulator.getLazyMap(field, size, context);
+            if (lazyMap != null) {
+                return lazyMap;
+            }
+            Map<Object, Object> map = mapPopulator.newMap(field, context);
+            if (map == null) {
+                return null;
+            }
+            Class<?>[] entryTypes = MapPopulator.getEntryTypes(field);
+            if (entryTypes == null || mapPopulator.putRandomEntries(map, entryTypes[0], entryTypes[1], size, context)) {
+                return mapPopulator.complete(map, field.getType());
+            }
+            return push(new MapFrame(field.getType(), map, entryTypes, size));
+        }
+
+        private Object push(final Frame frame) {
+            frames.push(frame);
+            return PENDING;
+        }
+
+        /*
+         * Failure of EasyRandom#doPopulateBean.
+         */
+        private Object fail(final Class<?> type, final boolean started, final Throwable error) {
+            if (started) {
+                context.objectFailed(type, error);
+            }
+            if (parameters.isIgnoreRandomizationErrors()) {
+                return null;
+            } else {
+                throw new ObjectCreationException("Unable to create a random instance of type " + type, error);
+            }
+        }
+
+        private abstract class Frame {
+
+            /*
+             * Continue with the value generated by the frame pushed above this one (null on the first call).
+             * Returns the value generated by this frame, or PENDING if it pushed another frame.
+             */
+            abstract Object resume(Object value) throws Throwable;
+
+            /*
+             * Handle the failure of the frame pushed above this one.
+             */
+            Object recover(final Throwable error) throws Throwable {
+                throw error;
+            }
+        }
+
+        /*
+         * Fails like doPopulateBean, for arrays generated by doPopulateBean.
+         */
+        private class CatchFrame extends Frame {
+
+            private final Class<?> type;
+
+            CatchFrame(final Class<?> type) {
+                this.type = type;
+            }
+
+            @Override
+            Object resume(final Object value) {
+                return value;
+            }
+
+            @Override
+            Object recover(final Throwable error) {
+                return fail(type, false, error);
+            }
+        }
+
+        /*
+         * A bean being created by doPopulateBean, failing like it.
+         */
+        private abstract class ObjectFrame extends Frame {
+
+            final Class<?> type;
+
+            final boolean started;
+
+            int index = -1;
+
+            Field field;
+
+            // true while the value of the field is generated, to report the field on failure
+            boolean generating;
+
+            ObjectFrame(final Class<?> type, final boolean started) {
+                this.type = type;
+                this.started = started;
+            }
+
+            abstract ObjectCreationException newFieldException(ObjectCreationException cause);
+
+            @Override
+            Object recover(final Throwable error) {
+                return fail(error);
+            }
+
+            Object fail(final Throwable error) {
+                boolean fieldError = generating && error instanceof ObjectCreationException;
+                return Population.this.fail(type, started, fieldError ? newFieldException((ObjectCreationException) error) : error);
+            }
+        }
+
+        /*
+         * Steps of EasyRandom#populateFields and FieldPopulator#populateField.
+         */
+        private class BeanFrame extends ObjectFrame {
+
+            private final Object result;
+
+            private final List<Field> fields;
+
+            BeanFrame(final Class<?> type, final boolean started, final Object result, final List<Field> fields) {
+                super(type, started);
+                this.result = result;
+                this.fields = fields;
+            }
+
+            @Override
+            Object resume(final Object value) {
+                try {
+                    if (generating) {
+                        completeField(value);
+                    }
+                    while (++index < fields.size()) {
+                        field = fields.get(index);
+                        if (!easyRandom.shouldBePopulated(field, result, context)) {
+                            continue;
+                        }
+                        context.fieldStarted(field);
+                        Randomizer<?> randomizer = fieldPopulator.getRandomizer(field, context);
+                        if (randomizer instanceof SkipRandomizer) {
+                            context.fieldExcluded(field);
+                            context.fieldCompleted(field);
+                            continue;
+                        }
+                        if (randomizer instanceof ContextAwareRandomizer) {
+                            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+                        }
+                        context.pushStackItem(new RandomizationContextStackItem(result, field));
+                        if (context.hasExceededRandomizationDepth()) {
+                            context.popStackItem();
+                            context.fieldCompleted(field);
+                            continue;
+                        }
+                        Object fieldValue;
+                        if (randomizer != null) {
+                            fieldValue = fieldPopulator.getRandomizedValue(randomizer, field, context);
+                        } else {
+                            generating = true;
+                            fieldValue = generate(field);
+                            if (fieldValue == PENDING) {
+                                return PENDING;
+                            }
+                        }
+                        completeField(fieldValue);
+                    }
+                    context.objectCompleted(type, result);
+                    return result;
+                } catch (Throwable e) {
+                    return fail(e);
+                }
+            }
+
+            private void completeField(final Object value) throws IllegalAccessException {
+                generating = false;
+                setProperty(result, field, value);
+                context.popStackItem();
+                context.fieldPopulated(field, value);
+                context.fieldCompleted(field);
+            }
+
+            @Override
+            ObjectCreationException newFieldException(final ObjectCreationException cause) {
+                return FieldPopulator.newFieldException(result, field, cause);
+            }
+        }
+
+        /*
+         * Steps of EasyRandom#doPopulateBean with constructor injection and of FieldPopulator#getRandomValue.
+         */
+        private class ConstructorFrame extends ObjectFrame {
+
+            private final boolean shareReferences;
+
+            private final ConstructorInjector.Injection injection;
+
+            private final Object[] arguments;
+
+            private boolean constructing = true;
+
+            ConstructorFrame(final Class<?> type, final boolean started, final boolean shareReferences, final ConstructorInjector.Injection injection) {
+                super(type, started);
+                this.shareReferences = shareReferences;
+                this.injection = injection;
+                this.arguments = new Object[injection.getFields().size()];
+            }
+
+            @Override
+            Object resume(final Object value) {
+                try {
+                    if (generating) {
+                        completeArgument(value);
+                    }
+                    while (++index < arguments.length) {
+                        field = injection.getFields().get(index);
+                        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+                            context.fieldExcluded(field);
+                            continue;
+                        }
+                        context.fieldStarted(field);
+                        Randomizer<?> randomizer = fieldPopulator.getRandomizer(field, context);
+                        if (randomizer instanceof SkipRandomizer) {
+                            context.fieldExcluded(field);
+                            context.fieldCompleted(field);
+                            continue;
+                        }
+                        if (randomizer instanceof ContextAwareRandomizer) {
+                            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+                        }
+                        context.pushStackItem(new RandomizationContextStackItem(null, field));
+                        if (context.hasExceededRandomizationDepth()) {
+                            context.popStackItem();
+                            context.fieldCompleted(field);
+                            continue;
+                        }
+                        Object argument;
+                        if (randomizer != null) {
+                            argument = fieldPopulator.getRandomizedValue(randomizer, field, context);
+                        } else {
+                            generating = true;
+                            argument = generate(field);
+                            if (argument == PENDING) {
+                                return PENDING;
+                            }
+                        }
+                        completeArgument(argument);
+                    }
+                    Object result;
+                    try {
+                        result = injection.newInstance(arguments);
+                    } finally {
+                        endConstruction();
+                    }
+                    if (shareReferences) {
+                        easyRandom.addSharedReference(type, result, context);
+                    }
+                    context.getGenerationBudget().addObject(result);
+                    context.setRandomizedObject(result);
+                    context.addPopulatedBean(type, result);
+                    context.objectCompleted(type, result);
+                    return result;
+                } catch (Throwable e) {
+                    return fail(e);
+                }
+            }
+
+            private void completeArgument(final Object value) {
+                generating = false;
+                arguments[index] = value;
+                context.popStackItem();
+                context.fieldPopulated(field, value);
+                context.fieldCompleted(field);
+            }
+
+            private void endConstruction() {
+                if (constructing) {
+                    constructing = false;
+                    context.endConstruction(type);
+                }
+            }
+
+            @Override
+            Object fail(final Throwable error) {
+                endConstruction();
+                return super.fail(error);
+            }
+
+            @Override
+            ObjectCreationException newFieldException(final ObjectCreationException cause) {
+                return FieldPopulator.newConstructorArgumentException(field, cause);
+            }
+        }
+
+        /*
+         * Steps of ArrayPopulator#getRandomArray.
+         */
+        private class ArrayFrame extends Frame {
+
+            private final Object[] array;
+
+            private final Class<?> componentType;
+
+            private int index = -1;
+
+            ArrayFrame(final Object[] array, final Class<?> componentType) {
+                this.array = array;
+                this.componentType = componentType;
+            }
+
+            @Override
+            Object resume(final Object value) {
+                if (index >= 0) {
+                    array[index] = value;
+                }
+                while (++index < array.length) {
+                    Object element = call(componentType);
+                    if (element == PENDING) {
+                        return PENDING;
+                    }
+                    array[index] = element;
+                }
+                return array;
+            }
+        }
+
+        /*
+         * Steps of CollectionPopulator#getRandomCollection.
+         */
+        private class CollectionFrame extends Frame {
+
+            private final Class<?> fieldType;
+
+            private final Collection collection;
+
+            private final Class<?> elementType;
+
+            private final int size;
+
+            private int index = -1;
+
+            CollectionFrame(final Class<?> fieldType, final Collection collection, final Class<?> elementType, final int size) {
+                this.fieldType = fieldType;
+                this.collection = collection;
+                this.elementType = elementType;
+                this.size = size;
+            }
+
+            @Override
+            Object resume(final Object value) {
+                if (index >= 0) {
+                    collection.add(value);
+                }
+                // stop when the budget runs out, instead of adding the null elements of truncated beans
+                while (++index < size && !context.getGenerationBudget().isExhausted()) {
+                    Object element = call(elementType);
+                    if (element == PENDING) {
+                        return PENDING;
+                    }
+                    collection.add(element);
+                }
+                return collectionPopulator.complete(collection, fieldType);
+            }
+        }
+
+        /*
+         * Steps of MapPopulator#getRandomMap: keys and values are generated alternately.
+         */
+        private class MapFrame extends Frame {
+
+            private final Class<?> fieldType;
+
+            private final Map<Object, Object> map;
+
+            private final Class<?>[] entryTypes;
+
+            private final int size;
+
+            private int index = -1;
+
+            private Object key;
+
+            // true while the key of the entry is generated, false while its value is generated
+            private boolean generatingKey;
+
+            MapFrame(final Class<?> fieldType, final Map<Object, Object> map, final Class<?>[] entryTypes, final int size) {
+                this.fieldType = fieldType;
+                this.map = map;
+                this.entryTypes = entryTypes;
+                this.size = size;
+            }
+
+            @Override
+            Object resume(Object value) {
+                GenerationBudget budget = context.getGenerationBudget();
+                if (index >= 0) {
+                    if (generatingKey) {
+                        key = value;
+                        generatingKey = false;
+                        if (budget.isExhausted()) {
+                            return mapPopulator.complete(map, fieldType);
+                        }
+                        value = call(entryTypes[1]);
+                        if (value == PENDING) {
+                            return PENDING;
+                        }
+                    }
+                    put(value);
+                }
+                // stop when the budget runs out, even between the key and the value of an entry
+                while (++index < size && !budget.isExhausted()) {
+                    key = call(entryTypes[0]);
+                    if (key == PENDING) {
+                        generatingKey = true;
+                        return PENDING;
+                    }
+                    if (budget.isExhausted()) {
+                        break;
+                    }
+                    value = call(entryTypes[1]);
+                    if (value == PENDING) {
+                        return PENDING;
+                    }
+                    put(value);
+                }
+                return mapPopulator.complete(map, fieldType);
+            }
+
+            private void put(final Object value) {
+                if (key != null) {
+                    map.put(key, value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jeasy.random.api.Randomizer;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+
+/**
+ * Emits Java Flight Recorder events for a single generation (see {@link RandomizationContext}).
+ * This class is only loaded when the {@code jdk.jfr} module is available, and a recorder is only created
+ * when at least one of its events is enabled in a running recording, so there is no overhead otherwise.
+ *
+ * <p>Events, in the "Easy Random" category:</p>
+ * <ul>
+ *     <li>{@code org.jeasy.random.ObjectGeneration}: a call to {@link EasyRandom#nextObject(Class)} or {@link EasyRandom#populate(Object)}</li>
+ *     <li>{@code org.jeasy.random.BeanGeneration}: the creation and population of a (root or nested) bean, 20 us threshold by default</li>
+ *     <li>{@code org.jeasy.random.CollectionPopulation}: the population of an array, collection or map field, 20 us threshold by default</li>
+ *     <li>{@code org.jeasy.random.SlowRandomizer}: a randomizer call, 1 ms threshold by default</li>
+ * </ul>
+ * Thresholds can be changed in the recording settings, for example {@code org.jeasy.random.BeanGeneration#threshold=0 ms}.
+ */
+class JfrRecorder {
+
+    // looked up once, so that checking whether events are enabled does not create events for every generation
+    private static final EventType[] EVENT_TYPES = {
+            EventType.getEventType(ObjectGenerationEvent.class),
+            EventType.getEventType(BeanGenerationEvent.class),
+            EventType.getEventType(CollectionPopulationEvent.class),
+            EventType.getEventType(SlowRandomizerEvent.class)
+    };
+
+    private final RandomizationContext context;
+
+    private final ArrayDeque<Event> events = new ArrayDeque<>();
+
+    private ObjectGenerationEvent generation;
+
+    private JfrRecorder(final RandomizationContext context) {
+        this.context = context;
+    }
+
+    static JfrRecorder createIfRecording(final RandomizationContext context) {
+        for (EventType eventType : EVENT_TYPES) {
+            if (eventType.isEnabled()) {
+                return new JfrRecorder(context);
+            }
+        }
+        return null;
+    }
+
+    void generationStarted(final Class<?> type, final boolean recycled) {
+        generation = new ObjectGenerationEvent();
+        generation.type = type;
+        generation.recycled = recycled;
+        generation.begin();
+    }
+
+    void generationCompleted() {
+        if (generation != null && generation.shouldCommit()) {
+            generation.commit();
+        }
+        generation = null;
+    }
+
+    void objectStarted(final Class<?> type) {
+        BeanGenerationEvent event = new BeanGenerationEvent();
+        event.type = type;
+        event.begin();
+        events.push(event);
+    }
+
+    void objectCompleted() {
+        BeanGenerationEvent event = (BeanGenerationEvent) events.pop();
+        event.end();
+        if (event.shouldCommit()) {
+            event.fieldPath = context.getCurrentField();
+            event.depth = context.getCurrentRandomizationDepth();
+            event.commit();
+        }
+    }
+
+    /*
+     * Discard the events of the failed object and the events started after it.
+     */
+    void objectFailed() {
+        while (!events.isEmpty() && !(events.pop() instanceof BeanGenerationEvent)) {
+            // discard the collections of the failed object
+        }
+    }
+
+    /*
+     * Collections, maps and arrays are sized by the collection size policy when their population starts,
+     * and their population ends with the population of their field.
+     */
+    void collectionStarted(final int size) {
+        CollectionPopulationEvent event = new CollectionPopulationEvent();
+        event.size = size;
+        event.begin();
+        events.push(event);
+    }
+
+    void fieldCompleted(final Field field) {
+        if (!(events.peek() instanceof CollectionPopulationEvent)) {
+            return;
+        }
+        CollectionPopulationEvent event = (CollectionPopulationEvent) events.pop();
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = field.getType();
+            String parentPath = context.getCurrentField();
+            event.fieldPath = parentPath.isEmpty() ? field.getName() : parentPath + "." + field.getName();
+            event.depth = context.getCurrentRandomizationDepth() + 1;
+            event.commit();
+        }
+    }
+
+    Object getRandomValue(final Randomizer<?> randomizer) {
+        SlowRandomizerEvent event = new SlowRandomizerEvent();
+        event.begin();
+        Object value = randomizer.getRandomValue();
+        event.end();
+        if (event.shouldCommit()) {
+            event.randomizer = randomizer.getClass();
+            event.type = value == null ? null : value.getClass();
+            event.fieldPath = context.getCurrentField();
+            event.depth = context.getCurrentRandomizationDepth();
+            event.commit();
+        }
+        return value;
+    }
+
+    @Name("org.jeasy.random.ObjectGeneration")
+    @Label("Object Generation")
+    @Description("Generation of a root object by EasyRandom")
+    @Category("Easy Random")
+    static class ObjectGenerationEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Recycled")
+        @Description("Whether an existing object was populated")
+        boolean recycled;
+    }
+
+    @Name("org.jeasy.random.BeanGeneration")
+    @Label("Bean Generation")
+    @Description("Creation and population of a bean, including the beans it references")
+    @Category("Easy Random")
+    @Threshold("20 us")
+    @StackTrace(false)
+    static class BeanGenerationEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Field Path")
+        String fieldPath;
+
+        @Label("Depth")
+        int depth;
+    }
+
+    @Name("org.jeasy.random.CollectionPopulation")
+    @Label("Collection Population")
+    @Description("Population of an array, collection or map field")
+    @Category("Easy Random")
+    @Threshold("20 us")
+    @StackTrace(false)
+    static class CollectionPopulationEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Field Path")
+        String fieldPath;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Size")
+        @Description("Size chosen by the collection size policy")
+        int size;
+    }
+
+    @Name("org.jeasy.random.SlowRandomizer")
+    @Label("Slow Randomizer")
+    @Description("Randomizer call slower than the threshold")
+    @Category("Easy Random")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static class SlowRandomizerEvent extends Event {
+
+        @Label("Randomizer")
+        Class<?> randomizer;
+
+        @Label("Value Type")
+        Class<?> type;
+
+        @Label("Field Path")
+        String fieldPath;
+
+        @Label("Depth")
+        int depth;
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * KLL sketch estimating the quantiles of a stream of values in memory logarithmic in the number of values.
+ * Compactions are pseudo-random with a fixed seed, so the same stream always gives the same estimates.
+ *
+ * @see <a href="https://arxiv.org/abs/1603.05346">Optimal Quantile Approximation in Streams</a>
+ */
+class KllSketch {
+
+    static final int DEFAULT_K = 200;
+
+    private static final int MIN_CAPACITY = 8;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final List<double[]> levels = new ArrayList<>();
+    private int[] sizes = new int[1];
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    KllSketch(final int k) {
+        this.k = k;
+        levels.add(new double[MIN_CAPACITY]);
+    }
+
+    void add(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (count == 0 || value < min) {
+            min = value;
+        }
+        if (count == 0 || value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        compressIfNeeded();
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    /*
+     * Items retained by the sketch with their weights, sorted by value.
+     */
+    double[][] getWeightedItems() {
+        int total = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            total += sizes[level];
+        }
+        double[][] items = new double[total][];
+        int index = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] values = levels.get(level);
+            for (int i = 0; i < sizes[level]; i++) {
+                items[index++] = new double[]{values[i], 1L << level};
+            }
+        }
+        Arrays.sort(items, (first, second) -> Double.compare(first[0], second[0]));
+        return items;
+    }
+
+    double getQuantile(final double fraction) {
+        return getQuantile(getWeightedItems(), count, min, max, fraction);
+    }
+
+    static double getQuantile(final double[][] weightedItems, final long count, final double min, final double max,
+                              final double fraction) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (fraction <= 0) {
+            return min;
+        }
+        if (fraction >= 1) {
+            return max;
+        }
+        double rank = fraction * count;
+        double weight = 0;
+        for (double[] item : weightedItems) {
+            weight += item[1];
+            if (weight >= rank) {
+                return item[0];
+            }
+        }
+        return max;
+    }
+
+    private void append(final int level, final double value) {
+        double[] values = levels.get(level);
+        if (sizes[level] == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+            levels.set(level, values);
+        }
+        values[sizes[level]++] = value;
+    }
+
+    private void compressIfNeeded() {
+        for (int level = 0; level < levels.size(); level++) {
+            if (sizes[level] >= capacity(level)) {
+                compact(level);
+                return;
+            }
+        }
+    }
+
+    /*
+     * Sort the level and promote every other item (starting at a random offset) to the next level with
+     * twice the weight. With an odd number of items, the largest one stays at this level.
+     */
+    private void compact(final int level) {
+        if (level + 1 == levels.size()) {
+            levels.add(new double[MIN_CAPACITY]);
+            sizes = Arrays.copyOf(sizes, levels.size());
+        }
+        double[] values = levels.get(level);
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+        int pairs = size / 2 * 2;
+        for (int i = nextBit(); i < pairs; i += 2) {
+            append(level + 1, values[i]);
+        }
+        if (size > pairs) {
+            values[0] = values[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+
+    private int capacity(final int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private int nextBit() {
+        // xorshift64
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return (int) (seed & 1);
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+import static org.jeasy.random.util.ReflectionUtils.isParameterizedType;
+import static org.jeasy.random.util.ReflectionUtils.isPopulatable;
+
+/**
+ * Factory of lazily materialized collections and maps used when
+ * {@link EasyRandomParameters#lazyCollections(boolean)} is enabled.
+ *
+ * <p>Only the size of a lazy collection is drawn when its field is populated. Element {@code i} is generated
+ * on first access by a {@link SubSeedGenerator} from a seed derived from the collection seed, the field path
+ * and {@code i}, so the same element is obtained whatever the access order is. Map keys are generated
+ * eagerly (they define the size of the map) and only values are lazy.</p>
+ *
+ * <p>Lazy collections and maps are read-only.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class LazyCollections {
+
+    private static final Object NULL = new Object();
+
+    private final EasyRandom easyRandom;
+
+    private final EasyRandomParameters parameters;
+
+    private final SubSeedGenerator generator;
+
+    LazyCollections(final EasyRandom easyRandom, final EasyRandomParameters parameters, final SubSeedGenerator generator) {
+        this.easyRandom = easyRandom;
+        this.parameters = parameters;
+        this.generator = generator;
+    }
+
+    /**
+     * Lists, collections and sets of beans can be lazy. Sets of JDK types or enumerations can not,
+     * since their elements are likely to collide and the size of the set would be wrong.
+     */
+    boolean isLazyCollection(final Class<?> fieldType, final Type fieldGenericType) {
+        if (!parameters.isLazyCollections() || !isParameterizedType(fieldGenericType)) {
+            return false;
+        }
+        Type elementType = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
+        if (!isPopulatable(elementType)) {
+            return false;
+        }
+        if (fieldType.equals(List.class) || fieldType.equals(Collection.class)) {
+            return true;
+        }
+        return fieldType.equals(Set.class) && isBeanType((Class<?>) elementType);
+    }
+
+    boolean isLazyMap(final Class<?> fieldType, final Type fieldGenericType) {
+        if (!parameters.isLazyCollections() || !fieldType.equals(Map.class) || !isParameterizedType(fieldGenericType)) {
+            return false;
+        }
+        Type[] typeArguments = ((ParameterizedType) fieldGenericType).getActualTypeArguments();
+        return isPopulatable(typeArguments[0]) && isPopulatable(typeArguments[1]);
+    }
+
+    Collection<?> newLazyCollection(final Class<?> fieldType, final Type fieldGenericType, final int size, final RandomizationContext context) {
+        Class<?> elementType = (Class<?>) ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
+        LazyElements elements = new LazyElements(elementType, size, generator.nextSubSeed(context));
+        return fieldType.equals(Set.class) ? new LazySet(elements) : new LazyList(elements);
+    }
+
+    Map<?, ?> newLazyMap(final Type fieldGenericType, final int size, final RandomizationContext context) {
+        Type[] typeArguments = ((ParameterizedType) fieldGenericType).getActualTypeArguments();
+        Map<Object, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Object key = easyRandom.doPopulateBean((Class<?>) typeArguments[0], context);
+            if (key != null) {
+                indexes.putIfAbsent(key, indexes.size());
+            }
+        }
+        LazyElements values = new LazyElements((Class<?>) typeArguments[1], indexes.size(), generator.nextSubSeed(context));
+        return new LazyMap(indexes, values);
+    }
+
+    private static boolean isBeanType(final Class<?> type) {
+        return !type.isEnum() && !type.isPrimitive() && !type.getName().startsWith("java");
+    }
+
+    /**
+     * Elements of a lazy collection, materialized on first access and kept with
+     * strong or soft references according to {@link EasyRandomParameters#isSoftLazyCollections()}.
+     */
+    private class LazyElements {
+
+        private final Class<?> type;
+
+        private final long seed;
+
+        private final Object[] elements;
+
+        private LazyElements(final Class<?> type, final int size, final long seed) {
+            this.type = type;
+            this.seed = seed;
+            this.elements = new Object[size];
+        }
+
+        synchronized Object get(final int index) {
+            Object element = elements[index];
+            if (element instanceof SoftReference) {
+                element = ((SoftReference<?>) element).get();
+            }
+            if (element == null) {
+                element = generator.generate(type, SubSeedGenerator.mix(seed + index));
+                if (element == null) {
+                    element = NULL;
+                }
+                elements[index] = parameters.isSoftLazyCollections() ? new SoftReference<>(element) : element;
+            }
+            return element == NULL ? null : element;
+        }
+
+        int size() {
+            return elements.length;
+        }
+    }
+
+    private static class LazyList extends AbstractList<Object> implements RandomAccess {
+
+        private final LazyElements elements;
+
+        private LazyList(final LazyElements elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(final int index) {
+            if (index < 0 || index >= elements.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+            }
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    private static class LazySet extends AbstractSet<Object> {
+
+        private final LazyList elements;
+
+        private LazySet(final LazyElements elements) {
+            this.elements = new LazyList(elements);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    private static class LazyMap extends AbstractMap<Object, Object> {
+
+        private final Map<Object, Integer> indexes;
+
+        private final LazyElements values;
+
+        private LazyMap(final Map<Object, Integer> indexes, final LazyElements values) {
+            this.indexes = indexes;
+            this.values = values;
+        }
+
+        @Override
+        public Object get(final Object key) {
+            Integer index = indexes.get(key);
+            return index == null ? null : values.get(index);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexes.containsKey(key);
+        }
+
+        @Override
+        public Set<Object> keySet() {
+            return Collections.unmodifiableSet(indexes.keySet());
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    Iterator<Entry<Object, Integer>> iterator = indexes.entrySet().iterator();
+                    return new Iterator<Entry<Object, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            Entry<Object, Integer> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), values.get(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return indexes.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.jeasy.random.util.ReflectionUtils.*;
+
+/**
+ * Factory of lazy proxies for interface-typed fields, used when {@link EasyRandomParameters#lazyProxies(boolean)}
+ * is enabled.
+ *
+ * <p>A lazy proxy is a JDK dynamic proxy implementing the field type. The real object behind it is generated
+ * by a {@link SubSeedGenerator} on the first method invocation and all invocations are delegated to it, so only
+ * the branches of the object graph that are actually used are generated.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class LazyProxies {
+
+    private final EasyRandomParameters parameters;
+
+    private final SubSeedGenerator generator;
+
+    LazyProxies(final EasyRandomParameters parameters, final SubSeedGenerator generator) {
+        this.parameters = parameters;
+        this.generator = generator;
+    }
+
+    boolean isLazyProxy(final Class<?> fieldType) {
+        return parameters.isLazyProxies() && isInterface(fieldType)
+                && !isCollectionType(fieldType) && !isMapType(fieldType);
+    }
+
+    Object newLazyProxy(final Class<?> fieldType, final RandomizationContext context) {
+        LazyInvocationHandler handler = new LazyInvocationHandler(fieldType, generator.nextSubSeed(context));
+        return Proxy.newProxyInstance(fieldType.getClassLoader(), new Class<?>[]{fieldType}, handler);
+    }
+
+    private class LazyInvocationHandler implements InvocationHandler {
+
+        private final Class<?> type;
+
+        private final long seed;
+
+        private volatile Object target;
+
+        private LazyInvocationHandler(final Class<?> type, final long seed) {
+            this.type = type;
+            this.seed = seed;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(getTarget(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object getTarget() {
+            Object result = target;
+            if (result == null) {
+                synchronized (this) {
+                    result = target;
+                    if (result == null) {
+                        result = generator.generate(type, seed);
+                        if (result == null) {
+                            throw new ObjectCreationException("Unable to create a random instance of type " + type + " behind a lazy proxy");
+                        }
+                        target = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.api.Randomizer;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -47,53 +48,151 @@ class MapPopulator {
 
     private final ObjectFactory objectFactory;
 
-    MapPopulator(final EasyRandom easyRandom, final ObjectFactory objectFactory) {
+    private final LazyCollections lazyCollections;
+
+    private final CompactCollections compactCollections;
+
+    MapPopulator(final EasyRandom easyRandom, final ObjectFactory objectFactory, final LazyCollections lazyCollections,
+                 final CompactCollections compactCollections) {
         this.easyRandom = easyRandom;
         this.objectFactory = objectFactory;
+        this.lazyCollections = lazyCollections;
+        this.compactCollections = compactCollections;
     }
 
     @SuppressWarnings("unchecked")
     Map<?, ?> getRandomMap(final Field field, final RandomizationContext context) {
-        int randomSize = easyRandom.getRandomCollectionSize();
-        Class<?> fieldType = field.getType();
+        int randomSize = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+        Map<?, ?> lazyMap = getLazyMap(field, randomSize, context);
+        if (lazyMap != null) {
+            return lazyMap;
+        }
+        Map<Object, Object> map = newMap(field, context);
+        if (map == null) {
+            return null;
+        }
+        Class<?>[] entryTypes = getEntryTypes(field);
+        if (entryTypes != null && !putRandomEntries(map, entryTypes[0], entryTypes[1], randomSize, context)) {
+            putRandomBeans(map, entryTypes, randomSize, context);
+        }
+        return complete(map, field.getType());
+    }
+
+    /*
+     * The lazy map of the field, or null if the field is not a lazy map (see LazyCollections).
+     */
+    Map<?, ?> getLazyMap(final Field field, final int size, final RandomizationContext context) {
         Type fieldGenericType = field.getGenericType();
-        Map<Object, Object> map;
+        return lazyCollections.isLazyMap(field.getType(), fieldGenericType) ? lazyCollections.newLazyMap(fieldGenericType, size, context) : null;
+    }
 
+    /*
+     * An empty map for the field, or null for raw enum maps.
+     */
+    @SuppressWarnings("unchecked")
+    Map<Object, Object> newMap(final Field field, final RandomizationContext context) {
+        Class<?> fieldType = field.getType();
+        Type fieldGenericType = field.getGenericType();
         if (isInterface(fieldType)) {
-            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
-        } else {
-            try {
-                map = (Map<Object, Object>) fieldType.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                // Creating EnumMap with objenesis by-passes the constructor with keyType which leads to CCE at insertion time
-                if (fieldType.isAssignableFrom(EnumMap.class)) {
-                    if (isParameterizedType(fieldGenericType)) {
-                        Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
-                        map = new EnumMap((Class<?>)type);
-                    } else {
-                        return null;
-                    }
+            return (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
+        }
+        try {
+            return (Map<Object, Object>) fieldType.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            // Creating EnumMap with objenesis by-passes the constructor with keyType which leads to CCE at insertion time
+            if (fieldType.isAssignableFrom(EnumMap.class)) {
+                if (isParameterizedType(fieldGenericType)) {
+                    Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
+                    return new EnumMap((Class<?>)type);
                 } else {
-                    map = (Map<Object, Object>) objectFactory.createInstance(fieldType, context);
+                    return null;
                 }
+            } else {
+                return (Map<Object, Object>) objectFactory.createInstance(fieldType, context);
             }
         }
+    }
 
-        if (isParameterizedType(fieldGenericType)) { // populate only parameterized types, raw types will be empty
-            ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-            Type keyType = parameterizedType.getActualTypeArguments()[0];
-            Type valueType = parameterizedType.getActualTypeArguments()[1];
-            if (isPopulatable(keyType) && isPopulatable(valueType)) {
-                for (int index = 0; index < randomSize; index++) {
-                    Object randomKey = easyRandom.doPopulateBean((Class<?>) keyType, context);
-                    Object randomValue = easyRandom.doPopulateBean((Class<?>) valueType, context);
-                    if(randomKey != null) {
-                        map.put(randomKey, randomValue);
-                    }
+    /*
+     * The types of the keys and values to generate, or null if the map is left empty:
+     * only parameterized types are populated, raw types are left empty.
+     */
+    static Class<?>[] getEntryTypes(final Field field) {
+        Type fieldGenericType = field.getGenericType();
+        if (isParameterizedType(fieldGenericType)) {
+            Type[] typeArguments = ((ParameterizedType) fieldGenericType).getActualTypeArguments();
+            if (isPopulatable(typeArguments[0]) && isPopulatable(typeArguments[1])) {
+                return new Class<?>[] {(Class<?>) typeArguments[0], (Class<?>) typeArguments[1]};
+            }
+        }
+        return null;
+    }
+
+    Map<?, ?> complete(final Map<?, ?> map, final Class<?> fieldType) {
+        return compactCollections.isCompactMap(fieldType) ? CompactCollections.copyOf(map) : map;
+    }
+
+    /*
+     * Clear and refill an existing map (when recycling). Returns false if the map is not mutable.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    boolean refillMap(final Map map, final Field field, final RandomizationContext context) {
+        try {
+            map.clear();
+            Class<?>[] entryTypes = getEntryTypes(field);
+            if (entryTypes != null) {
+                int randomSize = context.getGenerationBudget().collectionSize(easyRandom.getRandomCollectionSize(context));
+                if (!putRandomEntries(map, entryTypes[0], entryTypes[1], randomSize, context)) {
+                    putRandomBeans(map, entryTypes, randomSize, context);
                 }
             }
+        } catch (UnsupportedOperationException e) {
+            // immutable maps (possibly empty, so clear() did not fail) are replaced
+            return false;
         }
-        return map;
+        return true;
+    }
+
+    /*
+     * Put the entries one bean at a time. Filling stops when the budget runs out, even between the key and the value
+     * of an entry, instead of putting the null keys or values of truncated beans.
+     */
+    void putRandomBeans(final Map<Object, Object> map, final Class<?>[] entryTypes, final int size,
+                        final RandomizationContext context) {
+        GenerationBudget budget = context.getGenerationBudget();
+        for (int index = 0; index < size && !budget.isExhausted(); index++) {
+            Object randomKey = easyRandom.doPopulateBean(entryTypes[0], context);
+            if (budget.isExhausted()) {
+                return;
+            }
+            Object randomValue = easyRandom.doPopulateBean(entryTypes[1], context);
+            if (randomKey != null) {
+                map.put(randomKey, randomValue);
+            }
+        }
+    }
+
+    /*
+     * Put the entries with randomizers looked up once if keys and values are generated by randomizers
+     * (see EasyRandom#getBulkRandomizer). Keys and values are still generated alternately, since they
+     * may be generated by the same randomizer.
+     */
+    @SuppressWarnings("unchecked")
+    boolean putRandomEntries(final Map map, final Class<?> keyType, final Class<?> valueType, final int size,
+                             final RandomizationContext context) {
+        Randomizer<?> keyRandomizer = easyRandom.getBulkRandomizer(keyType, context);
+        Randomizer<?> valueRandomizer = keyRandomizer == null ? null : easyRandom.getBulkRandomizer(valueType, context);
+        if (valueRandomizer == null) {
+            return false;
+        }
+        for (int index = 0; index < size; index++) {
+            Object randomKey = easyRandom.getRandomValue(keyRandomizer, keyType);
+            Object randomValue = easyRandom.getRandomValue(valueRandomizer, valueType);
+            if (randomKey != null) {
+                map.put(randomKey, randomValue);
+            }
+        }
+        return true;
     }
 
     Map<?, ?> getEmptyImplementationForMapInterface(final Class<?> mapInterface) {
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerContext;
 
 import java.lang.reflect.Field;
@@ -38,22 +40,48 @@ import static java.util.stream.Collectors.toList;
  */
 class RandomizationContext implements RandomizerContext {
 
+    private static final boolean FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
     private final EasyRandomParameters parameters;
 
     private final Map<Class<?>, List<Object>> populatedBeans;
 
     private final Stack<RandomizationContextStackItem> stack;
 
+    private final Set<Class<?>> typesUnderConstruction;
+
     private final Class<?> type;
 
+    private final GenerationBudget budget;
+
+    private final Set<Object> recycledObjects;
+
+    private final GenerationListener generationListener;
+
+    private final JfrRecorder recorder;
+
+    private final AllocationTracker allocationTracker;
+
+    private ReferencePool referencePool;
+
     private Object rootObject;
     private Object randomizedObject;
 
     RandomizationContext(final Class<?> type, final EasyRandomParameters parameters) {
+        this(type, parameters, false);
+    }
+
+    RandomizationContext(final Class<?> type, final EasyRandomParameters parameters, final boolean recycling) {
         this.type = type;
+        recycledObjects = recycling ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
         populatedBeans = new IdentityHashMap<>();
         stack = new Stack<>();
+        typesUnderConstruction = new HashSet<>();
         this.parameters = parameters;
+        budget = new GenerationBudget(parameters);
+        generationListener = parameters.getGenerationListener();
+        recorder = FLIGHT_RECORDER_AVAILABLE ? JfrRecorder.createIfRecording(this) : null;
+        allocationTracker = parameters.isAllocationTracking() && ThreadAllocations.isSupported() ? new AllocationTracker(type) : null;
     }
 
     void addPopulatedBean(final Class<?> type, Object object) {
@@ -78,6 +106,159 @@ class RandomizationContext implements RandomizerContext {
         return populatedBeans.containsKey(type) && populatedBeans.get(type).size() == parameters.getObjectPoolSize();
     }
 
+    ReferencePool getReferencePool() {
+        if (referencePool == null) {
+            referencePool = new ReferencePool();
+        }
+        return referencePool;
+    }
+
+    /*
+     * Notifications of the generation listener, flight recorder events and allocation tracking, if any
+     * (see GenerationListener, JfrRecorder and AllocationTracker). The allocation tracker is notified last
+     * on start and first on completion so that it does not account for the other notifications.
+     */
+
+    void generationStarted() {
+        if (recorder != null) {
+            recorder.generationStarted(type, isRecycling());
+        }
+        if (allocationTracker != null) {
+            allocationTracker.generationStarted();
+        }
+    }
+
+    void generationCompleted() {
+        if (allocationTracker != null) {
+            allocationTracker.generationCompleted();
+        }
+        if (recorder != null) {
+            recorder.generationCompleted();
+        }
+    }
+
+    boolean objectStarted(final Class<?> type) {
+        if (recorder != null) {
+            recorder.objectStarted(type);
+        }
+        if (generationListener != null) {
+            generationListener.objectStarted(type, this);
+        }
+        if (allocationTracker != null) {
+            allocationTracker.objectStarted(type);
+        }
+        return generationListener != null || recorder != null || allocationTracker != null;
+    }
+
+    void objectCompleted(final Class<?> type, final Object object) {
+        if (allocationTracker != null) {
+            allocationTracker.objectCompleted(type);
+        }
+        if (generationListener != null) {
+            generationListener.objectCompleted(type, object, this);
+        }
+        if (recorder != null) {
+            recorder.objectCompleted();
+        }
+    }
+
+    void objectFailed(final Class<?> type, final Throwable error) {
+        if (allocationTracker != null) {
+            allocationTracker.objectFailed(type);
+        }
+        if (generationListener != null) {
+            generationListener.objectFailed(type, error, this);
+        }
+        if (recorder != null) {
+            recorder.objectFailed();
+        }
+    }
+
+    void fieldStarted(final Field field) {
+        if (generationListener != null) {
+            generationListener.fieldStarted(field, this);
+        }
+        if (allocationTracker != null) {
+            allocationTracker.fieldStarted(field);
+        }
+    }
+
+    void fieldCompleted(final Field field) {
+        if (allocationTracker != null) {
+            allocationTracker.fieldCompleted(field);
+        }
+        if (generationListener != null) {
+            generationListener.fieldCompleted(field, this);
+        }
+        if (recorder != null) {
+            recorder.fieldCompleted(field);
+        }
+    }
+
+    void fieldPopulated(final Field field, final Object value) {
+        if (generationListener != null) {
+            generationListener.fieldPopulated(field, value, this);
+        }
+    }
+
+    void fieldExcluded(final Field field) {
+        if (generationListener != null) {
+            generationListener.fieldExcluded(field, this);
+        }
+    }
+
+    void randomizerSelected(final Class<?> type, final Field field, final Randomizer<?> randomizer) {
+        if (generationListener != null) {
+            generationListener.randomizerSelected(type, field, randomizer, this);
+        }
+    }
+
+    void collectionSized(final int size) {
+        if (generationListener != null) {
+            generationListener.collectionSized(size, this);
+        }
+        if (recorder != null) {
+            recorder.collectionStarted(size);
+        }
+    }
+
+    /*
+     * Is the generation observed element by element (by a generation listener or a flight recording)?
+     */
+    boolean isObserved() {
+        return generationListener != null || recorder != null;
+    }
+
+    Object getRandomValue(final Randomizer<?> randomizer) {
+        return recorder == null ? randomizer.getRandomValue() : recorder.getRandomValue(randomizer);
+    }
+
+    /*
+     * When recycling, existing objects are populated in place instead of being replaced.
+     */
+    boolean isRecycling() {
+        return recycledObjects != null;
+    }
+
+    /*
+     * Returns false if the object has already been recycled in this context (the object graph has a cycle).
+     */
+    boolean markRecycled(final Object object) {
+        return recycledObjects.add(object);
+    }
+
+    /*
+     * Types whose constructor arguments are being generated. They can not be injected again
+     * until they are created, since their instances are not in the pool to break cycles yet.
+     */
+    boolean startConstruction(final Class<?> type) {
+        return typesUnderConstruction.add(type);
+    }
+
+    void endConstruction(final Class<?> type) {
+        typesUnderConstruction.remove(type);
+    }
+
     void pushStackItem(final RandomizationContextStackItem field) {
         stack.push(field);
     }
@@ -145,4 +326,23 @@ class RandomizationContext implements RandomizerContext {
     public EasyRandomParameters getParameters() {
         return parameters;
     }
+
+    @Override
+    public GenerationBudget getGenerationBudget() {
+        return budget;
+    }
+
+    @Override
+    public AllocationStatistics getAllocationStatistics() {
+        return allocationTracker == null ? null : allocationTracker.getStatistics();
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, RandomizationContext.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,201 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.api.ReferenceSharingPolicy;
+
+import java.util.AbstractMap;
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Common {@link ReferenceSharingPolicy} implementations.
+ *
+ * <p>By default ({@link #none()}), every bean of a generated object graph is a new instance, except
+ * when the object pool ({@link EasyRandomParameters#objectPoolSize(int)}) is used to break recursion.
+ * The other policies share instances to model realistic aliasing, and to reduce the heap and the time
+ * needed to generate large object graphs in which unique subtrees are not needed. The root object of a
+ * graph is always a new instance, so that {@link EasyRandom#objects(Class, int)} returns distinct objects.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ReferenceSharingPolicies {
+
+    /**
+     * Default maximum number of instances of each type kept by {@link #withProbability(double)}.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 100;
+
+    private static final ReferenceSharingPolicy NONE = new ReferenceSharingPolicy() {
+        @Override
+        public int select(Class<?> type, int pooledInstances, RandomizerContext context, Random random) {
+            return NEW_INSTANCE;
+        }
+
+        @Override
+        public int getPoolCapacity() {
+            return 0;
+        }
+    };
+
+    /**
+     * Create a policy that never shares references. This is the default policy.
+     *
+     * @return a policy that never shares references
+     */
+    public static ReferenceSharingPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Create a policy generating at most {@code instances} instances of each type, the following
+     * beans of the type being randomly selected among them.
+     *
+     * @param instances the maximum number of instances of each type
+     * @return a per type reference sharing policy
+     */
+    public static ReferenceSharingPolicy perType(final int instances) {
+        checkInstances(instances);
+        return new BoundedPolicy(instances) {
+            @Override
+            public Object getPoolKey(Class<?> type, RandomizerContext context) {
+                return type;
+            }
+        };
+    }
+
+    /**
+     * Create a policy generating at most {@code instances} instances of each type for each field path
+     * ({@link RandomizerContext#getCurrentField()}), the following beans of the type for the same field
+     * path being randomly selected among them.
+     *
+     * @param instances the maximum number of instances of each type for each field path
+     * @return a per field path reference sharing policy
+     */
+    public static ReferenceSharingPolicy perFieldPath(final int instances) {
+        checkInstances(instances);
+        return new BoundedPolicy(instances) {
+            @Override
+            public Object getPoolKey(Class<?> type, RandomizerContext context) {
+                return new AbstractMap.SimpleImmutableEntry<>(type, context.getCurrentField());
+            }
+        };
+    }
+
+    /**
+     * Create a policy sharing, with the given probability, one of the first {@value #DEFAULT_POOL_CAPACITY}
+     * generated instances of the type instead of generating a new one.
+     *
+     * @param probability the probability to share a reference, between 0 and 1
+     * @return a probabilistic reference sharing policy
+     */
+    public static ReferenceSharingPolicy withProbability(final double probability) {
+        return withProbability(probability, DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Create a policy sharing, with the given probability, one of the first {@code instances} generated
+     * instances of the type instead of generating a new one.
+     *
+     * @param probability the probability to share a reference, between 0 and 1
+     * @param instances the maximum number of instances of each type kept to be shared
+     * @return a probabilistic reference sharing policy
+     */
+    public static ReferenceSharingPolicy withProbability(final double probability, final int instances) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException(format("probability (%s) must be in [0, 1]", probability));
+        }
+        checkInstances(instances);
+        return new ReferenceSharingPolicy() {
+            @Override
+            public int select(Class<?> type, int pooledInstances, RandomizerContext context, Random random) {
+                return pooledInstances > 0 && random.nextDouble() < probability ? random.nextInt(pooledInstances) : NEW_INSTANCE;
+            }
+
+            @Override
+            public int getPoolCapacity() {
+                return instances;
+            }
+        };
+    }
+
+    /**
+     * Share the pools of the given policy across all the objects generated by an {@link EasyRandom}
+     * instance (for example all the objects of {@link EasyRandom#objects(Class, int)}) instead of scoping
+     * them to each generated object graph.
+     *
+     * @param policy the policy whose pools should be shared
+     * @return a policy sharing references across generated objects
+     */
+    public static ReferenceSharingPolicy acrossObjects(final ReferenceSharingPolicy policy) {
+        return new ReferenceSharingPolicy() {
+            @Override
+            public int select(Class<?> type, int pooledInstances, RandomizerContext context, Random random) {
+                return policy.select(type, pooledInstances, context, random);
+            }
+
+            @Override
+            public Object getPoolKey(Class<?> type, RandomizerContext context) {
+                return policy.getPoolKey(type, context);
+            }
+
+            @Override
+            public int getPoolCapacity() {
+                return policy.getPoolCapacity();
+            }
+
+            @Override
+            public boolean isSharedAcrossObjects() {
+                return true;
+            }
+        };
+    }
+
+    private static void checkInstances(final int instances) {
+        if (instances < 1) {
+            throw new IllegalArgumentException("instances must be >= 1");
+        }
+    }
+
+    private abstract static class BoundedPolicy implements ReferenceSharingPolicy {
+
+        private final int instances;
+
+        BoundedPolicy(final int instances) {
+            this.instances = instances;
+        }
+
+        @Override
+        public int select(Class<?> type, int pooledInstances, RandomizerContext context, Random random) {
+            return pooledInstances < instances ? NEW_INSTANCE : random.nextInt(pooledInstances);
+        }
+
+        @Override
+        public int getPoolCapacity() {
+            return instances;
+        }
+    }
+}
@@ -58,6 +58,23 @@ class RegistriesRandomizerProvider implements RandomizerProvider {
         this.registries.sort(priorityComparator);
     }
 
+    /*
+     * Return the registry providing the randomizer selected by field (or by type if the field is null), if any.
+     */
+    RandomizerRegistry getProvidingRegistry(final Field field, final Class<?> type) {
+        Provider provider = field != null ? new ByFieldProvider(field) : new ByTypeProvider(type);
+        RandomizerRegistry providingRegistry = null;
+        Randomizer<?> selected = null;
+        for (RandomizerRegistry registry : registries) {
+            Randomizer<?> randomizer = provider.getRandomizer(registry);
+            if (randomizer != null && (selected == null || priorityComparator.compare(randomizer, selected) < 0)) {
+                selected = randomizer;
+                providingRegistry = registry;
+            }
+        }
+        return providingRegistry;
+    }
+
     private Randomizer<?> getRandomizer(final Provider provider) {
         return registries.stream()
                 .map(provider::getRandomizer)
@@ -0,0 +1,151 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A pool of strings used to share string instances between generated objects,
+ * so that the heap cost of generated data is proportional to the number of distinct strings.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+abstract class StringPool {
+
+    private final LongAdder servedValues = new LongAdder();
+    private final LongAdder pooledValues = new LongAdder();
+    private final LongAdder pooledBytes = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Get a string from the pool, or from the generator if the pool needs a new string.
+     *
+     * @param random    to use to pick a string from the pool
+     * @param generator of new strings
+     * @return a pooled string
+     */
+    abstract String next(Random random, Supplier<String> generator);
+
+    static StringPool bounded(final int poolSize) {
+        return new BoundedStringPool(poolSize);
+    }
+
+    static StringPool interning() {
+        return new InterningStringPool();
+    }
+
+    /**
+     * Get the pool of a field drawing its values from this pool definition.
+     *
+     * @return a pool for the values of a single field
+     */
+    abstract StringPool forField();
+
+    void addStatisticsTo(final StringPoolStatistics statistics) {
+        statistics.add(servedValues.sum(), pooledValues.sum(), pooledBytes.sum(), savedBytes.sum());
+    }
+
+    String pooled(final String value) {
+        long size = sizeOf(value);
+        servedValues.increment();
+        pooledValues.increment();
+        pooledBytes.add(size);
+        return value;
+    }
+
+    String reused(final String value) {
+        servedValues.increment();
+        savedBytes.add(sizeOf(value));
+        return value;
+    }
+
+    /*
+     * Estimated retained size of a string on a 64-bit JVM with compressed references:
+     * a 24 bytes String object and its character array (16 bytes header and 2 bytes per character),
+     * aligned to 8 bytes.
+     */
+    static long sizeOf(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        return 24 + ((16 + 2L * value.length() + 7) & ~7);
+    }
+
+    /**
+     * Pool of the first {@code poolSize} generated strings, from which all next strings are drawn.
+     */
+    private static final class BoundedStringPool extends StringPool {
+
+        private final String[] values;
+        private int size;
+
+        private BoundedStringPool(final int poolSize) {
+            values = new String[poolSize];
+        }
+
+        @Override
+        synchronized String next(final Random random, final Supplier<String> generator) {
+            if (size < values.length) {
+                String value = generator.get();
+                values[size++] = value;
+                return pooled(value);
+            }
+            return reused(values[random.nextInt(values.length)]);
+        }
+
+        @Override
+        StringPool forField() {
+            // strings of different fields must not be mixed
+            return new BoundedStringPool(values.length);
+        }
+    }
+
+    /**
+     * Pool of all distinct generated strings: equal strings are replaced with the same instance.
+     */
+    private static final class InterningStringPool extends StringPool {
+
+        private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+
+        @Override
+        String next(final Random random, final Supplier<String> generator) {
+            String value = generator.get();
+            if (value == null) {
+                return null;
+            }
+            String existingValue = values.putIfAbsent(value, value);
+            return existingValue == null ? pooled(value) : reused(existingValue);
+        }
+
+        @Override
+        StringPool forField() {
+            // interning does not change values, all fields can share the same instances
+            return this;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Statistics of the string pools of an {@link EasyRandom} instance,
+ * see {@link EasyRandomParameters#stringPool(int)} and {@link EasyRandomParameters#internStrings()}.
+ *
+ * <p>Sizes are estimated for a 64-bit JVM with compressed references.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@Getter
+@ToString
+public class StringPoolStatistics {
+
+    /**
+     * Number of strings served by the pools.
+     */
+    private long servedValues;
+
+    /**
+     * Number of distinct string instances held by the pools.
+     */
+    private long pooledValues;
+
+    /**
+     * Estimated heap size of the string instances held by the pools.
+     */
+    private long pooledBytes;
+
+    /**
+     * Estimated heap size of the strings that have been served from the pools
+     * instead of being retained as new instances.
+     */
+    private long savedBytes;
+
+    StringPoolStatistics() {
+    }
+
+    void add(final long servedValues, final long pooledValues, final long pooledBytes, final long savedBytes) {
+        this.servedValues += servedValues;
+        this.pooledValues += pooledValues;
+        this.pooledBytes += pooledBytes;
+        this.savedBytes += savedBytes;
+    }
+}
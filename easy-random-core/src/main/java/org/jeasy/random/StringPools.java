@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * String pools of an {@link EasyRandom} instance, created from the pool definitions of its parameters.
+ * Each string field gets its own pool from the definition it matches (see {@link StringPool#forField()}),
+ * so that the values of a field are never drawn from strings generated for another field.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class StringPools {
+
+    // marks fields whose values are not pooled, as concurrent maps do not accept null values
+    private static final StringPool NO_POOL = StringPool.interning();
+
+    private final Map<Predicate<Field>, StringPool> fieldStringPools = new LinkedHashMap<>();
+
+    private final StringPool stringPool;
+
+    private final Map<Field, StringPool> stringPoolsByField = new ConcurrentHashMap<>();
+
+    StringPools(final EasyRandomParameters parameters) {
+        for (Map.Entry<Predicate<Field>, Supplier<StringPool>> entry : parameters.getFieldStringPools().entrySet()) {
+            fieldStringPools.put(entry.getKey(), entry.getValue().get());
+        }
+        Supplier<StringPool> stringPoolSupplier = parameters.getStringPool();
+        stringPool = stringPoolSupplier == null ? null : stringPoolSupplier.get();
+    }
+
+    /**
+     * Get the pool of the given field.
+     *
+     * @param field for which to get the pool
+     * @return the pool of the given field, or null if values of the field are not pooled
+     */
+    StringPool getStringPool(final Field field) {
+        if (!String.class.equals(field.getType())) {
+            return null;
+        }
+        StringPool pool = stringPoolsByField.computeIfAbsent(field, this::newStringPool);
+        return pool == NO_POOL ? null : pool;
+    }
+
+    /**
+     * Get the pool of the given type, used for values that are not field values (like collection elements).
+     *
+     * @param type for which to get the pool
+     * @return the pool of the given type, or null if values of the type are not pooled
+     */
+    StringPool getStringPool(final Class<?> type) {
+        return String.class.equals(type) ? stringPool : null;
+    }
+
+    boolean isEmpty() {
+        return stringPool == null && fieldStringPools.isEmpty();
+    }
+
+    StringPoolStatistics getStatistics() {
+        Set<StringPool> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        pools.addAll(fieldStringPools.values());
+        pools.addAll(stringPoolsByField.values());
+        if (stringPool != null) {
+            pools.add(stringPool);
+        }
+        pools.remove(NO_POOL);
+        StringPoolStatistics statistics = new StringPoolStatistics();
+        pools.forEach(pool -> pool.addStatisticsTo(statistics));
+        return statistics;
+    }
+
+    private StringPool newStringPool(final Field field) {
+        for (Map.Entry<Predicate<Field>, StringPool> entry : fieldStringPools.entrySet()) {
+            if (entry.getKey().test(field)) {
+                return entry.getValue().forField();
+            }
+        }
+        return stringPool == null ? NO_POOL : stringPool.forField();
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+/**
+ * Generator of objects from sub-seeds, used to materialize lazy collections and lazy proxies.
+ *
+ * <p>Each object is generated by an independent {@link EasyRandom} re-seeded with the sub-seed: the randomizers
+ * of its loaded registries are built again from the sub-seed, so the same object is obtained for the same sub-seed
+ * whatever the order in which lazy values are accessed. Custom randomizers and user registries are shared with the
+ * enclosing {@link EasyRandom} and keep their own state, so their values may depend on the access order.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class SubSeedGenerator {
+
+    private final EasyRandom easyRandom;
+
+    private final EasyRandomParameters parameters;
+
+    private EasyRandom generator;
+
+    SubSeedGenerator(final EasyRandom easyRandom, final EasyRandomParameters parameters) {
+        this.easyRandom = easyRandom;
+        this.parameters = parameters;
+    }
+
+    /*
+     * The sub-seed is drawn from the generator of the enclosing graph so that two lazy values
+     * populated for the same field path (of two beans of a list for example) are not the same.
+     */
+    long nextSubSeed(final RandomizationContext context) {
+        return mix(easyRandom.nextLong() + context.getCurrentField().hashCode());
+    }
+
+    synchronized Object generate(final Class<?> type, final long seed) {
+        if (generator == null) {
+            generator = new EasyRandom(parameters.copy());
+        }
+        generator.reseed(seed);
+        return generator.nextObject(type);
+    }
+
+    // finalizer of the SplitMix64 generator
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
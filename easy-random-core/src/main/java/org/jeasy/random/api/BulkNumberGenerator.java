@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * Generator of primitive numbers in bulk, used for arrays and columns of {@code int}, {@code long}, {@code float}
+ * and {@code double} when {@link org.jeasy.random.EasyRandomParameters#bulkNumbers(boolean)} is activated.
+ *
+ * <p>Values are defined by a counter-based SplitMix64 generator: the value at index {@code i} of an array only
+ * depends on the seed and on {@code i}, see {@link org.jeasy.random.BulkNumberGenerators#nextLong(long, int)} and
+ * the other methods of {@link org.jeasy.random.BulkNumberGenerators} for the exact mapping to ranges.
+ * Implementations must generate exactly these values (so that generated data do not depend on the implementation
+ * available at runtime) and are free to generate them in any order, with SIMD instructions for example.</p>
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}, the first supported one is used
+ * (see {@link org.jeasy.random.BulkNumberGenerators#getDefault()}).</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface BulkNumberGenerator {
+
+    /**
+     * Is this generator supported by the current JVM and hardware? Unsupported generators are not used.
+     *
+     * @return true if this generator is supported
+     */
+    default boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Fill the given range of an array with random integers between {@code min} and {@code max} (inclusive).
+     *
+     * @param seed the seed of the generator
+     * @param values the array to fill
+     * @param from index of the first element to fill (inclusive)
+     * @param to index of the last element to fill (exclusive)
+     * @param min min value (inclusive)
+     * @param max max value (inclusive), greater than or equal to {@code min}
+     */
+    void fill(long seed, int[] values, int from, int to, int min, int max);
+
+    /**
+     * Fill the given range of an array with random longs between {@code min} and {@code max} (inclusive).
+     *
+     * @param seed the seed of the generator
+     * @param values the array to fill
+     * @param from index of the first element to fill (inclusive)
+     * @param to index of the last element to fill (exclusive)
+     * @param min min value (inclusive)
+     * @param max max value (inclusive), greater than or equal to {@code min}
+     */
+    void fill(long seed, long[] values, int from, int to, long min, long max);
+
+    /**
+     * Fill the given range of an array with random floats between {@code min} (inclusive) and {@code max}.
+     *
+     * @param seed the seed of the generator
+     * @param values the array to fill
+     * @param from index of the first element to fill (inclusive)
+     * @param to index of the last element to fill (exclusive)
+     * @param min min value (inclusive)
+     * @param max max value (exclusive, up to rounding), greater than {@code min}
+     */
+    void fill(long seed, float[] values, int from, int to, float min, float max);
+
+    /**
+     * Fill the given range of an array with random doubles between {@code min} (inclusive) and {@code max}.
+     *
+     * @param seed the seed of the generator
+     * @param values the array to fill
+     * @param from index of the first element to fill (inclusive)
+     * @param to index of the last element to fill (exclusive)
+     * @param min min value (inclusive)
+     * @param max max value (exclusive, up to rounding), greater than {@code min}
+     */
+    void fill(long seed, double[] values, int from, int to, double min, double max);
+
+}
@@ -0,0 +1,53 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.util.Random;
+
+/**
+ * Strategy interface for the size of generated collections, maps and arrays.
+ *
+ * <p>The size can depend on the randomization context, like the current randomization depth
+ * ({@link RandomizerContext#getCurrentRandomizationDepth()}) or the path of the field being
+ * randomized ({@link RandomizerContext#getCurrentField()}).</p>
+ *
+ * <p>Arrays of primitive types ({@code int[]}, {@code byte[]}, etc) are not sized by the policy: their length
+ * is drawn between 0 and 127 whatever the policy, so that generated values stay the same for a given seed.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @see org.jeasy.random.CollectionSizePolicies
+ */
+@FunctionalInterface
+public interface CollectionSizePolicy {
+
+    /**
+     * Given the current randomization context, get the size of the collection, map or array to generate.
+     *
+     * @param context the current randomization context
+     * @param random  the random generator to use
+     * @return the size of the collection, map or array to generate, greater than or equal to 0
+     */
+    int getCollectionSize(final RandomizerContext context, final Random random);
+
+}
@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.lang.reflect.Field;
+
+/**
+ * Listener notifying several listeners in order, created with {@link GenerationListener#of(GenerationListener...)}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class CompositeGenerationListener implements GenerationListener {
+
+    private final GenerationListener[] listeners;
+
+    CompositeGenerationListener(final GenerationListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void objectStarted(final Class<?> type, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.objectStarted(type, context);
+        }
+    }
+
+    @Override
+    public void objectCompleted(final Class<?> type, final Object object, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.objectCompleted(type, object, context);
+        }
+    }
+
+    @Override
+    public void objectFailed(final Class<?> type, final Throwable error, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.objectFailed(type, error, context);
+        }
+    }
+
+    @Override
+    public void fieldStarted(final Field field, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.fieldStarted(field, context);
+        }
+    }
+
+    @Override
+    public void fieldPopulated(final Field field, final Object value, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.fieldPopulated(field, value, context);
+        }
+    }
+
+    @Override
+    public void fieldExcluded(final Field field, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.fieldExcluded(field, context);
+        }
+    }
+
+    @Override
+    public void fieldCompleted(final Field field, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.fieldCompleted(field, context);
+        }
+    }
+
+    @Override
+    public void randomizerSelected(final Class<?> type, final Field field, final Randomizer<?> randomizer,
+                                   final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.randomizerSelected(type, field, randomizer, context);
+        }
+    }
+
+    @Override
+    public void collectionSized(final int size, final RandomizerContext context) {
+        for (GenerationListener listener : listeners) {
+            listener.collectionSized(size, context);
+        }
+    }
+}
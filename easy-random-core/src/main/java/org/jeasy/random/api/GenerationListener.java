@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import org.jeasy.random.EasyRandomParameters;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Callback interface notified of the progress of the generation, to collect metrics or traces.
+ * Register one with {@link EasyRandomParameters#generationListener(GenerationListener)}, or several
+ * combined with {@link #of(GenerationListener...)}.
+ *
+ * <p>Listeners are invoked synchronously on the generating thread, so they should be fast and,
+ * if shared between {@link org.jeasy.random.EasyRandom} instances, thread safe.
+ * All methods do nothing by default.</p>
+ *
+ * @see org.jeasy.random.GenerationMetrics
+ */
+public interface GenerationListener {
+
+    /**
+     * Create a listener notifying the given listeners in order, for example to collect
+     * {@link org.jeasy.random.GenerationMetrics} and {@link org.jeasy.random.FieldStatistics} together.
+     *
+     * @param listeners to notify
+     * @return a listener notifying all the given listeners
+     */
+    static GenerationListener of(final GenerationListener... listeners) {
+        Objects.requireNonNull(listeners, "Listeners must not be null");
+        for (GenerationListener listener : listeners) {
+            Objects.requireNonNull(listener, "Listener must not be null");
+        }
+        return listeners.length == 1 ? listeners[0] : new CompositeGenerationListener(listeners.clone());
+    }
+
+    /**
+     * Invoked before an instance of a bean type is created and populated. Every call is followed by a
+     * call to either {@link #objectCompleted} or {@link #objectFailed} for the same type, on the same thread.
+     *
+     * @param type of the object
+     * @param context current randomization context
+     */
+    default void objectStarted(Class<?> type, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked once an instance of a bean type has been created and populated.
+     *
+     * @param type of the object
+     * @param object the populated object
+     * @param context current randomization context
+     */
+    default void objectCompleted(Class<?> type, Object object, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked when the creation or population of a started object failed. Fields and nested objects
+     * started after the object may not have been completed.
+     *
+     * @param type of the object
+     * @param error the cause of the failure
+     * @param context current randomization context
+     */
+    default void objectFailed(Class<?> type, Throwable error, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked before a field is populated.
+     *
+     * @param field to populate
+     * @param context current randomization context
+     */
+    default void fieldStarted(Field field, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked once a value has been generated and set to a field, before {@link #fieldCompleted}. As for
+     * {@link #fieldStarted}, {@link RandomizerContext#getCurrentField()} is the path of the enclosing field.
+     * Fields left unset because the randomization depth is exceeded, or populated in place when recycling
+     * an object, are not notified.
+     *
+     * @param field populated
+     * @param value the generated value, possibly null
+     * @param context current randomization context
+     */
+    default void fieldPopulated(Field field, Object value, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked when a field is not populated because it is excluded by the exclusion policy or skipped
+     * (for example with {@link org.jeasy.random.annotation.Exclude}). {@link RandomizerContext#getCurrentField()}
+     * is the path of the enclosing field.
+     *
+     * @param field excluded
+     * @param context current randomization context
+     */
+    default void fieldExcluded(Field field, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked once a field has been populated (or skipped).
+     *
+     * @param field populated
+     * @param context current randomization context
+     */
+    default void fieldCompleted(Field field, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked when a randomizer has been looked up in the registries.
+     *
+     * @param type the looked up type
+     * @param field the looked up field, or null if the lookup was made by type only
+     * @param randomizer the randomizer found, or null if no registry provided one
+     * @param context current randomization context
+     */
+    default void randomizerSelected(Class<?> type, Field field, Randomizer<?> randomizer, RandomizerContext context) {
+    }
+
+    /**
+     * Invoked when the collection size policy has chosen the size of a collection, a map or an array.
+     * Not invoked for arrays of primitive types, which are not sized by the policy.
+     *
+     * @param size chosen by the policy
+     * @param context current randomization context
+     */
+    default void collectionSized(int size, RandomizerContext context) {
+    }
+
+}
@@ -23,6 +23,16 @@
  */
 package org.jeasy.random.api;
 
+import org.jeasy.random.ObjectCreationException;
+
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
 /**
  * Interface for custom randomizer.
  *
@@ -39,4 +49,109 @@ public interface Randomizer<T> {
      */
     T getRandomValue();
 
+    /**
+     * Generate the given number of random values and pass them to the consumer, in generation order.
+     * This is used to populate collections and arrays whose elements are generated by this randomizer.
+     *
+     * <p>The default implementation calls {@link #getRandomValue()} in a loop. Implementations may override
+     * it with a tighter loop, as long as they generate the same values as successive calls to
+     * {@link #getRandomValue()}.</p>
+     *
+     * @param count    the number of values to generate
+     * @param consumer the consumer of the generated values
+     */
+    default void fill(final int count, final Consumer<? super T> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(getRandomValue());
+        }
+    }
+
+    /**
+     * Return a randomizer that applies the given function to values generated by this randomizer.
+     *
+     * @param mapper the function to apply to each generated value
+     * @param <R>    the type generated by the returned randomizer
+     * @return a randomizer of mapped values
+     */
+    default <R> Randomizer<R> map(final Function<? super T, ? extends R> mapper) {
+        return () -> mapper.apply(getRandomValue());
+    }
+
+    /**
+     * Return a randomizer that uses values generated by this randomizer to select
+     * the randomizer producing the final value.
+     *
+     * @param mapper the function returning the randomizer to use for a given value
+     * @param <R>    the type generated by the returned randomizer
+     * @return a randomizer of values generated by the selected randomizers
+     */
+    default <R> Randomizer<R> flatMap(final Function<? super T, ? extends Randomizer<? extends R>> mapper) {
+        return () -> mapper.apply(getRandomValue()).getRandomValue();
+    }
+
+    /**
+     * Return a randomizer that combines values generated by this randomizer with values generated
+     * by the other randomizer.
+     *
+     * @param other  the randomizer to combine with
+     * @param zipper the function combining a pair of values
+     * @param <U>    the type generated by the other randomizer
+     * @param <R>    the type generated by the returned randomizer
+     * @return a randomizer of combined values
+     */
+    default <U, R> Randomizer<R> zip(final Randomizer<U> other, final BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return () -> zipper.apply(getRandomValue(), other.getRandomValue());
+    }
+
+    /**
+     * Return a randomizer that only generates values matching the given predicate.
+     * Values are re-generated at most {@code maxRetries} times, after which an
+     * {@link ObjectCreationException} is thrown.
+     *
+     * @param predicate  the predicate generated values should match
+     * @param maxRetries the maximum number of retries for a single value
+     * @return a randomizer of values matching the predicate
+     */
+    default Randomizer<T> filter(final Predicate<? super T> predicate, final int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must be >= 0");
+        }
+        return () -> {
+            for (int i = 0; i <= maxRetries; i++) {
+                T value = getRandomValue();
+                if (predicate.test(value)) {
+                    return value;
+                }
+            }
+            throw new ObjectCreationException(format("Unable to generate a value matching the predicate after %s retries", maxRetries));
+        };
+    }
+
+    /**
+     * Return a randomizer that generates {@code null} with the given probability,
+     * and a value generated by this randomizer otherwise.
+     *
+     * @param probability the probability of generating {@code null} (between 0 and 1)
+     * @return a randomizer of nullable values
+     */
+    default Randomizer<T> nullable(final double probability) {
+        return nullable(probability, new Random().nextLong());
+    }
+
+    /**
+     * Return a randomizer that generates {@code null} with the given probability,
+     * and a value generated by this randomizer otherwise.
+     *
+     * @param probability the probability of generating {@code null} (between 0 and 1)
+     * @param seed        the initial seed
+     * @return a randomizer of nullable values
+     */
+    default Randomizer<T> nullable(final double probability, final long seed) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be between 0 and 1");
+        }
+        final Random random = new Random(seed);
+        return () -> random.nextDouble() < probability ? null : getRandomValue();
+    }
+
 }
@@ -23,8 +23,10 @@
  */
 package org.jeasy.random.api;
 
+import org.jeasy.random.AllocationStatistics;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.GenerationBudget;
 
 /**
  * A context object for a {@link Randomizer}.
@@ -70,4 +72,21 @@ public interface RandomizerContext {
      */
     EasyRandomParameters getParameters();
 
+    /**
+     * Return the budget consumed so far by the current call to {@link EasyRandom#nextObject(Class)}.
+     * @return consumed budget, or null if the context does not track it
+     */
+    default GenerationBudget getGenerationBudget() {
+        return null;
+    }
+
+    /**
+     * Return the allocations recorded so far by the current call to {@link EasyRandom#nextObject(Class)},
+     * see {@link EasyRandomParameters#allocationTracking(boolean)}.
+     * @return recorded allocations, or null if allocation tracking is not active
+     */
+    default AllocationStatistics getAllocationStatistics() {
+        return null;
+    }
+
 }
@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.util.Random;
+
+/**
+ * Strategy interface for sharing references in generated object graphs: instead of generating a new
+ * instance of a type, an instance that has already been generated can be referenced again.
+ *
+ * <p>Generated instances are kept in pools indexed by a key, the type of the instance by default
+ * ({@link #getPoolKey(Class, RandomizerContext)}). Pools are scoped to one generated object graph, or
+ * shared by all the objects generated by an {@link org.jeasy.random.EasyRandom} instance when
+ * {@link #isSharedAcrossObjects()} returns true.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @see org.jeasy.random.ReferenceSharingPolicies
+ */
+@FunctionalInterface
+public interface ReferenceSharingPolicy {
+
+    /**
+     * Value returned by {@link #select(Class, int, RandomizerContext, Random)} to generate a new instance.
+     */
+    int NEW_INSTANCE = -1;
+
+    /**
+     * Given the current randomization context, select a pooled instance of the given type to share,
+     * or decide to generate a new instance.
+     *
+     * @param type            the type of the instance to provide
+     * @param pooledInstances the number of instances in the pool of the type
+     * @param context         the current randomization context
+     * @param random          the random generator to use
+     * @return the index of the pooled instance to share, or {@link #NEW_INSTANCE}
+     */
+    int select(final Class<?> type, final int pooledInstances, final RandomizerContext context, final Random random);
+
+    /**
+     * Get the key of the pool of instances of the given type in the current randomization context.
+     *
+     * @param type    the type of the instance to provide
+     * @param context the current randomization context
+     * @return the key of the pool, the type by default
+     */
+    default Object getPoolKey(final Class<?> type, final RandomizerContext context) {
+        return type;
+    }
+
+    /**
+     * Get the maximum number of instances kept in a pool. New instances are not pooled once it is reached.
+     *
+     * @return the maximum number of instances kept in a pool, unbounded by default
+     */
+    default int getPoolCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Should pools be shared by all the objects generated by an {@link org.jeasy.random.EasyRandom} instance
+     * (for example all the objects of a stream), or be scoped to each generated object graph?
+     *
+     * @return true if pools are shared across generated objects, false by default
+     */
+    default boolean isSharedAcrossObjects() {
+        return false;
+    }
+}
@@ -25,7 +25,9 @@ package org.jeasy.random.randomizers;
 
 import org.jeasy.random.api.Randomizer;
 
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.ResourceBundle.getBundle;
 
@@ -36,6 +38,8 @@ import static java.util.ResourceBundle.getBundle;
  */
 public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
 
+    private static final Map<String, String[]> PREDEFINED_VALUES = new ConcurrentHashMap<>();
+
     protected final Random random;
 
     protected AbstractRandomizer() {
@@ -47,7 +51,8 @@ public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
     }
 
     protected String[] getPredefinedValuesOf(final String key) {
-        return getBundle("easy-random-data").getString(key).split(",");
+        // the bundle is read and split once per key, callers get their own copy
+        return PREDEFINED_VALUES.computeIfAbsent(key, k -> getBundle("easy-random-data").getString(k).split(",")).clone();
     }
 
     @Override
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.misc;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Boolean}.
  *
@@ -70,4 +72,11 @@ public class BooleanRandomizer extends AbstractRandomizer<Boolean> {
     public Boolean getRandomValue() {
         return random.nextBoolean();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Boolean> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(random.nextBoolean());
+        }
+    }
 }
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.api.Randomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Byte}.
  *
@@ -73,4 +75,9 @@ public class ByteRandomizer implements Randomizer<Byte> {
     public Byte getRandomValue() {
         return delegate.getRandomValue().byteValue();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Byte> consumer) {
+        delegate.fill(count, value -> consumer.accept(value.byteValue()));
+    }
 }
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Double}.
  *
@@ -70,4 +72,11 @@ public class DoubleRandomizer extends AbstractRandomizer<Double> {
     public Double getRandomValue() {
         return random.nextDouble();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Double> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(random.nextDouble());
+        }
+    }
 }
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Float}.
  *
@@ -70,4 +72,11 @@ public class FloatRandomizer extends AbstractRandomizer<Float> {
     public Float getRandomValue() {
         return random.nextFloat();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Float> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(random.nextFloat());
+        }
+    }
 }
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Integer}.
  *
@@ -70,4 +72,11 @@ public class IntegerRandomizer extends AbstractRandomizer<Integer> {
     public Integer getRandomValue() {
         return random.nextInt();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Integer> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(random.nextInt());
+        }
+    }
 }
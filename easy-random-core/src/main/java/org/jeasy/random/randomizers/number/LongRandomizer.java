@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Long}.
  *
@@ -70,4 +72,11 @@ public class LongRandomizer extends AbstractRandomizer<Long> {
     public Long getRandomValue() {
         return random.nextLong();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Long> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(random.nextLong());
+        }
+    }
 }
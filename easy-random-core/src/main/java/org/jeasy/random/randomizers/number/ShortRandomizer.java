@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.number;
 
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Short}.
  *
@@ -70,4 +72,11 @@ public class ShortRandomizer extends AbstractRandomizer<Short> {
     public Short getRandomValue() {
         return (short) random.nextInt();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Short> consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept((short) random.nextInt());
+        }
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Byte} in the given range.
  *
@@ -86,6 +88,15 @@ public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
         return (byte) nextDouble(min, max);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super Byte> consumer) {
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < count; i++) {
+            consumer.accept((byte) nextDouble(lower, upper));
+        }
+    }
+
     @Override
     protected Byte getDefaultMaxValue() {
         return Byte.MAX_VALUE;
@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers.range;
 
 import java.util.Date;
+import java.util.function.Consumer;
 
 /**
  * Generate a random {@link Date} in the given range.
@@ -102,4 +103,13 @@ public class DateRangeRandomizer extends AbstractRangeRandomizer<Date> {
         return new Date(randomDateTime);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super Date> consumer) {
+        double minDateTime = min.getTime();
+        double maxDateTime = max.getTime();
+        for (int i = 0; i < count; i++) {
+            consumer.accept(new Date((long) nextDouble(minDateTime, maxDateTime)));
+        }
+    }
+
 }
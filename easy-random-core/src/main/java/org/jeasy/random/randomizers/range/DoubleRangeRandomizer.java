@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Double} in the given range.
  *
@@ -95,4 +97,13 @@ public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
     public Double getRandomValue() {
         return nextDouble(min, max);
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Double> consumer) {
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < count; i++) {
+            consumer.accept(nextDouble(lower, upper));
+        }
+    }
 }
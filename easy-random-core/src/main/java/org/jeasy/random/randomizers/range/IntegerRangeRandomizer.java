@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Integer} in the given range.
  *
@@ -86,6 +88,15 @@ public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
         return (int) nextDouble(min, max);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super Integer> consumer) {
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < count; i++) {
+            consumer.accept((int) nextDouble(lower, upper));
+        }
+    }
+
     @Override
     protected Integer getDefaultMaxValue() {
         return Integer.MAX_VALUE;
@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.range;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
+import java.util.function.Consumer;
 
 /**
  * Generate a random {@link LocalDate} in the given range.
@@ -102,4 +103,13 @@ public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate>
         return LocalDate.ofEpochDay(randomEpochDay);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super LocalDate> consumer) {
+        double minEpochDay = min.getLong(ChronoField.EPOCH_DAY);
+        double maxEpochDay = max.getLong(ChronoField.EPOCH_DAY);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(LocalDate.ofEpochDay((long) nextDouble(minEpochDay, maxEpochDay)));
+        }
+    }
+
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Long} in the given range.
  *
@@ -86,6 +88,15 @@ public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
         return (long) nextDouble(min, max);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super Long> consumer) {
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < count; i++) {
+            consumer.accept((long) nextDouble(lower, upper));
+        }
+    }
+
     @Override
     protected Long getDefaultMaxValue() {
         return Long.MAX_VALUE;
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import java.util.function.Consumer;
+
 /**
  * Generate a random {@link Short} in the given range.
  *
@@ -86,6 +88,15 @@ public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
         return (short) nextDouble(min, max);
     }
 
+    @Override
+    public void fill(final int count, final Consumer<? super Short> consumer) {
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < count; i++) {
+            consumer.accept((short) nextDouble(lower, upper));
+        }
+    }
+
     @Override
     protected Short getDefaultMaxValue() {
         return Short.MAX_VALUE;
@@ -79,4 +79,16 @@ public class CustomRandomizerRegistry implements RandomizerRegistry {
         customFieldRandomizersRegistry.put(predicate, randomizer);
     }
 
+    /**
+     * Create a copy of this registry, with the same randomizers.
+     *
+     * @return a copy of this registry
+     */
+    public CustomRandomizerRegistry copy() {
+        CustomRandomizerRegistry copy = new CustomRandomizerRegistry();
+        copy.customFieldRandomizersRegistry.putAll(customFieldRandomizersRegistry);
+        copy.customTypeRandomizersRegistry.putAll(customTypeRandomizersRegistry);
+        return copy;
+    }
+
 }
@@ -45,6 +45,9 @@ import java.util.function.Predicate;
 @Priority(0)
 public class ExclusionRandomizerRegistry implements RandomizerRegistry {
 
+    private static final Predicate<Field> EXCLUDED_FIELD = FieldPredicates.isAnnotatedWith(Exclude.class);
+    private static final Predicate<Class<?>> EXCLUDED_TYPE = TypePredicates.isAnnotatedWith(Exclude.class);
+
     private Set<Predicate<Field>> fieldPredicates = new HashSet<>();
     private Set<Predicate<Class<?>>> typePredicates = new HashSet<>();
 
@@ -53,8 +56,8 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public void init(EasyRandomParameters parameters) {
-        fieldPredicates.add(FieldPredicates.isAnnotatedWith(Exclude.class));
-        typePredicates.add(TypePredicates.isAnnotatedWith(Exclude.class));
+        fieldPredicates.add(EXCLUDED_FIELD);
+        typePredicates.add(EXCLUDED_TYPE);
     }
 
     /**
@@ -101,4 +104,16 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
         typePredicates.add(predicate);
     }
 
+    /**
+     * Create a copy of this registry, with the same predicates.
+     *
+     * @return a copy of this registry
+     */
+    public ExclusionRandomizerRegistry copy() {
+        ExclusionRandomizerRegistry copy = new ExclusionRandomizerRegistry();
+        copy.fieldPredicates.addAll(fieldPredicates);
+        copy.typePredicates.addAll(typePredicates);
+        return copy;
+    }
+
 }
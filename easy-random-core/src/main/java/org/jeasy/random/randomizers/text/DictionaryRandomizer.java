@@ -0,0 +1,119 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.text;
+
+import org.jeasy.random.randomizers.AbstractRandomizer;
+
+import java.nio.file.Path;
+
+import static java.lang.String.format;
+
+/**
+ * A randomizer that picks values from a {@link MappedDictionary}.
+ *
+ * <p>Values are sampled in constant time directly from the memory-mapped dictionary file, which
+ * makes it possible to sample from very large lists of values (product names, SKUs, etc) without
+ * loading them on the heap. Dictionary files are created with {@link MappedDictionaryBuilder}.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class DictionaryRandomizer extends AbstractRandomizer<String> {
+
+    private final MappedDictionary dictionary;
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary file to pick values from
+     */
+    public DictionaryRandomizer(final Path dictionary) {
+        this(MappedDictionary.open(dictionary));
+    }
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary file to pick values from
+     * @param seed       initial seed
+     */
+    public DictionaryRandomizer(final Path dictionary, final long seed) {
+        this(MappedDictionary.open(dictionary), seed);
+    }
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary to pick values from
+     */
+    public DictionaryRandomizer(final MappedDictionary dictionary) {
+        super();
+        this.dictionary = checkNotEmpty(dictionary);
+    }
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary to pick values from
+     * @param seed       initial seed
+     */
+    public DictionaryRandomizer(final MappedDictionary dictionary, final long seed) {
+        super(seed);
+        this.dictionary = checkNotEmpty(dictionary);
+    }
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary file to pick values from
+     * @return a new {@link DictionaryRandomizer}
+     */
+    public static DictionaryRandomizer aNewDictionaryRandomizer(final Path dictionary) {
+        return new DictionaryRandomizer(dictionary);
+    }
+
+    /**
+     * Create a new {@link DictionaryRandomizer}.
+     *
+     * @param dictionary the dictionary file to pick values from
+     * @param seed       initial seed
+     * @return a new {@link DictionaryRandomizer}
+     */
+    public static DictionaryRandomizer aNewDictionaryRandomizer(final Path dictionary, final long seed) {
+        return new DictionaryRandomizer(dictionary, seed);
+    }
+
+    @Override
+    public String getRandomValue() {
+        long size = dictionary.size();
+        long index = size <= Integer.MAX_VALUE ? random.nextInt((int) size) : Math.floorMod(random.nextLong(), size);
+        return dictionary.get(index);
+    }
+
+    private static MappedDictionary checkNotEmpty(final MappedDictionary dictionary) {
+        if (dictionary.size() == 0) {
+            throw new IllegalArgumentException(format("Dictionary %s is empty", dictionary));
+        }
+        return dictionary;
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A read-only list of strings stored in a memory-mapped file, as created by {@link MappedDictionaryBuilder}.
+ *
+ * <p>The file is made of a header (a magic number, a format version and the number of values),
+ * a table of offsets with the start position of each value followed by the end position of the
+ * last one, and the UTF-8 encoded values. Getting a value reads its two offsets and decodes its
+ * bytes, so the dictionary is never copied to the heap whatever its size.</p>
+ *
+ * <p>Dictionaries are opened once per file and shared: all randomizers of all threads sampling
+ * from the same file use the same mapping, until the file is replaced by {@link MappedDictionaryBuilder}.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public final class MappedDictionary {
+
+    static final int MAGIC = 0x45524431; // "ERD1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // a mapping is limited to 2GB, so larger files are mapped with several segments
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    private static final Map<Path, MappedDictionary> DICTIONARIES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final List<Object> version;
+    private final ByteBuffer[] segments;
+    private final long size;
+
+    private MappedDictionary(final Path path, final List<Object> version) {
+        this.path = path;
+        this.version = version;
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IllegalArgumentException(format("%s is not a dictionary file", path));
+            }
+            segments = new ByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = i * SEGMENT_SIZE;
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, fileSize - position));
+                segments[i] = segment.order(ByteOrder.BIG_ENDIAN);
+            }
+            if (segments[0].getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(format("%s is not a dictionary file", path));
+            }
+            if (segments[0].getInt(4) != VERSION) {
+                throw new IllegalArgumentException(format("Unsupported version %s of dictionary file %s", segments[0].getInt(4), path));
+            }
+            size = segments[0].getLong(8);
+            if (size < 0 || HEADER_SIZE + (size + 1) * Long.BYTES > fileSize || offset(size) != fileSize) {
+                throw new IllegalArgumentException(format("Dictionary file %s is corrupted", path));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Unable to open dictionary file %s", path), e);
+        }
+    }
+
+    /**
+     * Open the dictionary stored in the given file. A dictionary is mapped only once,
+     * later calls with the same file return the same instance until the file is replaced.
+     *
+     * @param path of the dictionary file
+     * @return the dictionary stored in the given file
+     * @throws IllegalArgumentException if the file is not a valid dictionary file
+     * @throws UncheckedIOException     if the file can not be read
+     */
+    public static MappedDictionary open(final Path path) {
+        Path realPath;
+        List<Object> version;
+        try {
+            realPath = path.toRealPath();
+            version = version(realPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(format("Unable to open dictionary file %s", path), e);
+        }
+        // a replaced file is mapped again, dictionaries opened from the previous file keep their own mapping
+        return DICTIONARIES.compute(realPath, (key, dictionary) ->
+                dictionary != null && dictionary.version.equals(version) ? dictionary : new MappedDictionary(key, version));
+    }
+
+    private static List<Object> version(final Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return Arrays.asList(attributes.fileKey(), attributes.size(), attributes.lastModifiedTime());
+    }
+
+    /**
+     * Get the number of values of this dictionary.
+     *
+     * @return the number of values
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the value at the given index.
+     *
+     * @param index of the value, between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the value at the given index
+     */
+    public String get(final long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(format("Index %s out of dictionary bounds [0, %s)", index, size));
+        }
+        long start = offset(index);
+        int length = (int) (offset(index + 1) - start);
+        int segment = (int) (start >>> SEGMENT_SHIFT);
+        int position = (int) (start & (SEGMENT_SIZE - 1));
+        byte[] bytes = new byte[length];
+        if (position + length <= segments[segment].capacity()) {
+            // a duplicate has its own position, so concurrent reads do not interfere
+            ByteBuffer buffer = segments[segment].duplicate();
+            buffer.position(position);
+            buffer.get(bytes);
+        } else {
+            for (int i = 0; i < length; i++) {
+                bytes[i] = byteAt(start + i);
+            }
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Get the file of this dictionary.
+     *
+     * @return the file of this dictionary
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    private long offset(final long index) {
+        // offsets are 8 bytes aligned and segments are a multiple of 8 bytes, so an offset never spans two segments
+        long position = HEADER_SIZE + index * Long.BYTES;
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    private byte byteAt(final long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
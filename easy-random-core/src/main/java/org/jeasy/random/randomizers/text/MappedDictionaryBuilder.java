@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.text;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Tool to create a {@link MappedDictionary} file from a text file with one value per line.
+ *
+ * <p>Values are streamed from the text file to the dictionary file, so that dictionaries of any
+ * size can be built with a small heap. An existing dictionary file is replaced atomically, so that
+ * dictionaries already opened from it keep reading the previous values.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public final class MappedDictionaryBuilder {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MappedDictionaryBuilder() {
+    }
+
+    /**
+     * Build a dictionary file from a UTF-8 encoded text file with one value per line.
+     *
+     * @param values     text file with one value per line
+     * @param dictionary file to create (or overwrite)
+     * @return the number of values written to the dictionary
+     * @throws UncheckedIOException if a file can not be read or written
+     */
+    public static long build(final Path values, final Path dictionary) {
+        Path temporaryFile = null;
+        try {
+            long count = countLines(values);
+            long position = MappedDictionary.HEADER_SIZE + (count + 1) * Long.BYTES;
+            // the dictionary is written to a temporary file then moved, so that mappings of the previous file stay valid
+            Path directory = dictionary.toAbsolutePath().getParent();
+            temporaryFile = Files.createTempFile(directory, dictionary.getFileName().toString(), ".tmp");
+            // offsets and values are written at the same time through two channels on the same file
+            try (FileChannel offsetsChannel = FileChannel.open(temporaryFile, WRITE);
+                 FileChannel valuesChannel = FileChannel.open(temporaryFile, WRITE);
+                 DataOutputStream offsets = new DataOutputStream(buffered(offsetsChannel));
+                 OutputStream data = buffered(valuesChannel.position(position));
+                 BufferedReader reader = Files.newBufferedReader(values, UTF_8)) {
+                offsets.writeInt(MappedDictionary.MAGIC);
+                offsets.writeInt(MappedDictionary.VERSION);
+                offsets.writeLong(count);
+                String value;
+                while ((value = reader.readLine()) != null) {
+                    byte[] bytes = value.getBytes(UTF_8);
+                    offsets.writeLong(position);
+                    data.write(bytes);
+                    position += bytes.length;
+                }
+                offsets.writeLong(position);
+            }
+            Files.move(temporaryFile, dictionary, ATOMIC_MOVE, REPLACE_EXISTING);
+            return count;
+        } catch (IOException e) {
+            deleteQuietly(temporaryFile);
+            throw new UncheckedIOException(format("Unable to build dictionary file %s from %s", dictionary, values), e);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // the build error is more relevant
+            }
+        }
+    }
+
+    private static long countLines(final Path values) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(values, UTF_8)) {
+            while (reader.readLine() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static OutputStream buffered(final FileChannel channel) {
+        return new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+}
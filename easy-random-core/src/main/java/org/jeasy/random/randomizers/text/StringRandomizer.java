@@ -27,6 +27,7 @@ import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.nio.charset.Charset;
+import java.util.function.Consumer;
 
 /**
  * Generate a random {@link String}.
@@ -259,4 +260,17 @@ public class StringRandomizer extends AbstractRandomizer<String> {
         }
         return new String(chars);
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super String> consumer) {
+        // one buffer for all the values
+        char[] chars = new char[Math.max(Math.max(minLength, maxLength), 0)];
+        for (int i = 0; i < count; i++) {
+            int length = (int) nextDouble(minLength, maxLength);
+            for (int j = 0; j < length; j++) {
+                chars[j] = characterRandomizer.getRandomValue();
+            }
+            consumer.accept(new String(chars, 0, length));
+        }
+    }
 }
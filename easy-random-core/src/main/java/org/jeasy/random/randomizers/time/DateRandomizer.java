@@ -28,6 +28,7 @@ import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.DateRangeRandomizer;
 
 import java.util.Date;
+import java.util.function.Consumer;
 
 import static org.jeasy.random.util.DateUtils.toDate;
 
@@ -79,4 +80,9 @@ public class DateRandomizer implements Randomizer<Date> {
     public Date getRandomValue() {
         return delegate.getRandomValue();
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Date> consumer) {
+        delegate.fill(count, consumer);
+    }
 }
@@ -27,6 +27,7 @@ import org.jeasy.random.api.Randomizer;
 
 import java.time.Instant;
 import java.util.Date;
+import java.util.function.Consumer;
 
 /**
  * A {@link Randomizer} that generates random {@link Instant}.
@@ -77,4 +78,9 @@ public class InstantRandomizer implements Randomizer<Instant> {
         Date randomDate = dateRandomizer.getRandomValue();
         return Instant.ofEpochMilli(randomDate.getTime());
     }
+
+    @Override
+    public void fill(final int count, final Consumer<? super Instant> consumer) {
+        dateRandomizer.fill(count, date -> consumer.accept(Instant.ofEpochMilli(date.getTime())));
+    }
 }
@@ -24,6 +24,10 @@
 package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Array;
@@ -51,18 +55,19 @@ public class ArrayPopulatorTest {
     @Mock
     private RegistriesRandomizerProvider randomizerProvider;
     @Mock
-    private Randomizer integerRandomizer;
+    private Randomizer<Integer> integerRandomizer;
 
     private ArrayPopulator arrayPopulator;
 
     @BeforeEach
     public void setUp() {
+        lenient().when(context.getGenerationBudget()).thenReturn(new GenerationBudget(new EasyRandomParameters()));
         arrayPopulator = new ArrayPopulator(easyRandom, randomizerProvider);
     }
 
     @Test
     public void getRandomArray() {
-        when(easyRandom.getRandomCollectionSize()).thenReturn(INT);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(INT);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(STRING);
 
         String[] strings = (String[]) arrayPopulator.getRandomArray(String[].class, context);
@@ -75,6 +80,7 @@ public class ArrayPopulatorTest {
         when(easyRandom.nextInt()).thenReturn(INT);
         when(randomizerProvider.getRandomizerByType(Integer.TYPE, context)).thenReturn(integerRandomizer);
         when(integerRandomizer.getRandomValue()).thenReturn(INT);
+        doCallRealMethod().when(integerRandomizer).fill(anyInt(), any());
 
         int[] ints = (int[]) arrayPopulator.getRandomPrimitiveArray(Integer.TYPE, context);
 
@@ -0,0 +1,187 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.annotation.Exclude;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+public class BinaryRecordGeneratorTest {
+
+    @Test
+    public void recordsShouldBeMadeOfPrimitiveFieldsWithFixedWidths() {
+        // When
+        BinaryRecordGenerator<Packet> generator = new EasyRandom().binaryRecords(Packet.class);
+
+        // Then
+        assertThat(generator.getFieldNames()).containsExactly("id", "timestamp", "flags", "port", "valid", "ratio", "weight", "code");
+        assertThat(generator.getRecordSize()).isEqualTo(4 + 8 + 1 + 2 + 1 + 4 + 8 + 2);
+    }
+
+    @Test
+    public void bufferShouldBeFilledWithWholeRecords() {
+        // Given
+        BinaryRecordGenerator<Packet> generator = new EasyRandom().binaryRecords(Packet.class);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(generator.getRecordSize() * 10 + 5);
+
+        // When
+        int records = generator.write(buffer);
+
+        // Then
+        assertThat(records).isEqualTo(10);
+        assertThat(buffer.remaining()).isEqualTo(5);
+    }
+
+    @Test
+    public void recordsShouldBeDeterministic() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.allocate(1000);
+        ByteBuffer sameBuffer = ByteBuffer.allocate(1000);
+
+        // When
+        new EasyRandom().binaryRecords(Packet.class).write(buffer);
+        new EasyRandom().binaryRecords(Packet.class).write(sameBuffer);
+
+        // Then
+        assertThat(buffer.array()).isEqualTo(sameBuffer.array());
+    }
+
+    @Test
+    public void fieldOrderAndCustomRandomizersShouldBeHonored() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().randomize(named("port"), () -> (short) 8080);
+        BinaryRecordGenerator<Packet> generator = new EasyRandom(parameters).binaryRecords(Packet.class, "port", "valid");
+        ByteBuffer buffer = ByteBuffer.allocate(generator.getRecordSize() * 3).order(ByteOrder.LITTLE_ENDIAN);
+
+        // When
+        generator.write(buffer, 3);
+
+        // Then
+        buffer.flip();
+        for (int i = 0; i < 3; i++) {
+            assertThat(buffer.getShort()).isEqualTo((short) 8080);
+            assertThat(buffer.get()).isBetween((byte) 0, (byte) 1);
+        }
+    }
+
+    @Test
+    public void excludedFieldsShouldNotBeWritten() {
+        // When
+        BinaryRecordGenerator<Tick> generator = new EasyRandom().binaryRecords(Tick.class);
+
+        // Then
+        assertThat(generator.getFieldNames()).containsExactly("ts", "qty", "price");
+        assertThat(generator.getRecordSize()).isEqualTo(8 + 4 + 8);
+        assertThatThrownBy(() -> new EasyRandom().binaryRecords(Tick.class, "ts", "internal"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void randomizersOfUserRegistriesShouldBeHonored() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().randomizerRegistry(new QuantityRandomizerRegistry());
+        BinaryRecordGenerator<Tick> generator = new EasyRandom(parameters).binaryRecords(Tick.class, "qty");
+        ByteBuffer buffer = ByteBuffer.allocate(generator.getRecordSize() * 3);
+
+        // When
+        generator.write(buffer, 3);
+
+        // Then
+        buffer.flip();
+        for (int i = 0; i < 3; i++) {
+            assertThat(buffer.getInt()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    public void recordsShouldBeWrittenToMappedFiles(@TempDir Path directory) throws Exception {
+        // Given
+        BinaryRecordGenerator<Packet> generator = new EasyRandom().binaryRecords(Packet.class);
+        Path file = directory.resolve("packets.bin");
+
+        // When
+        long size = generator.write(file, 1000);
+
+        // Then
+        assertThat(size).isEqualTo(1000L * generator.getRecordSize());
+        assertThat(Files.size(file)).isEqualTo(size);
+    }
+
+    @Test
+    public void nonPrimitiveFieldsShouldBeRejected() {
+        assertThatThrownBy(() -> new EasyRandom().binaryRecords(Packet.class, "payload"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EasyRandom().binaryRecords(Packet.class, "unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class Packet {
+        int id;
+        long timestamp;
+        byte flags;
+        short port;
+        boolean valid;
+        float ratio;
+        double weight;
+        char code;
+        String payload;
+    }
+
+    static class Tick {
+        long ts;
+        int qty;
+        @Exclude
+        int internal;
+        double price;
+    }
+
+    static class QuantityRandomizerRegistry implements RandomizerRegistry {
+
+        @Override
+        public void init(EasyRandomParameters parameters) {
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Field field) {
+            return field.getName().equals("qty") ? () -> 42 : null;
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Class<?> type) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jeasy.random.api.BulkNumberGenerator;
+import org.junit.jupiter.api.Test;
+
+public class BulkNumberGeneratorsTest {
+
+    private static final long SEED = 123L;
+
+    private final BulkNumberGenerator generator = BulkNumberGenerators.scalar();
+
+    @Test
+    public void rawValuesShouldBeTheOutputOfSplitMix64() {
+        // SplitMix64 seeded with 0 starts with 0xe220a8397b1dcdaf, 0x6e789e6aa1b965f4 and 0x06c45d188009454f
+        assertThat(BulkNumberGenerators.nextLong(0, 0)).isEqualTo(0xe220a8397b1dcdafL);
+        assertThat(BulkNumberGenerators.nextLong(0, 1)).isEqualTo(0x6e789e6aa1b965f4L);
+        assertThat(BulkNumberGenerators.nextLong(0, 2)).isEqualTo(0x06c45d188009454fL);
+    }
+
+    @Test
+    public void valuesShouldOnlyDependOnTheSeedAndTheIndex() {
+        // Given
+        int[] whole = new int[100];
+        int[] parts = new int[100];
+
+        // When
+        generator.fill(SEED, whole, 0, 100, -10, 10);
+        generator.fill(SEED, parts, 0, 37, -10, 10);
+        generator.fill(SEED, parts, 37, 100, -10, 10);
+
+        // Then
+        assertThat(parts).isEqualTo(whole);
+        for (int i = 0; i < whole.length; i++) {
+            assertThat(whole[i]).isEqualTo(BulkNumberGenerators.nextInt(SEED, i, -10, 10)).isBetween(-10, 10);
+        }
+    }
+
+    @Test
+    public void valuesShouldBeInTheGivenRanges() {
+        // Given
+        int[] ints = new int[1000];
+        long[] longs = new long[1000];
+        float[] floats = new float[1000];
+        double[] doubles = new double[1000];
+
+        // When
+        generator.fill(SEED, ints, 0, 1000, 5, 7);
+        generator.fill(SEED, longs, 0, 1000, Long.MAX_VALUE - 2, Long.MAX_VALUE);
+        generator.fill(SEED, floats, 0, 1000, -2f, 2f);
+        generator.fill(SEED, doubles, 0, 1000, 10d, 20d);
+
+        // Then
+        assertThat(ints).contains(5, 6, 7);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(ints[i]).isBetween(5, 7);
+            assertThat(longs[i]).isGreaterThanOrEqualTo(Long.MAX_VALUE - 2);
+            assertThat(floats[i]).isGreaterThanOrEqualTo(-2f).isLessThan(2f);
+            assertThat(doubles[i]).isGreaterThanOrEqualTo(10d).isLessThan(20d);
+        }
+        assertThat(longs).contains(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void fullRangesShouldUseAllBits() {
+        // Given
+        int[] ints = new int[1];
+        long[] longs = new long[1];
+
+        // When
+        generator.fill(SEED, ints, 0, 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        generator.fill(SEED, longs, 0, 1, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Then
+        long raw = BulkNumberGenerators.nextLong(SEED, 0);
+        assertThat(ints[0]).isEqualTo((int) ((raw >>> 32) + Integer.MIN_VALUE));
+        assertThat(longs[0]).isEqualTo(raw);
+    }
+
+    @Test
+    public void defaultGeneratorShouldBeTheScalarGeneratorWithoutProvider() {
+        assertThat(BulkNumberGenerators.getDefault()).isSameAs(BulkNumberGenerators.scalar());
+    }
+}
@@ -25,14 +25,17 @@ package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.SynchronousQueue;
@@ -43,6 +46,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.jeasy.random.api.GenerationListener;
 import org.jeasy.random.beans.CollectionBean;
 import org.jeasy.random.beans.CompositeCollectionBean;
 import org.jeasy.random.beans.CustomList;
@@ -70,7 +74,8 @@ public class CollectionPopulatorTest {
 
     @BeforeEach
     public void setUp() {
-        collectionPopulator = new CollectionPopulator(easyRandom);
+        lenient().when(context.getGenerationBudget()).thenReturn(new GenerationBudget(new EasyRandomParameters()));
+        collectionPopulator = new CollectionPopulator(easyRandom, new LazyCollections(easyRandom, new EasyRandomParameters(), null), new CompactCollections(new EasyRandomParameters()));
     }
 
     /*
@@ -103,7 +108,7 @@ public class CollectionPopulatorTest {
     @Test
     public void typedInterfaceCollectionTypesMightBePopulated() throws Exception {
         // Given
-        when(easyRandom.getRandomCollectionSize()).thenReturn(SIZE);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(SIZE);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(STRING);
         Field field = Foo.class.getDeclaredField("typedInterfaceList");
 
@@ -118,7 +123,7 @@ public class CollectionPopulatorTest {
     @Test
     public void typedConcreteCollectionTypesMightBePopulated() throws Exception {
         // Given
-        when(easyRandom.getRandomCollectionSize()).thenReturn(SIZE);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(SIZE);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(STRING);
         Field field = Foo.class.getDeclaredField("typedConcreteList");
 
@@ -130,6 +135,22 @@ public class CollectionPopulatorTest {
         assertThat(collection).containsExactly(STRING, STRING);
     }
 
+    @Test
+    public void bulkGenerationShouldGenerateTheSameValuesAsElementByElementGeneration() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(123L);
+        // an observed generation generates elements one by one
+        EasyRandomParameters observedParameters = new EasyRandomParameters().seed(123L).generationListener(new GenerationListener() { });
+
+        // When
+        BulkBean bean = new EasyRandom(parameters).nextObject(BulkBean.class);
+        BulkBean observedBean = new EasyRandom(observedParameters).nextObject(BulkBean.class);
+
+        // Then
+        assertThat(bean.getLongs()).isNotEmpty();
+        assertThat(bean).isEqualTo(observedBean);
+    }
+
     @Test
     public void getEmptyImplementationForCollectionInterface() {
         Collection<?> collection = collectionPopulator.getEmptyImplementationForCollectionInterface(List.class);
@@ -137,6 +158,17 @@ public class CollectionPopulatorTest {
         assertThat(collection).isInstanceOf(ArrayList.class).isEmpty();
     }
 
+    @Data
+    static class BulkBean {
+        private List<Long> longs;
+        private Set<String> strings;
+        private List<Date> dates;
+        private Integer[] integers;
+        private int[] ints;
+        private Map<String, Integer> map;
+        private Map<String, String> stringMap;
+    }
+
     @Data
     @SuppressWarnings("rawtypes")
     class Foo {
@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.beans.Gender;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+public class ColumnPopulatorTest {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void columnsShouldBeFilledForEachField() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        Columns<Trade> columns = easyRandom.columns(Trade.class, SIZE);
+
+        // Then
+        assertThat(columns.size()).isEqualTo(SIZE);
+        assertThat(columns.getNames()).containsExactly("id", "quantity", "price", "buy", "symbol", "gender", "date");
+        assertThat(columns.getColumn("id", int[].class)).hasSize(SIZE);
+        assertThat(columns.getColumn("quantity", long[].class)).hasSize(SIZE);
+        assertThat(columns.getColumn("price", double[].class)).hasSize(SIZE);
+        assertThat(columns.getColumn("buy", boolean[].class)).contains(true, false);
+        assertThat(columns.getColumn("symbol", String[].class)).hasSize(SIZE).doesNotContainNull();
+        assertThat(columns.getColumn("gender", Gender[].class)).contains(Gender.values());
+        assertThat(columns.getColumn("date", LocalDate[].class)).hasSize(SIZE).doesNotContainNull();
+    }
+
+    @Test
+    public void columnsShouldNotDependOnTheOrderInWhichTheyAreFilled() {
+        // When
+        Columns<Trade> columns = new EasyRandom().columns(Trade.class, SIZE);
+        Columns<Trade> sameColumns = new EasyRandom().columns(Trade.class, SIZE);
+
+        // Then
+        for (String name : columns.getNames()) {
+            assertThat(Arrays.deepEquals(new Object[]{columns.getColumn(name)}, new Object[]{sameColumns.getColumn(name)})).isTrue();
+        }
+    }
+
+    @Test
+    public void repeatedColumnsShouldBeFilledConcurrentlyWithoutSharingRegistries() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().excludeField(named("note")));
+        Columns<Order> columns = easyRandom.columns(Order.class, 10);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            Columns<Order> sameColumns = easyRandom.columns(Order.class, 10);
+
+            // Then
+            assertThat(sameColumns.getNames()).containsExactlyElementsOf(columns.getNames()).doesNotContain("note");
+            for (String name : columns.getNames()) {
+                assertThat(Arrays.deepEquals(new Object[]{columns.getColumn(name)}, new Object[]{sameColumns.getColumn(name)})).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void pooledStringFieldsShouldBeDictionaryEncoded() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().stringPool(named("symbol"), 10));
+
+        // When
+        Columns<Trade> columns = easyRandom.columns(Trade.class, SIZE);
+
+        // Then
+        DictionaryColumn symbols = columns.getColumn("symbol", DictionaryColumn.class);
+        assertThat(symbols.size()).isEqualTo(SIZE);
+        assertThat(symbols.getDictionary()).hasSize(10).doesNotHaveDuplicates();
+        assertThat(symbols.get(0)).isEqualTo(symbols.getDictionary()[symbols.getCodes()[0]]);
+    }
+
+    @Test
+    public void excludedFieldsShouldNotHaveAColumn() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().excludeField(named("date")));
+
+        // When
+        Columns<Trade> columns = easyRandom.columns(Trade.class, SIZE);
+
+        // Then
+        assertThat(columns.getNames()).doesNotContain("date");
+        assertThatThrownBy(() -> columns.getColumn("date")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void fieldsWithoutRandomizerShouldBeRejected() {
+        assertThatThrownBy(() -> new EasyRandom().columns(Person.class, SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no randomizer is registered");
+    }
+
+    static class Trade {
+        static int instances;
+        int id;
+        long quantity;
+        double price;
+        boolean buy;
+        String symbol;
+        Gender gender;
+        LocalDate date;
+    }
+
+    static class Order {
+        int id;
+        int customerId;
+        long quantity;
+        long timestamp;
+        double price;
+        double discount;
+        boolean paid;
+        String currency;
+        String note;
+    }
+}
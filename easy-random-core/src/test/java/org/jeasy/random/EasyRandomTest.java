@@ -35,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
@@ -42,6 +43,7 @@ import java.util.stream.Stream;
 import static java.sql.Timestamp.valueOf;
 import static java.time.LocalDateTime.of;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.jeasy.random.FieldPredicates.*;
@@ -226,6 +228,86 @@ public class EasyRandomTest {
         }
     }
 
+    @Test
+    public void populateShouldOverwriteFieldsInPlace() {
+        // Given
+        Person person = easyRandom.nextObject(Person.class);
+        Address address = person.getAddress();
+        List<String> nicknames = person.getNicknames();
+        String name = person.getName();
+
+        // When
+        Person populatedPerson = easyRandom.populate(person);
+
+        // Then
+        assertThat(populatedPerson).isSameAs(person);
+        assertThat(person.getName()).isNotEqualTo(name);
+        assertThat(person.getAddress()).isSameAs(address);
+        assertThat(person.getNicknames()).isSameAs(nicknames);
+        validatePerson(person);
+    }
+
+    @Test
+    public void populateShouldReplaceImmutableCollections() {
+        // Given
+        Person person = new Person();
+        person.setNicknames(Collections.emptyList());
+
+        // When
+        easyRandom.populate(person);
+
+        // Then
+        assertThat(person.getNicknames()).isNotEmpty();
+        validatePerson(person);
+    }
+
+    @Test
+    public void recycledObjectsShouldReuseAPoolOfInstances() {
+        // When
+        List<Person> persons = easyRandom.recycledObjects(Person.class, 6, 2).collect(toList());
+
+        // Then
+        assertThat(persons).hasSize(6);
+        assertThat(persons.get(2)).isSameAs(persons.get(0));
+        assertThat(persons.get(5)).isSameAs(persons.get(1));
+        assertThat(persons.get(0)).isNotSameAs(persons.get(1));
+        persons.forEach(this::validatePerson);
+    }
+
+    @Test
+    public void recycledObjectsShouldGenerateAgainInstancesThatCouldNotBeGenerated() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().ignoreRandomizationErrors(true));
+
+        // When
+        List<Runnable> runnables = easyRandom.recycledObjects(Runnable.class, 6, 2).collect(toList());
+
+        // Then
+        assertThat(runnables).hasSize(6).containsOnlyNulls();
+    }
+
+    @Test
+    public void populateShouldClearFieldsPastTheRandomizationDepth() {
+        // Given
+        Person person = easyRandom.nextObject(Person.class);
+        EasyRandom shallowEasyRandom = new EasyRandom(new EasyRandomParameters().randomizationDepth(2));
+
+        // When
+        shallowEasyRandom.populate(person);
+
+        // Then
+        assertThat(depthOf(person)).isEqualTo(depthOf(shallowEasyRandom.nextObject(Person.class)));
+    }
+
+    // bounded, since parents of pooled persons may form a cycle
+    private static int depthOf(final Person person) {
+        int depth = 0;
+        for (Person parent = person.getParent(); parent != null && depth < 100; parent = parent.getParent()) {
+            depth++;
+        }
+        return depth;
+    }
+
     private void validatePerson(final Person person) {
         assertThat(person).isNotNull();
         assertThat(person.getEmail()).isNotEmpty();
@@ -75,7 +75,7 @@ public class FieldPopulatorTest {
 
     @BeforeEach
     public void setUp() {
-        fieldPopulator = new FieldPopulator(easyRandom, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator);
+        fieldPopulator = new FieldPopulator(easyRandom, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, new StringPools(new EasyRandomParameters()), new LazyProxies(new EasyRandomParameters(), null));
     }
 
     @Test
@@ -100,6 +100,7 @@ public class FieldPopulatorTest {
         Human human = new Human();
         when(randomizerProvider.getRandomizerByField(name, context)).thenReturn(randomizer);
         when(randomizer.getRandomValue()).thenReturn(NAME);
+        when(context.getRandomValue(randomizer)).thenCallRealMethod();
 
         // When
         fieldPopulator.populateField(human, name, context);
@@ -169,7 +170,7 @@ public class FieldPopulatorTest {
     @Disabled("Objenesis is able to create an instance of JAXBElement type. Hence no error is thrown as expected in this test")
     public void shouldFailWithNiceErrorMessageWhenUnableToCreateFieldValue() throws Exception {
       // Given
-      FieldPopulator fieldPopulator = new FieldPopulator(new EasyRandom(), randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator);
+      FieldPopulator fieldPopulator = new FieldPopulator(new EasyRandom(), randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, new StringPools(new EasyRandomParameters()), new LazyProxies(new EasyRandomParameters(), null));
       Field jaxbElementField = JaxbElementFieldBean.class.getDeclaredField("jaxbElementField");
       JaxbElementFieldBean jaxbElementFieldBean = new JaxbElementFieldBean();
 
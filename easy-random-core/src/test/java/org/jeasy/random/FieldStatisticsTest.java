@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.util.Random;
+
+import org.jeasy.random.FieldStatistics.FieldSummary;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+public class FieldStatisticsTest {
+
+    @Test
+    public void statisticsShouldSummarizeTheGeneratedValuesPerFieldPath() {
+        // Given
+        FieldStatistics statistics = new FieldStatistics();
+        Random random = new Random(123L);
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .generationListener(statistics)
+                .excludeField(named("phoneNumber"))
+                .randomize(named("city"), () -> random.nextBoolean() ? null : "Paris");
+
+        // When
+        new EasyRandom(parameters).objects(Person.class, 1000).forEach(person -> { });
+
+        // Then
+        assertThat(statistics.getPaths()).contains("name", "gender", "nicknames", "address.city", "address.street.number")
+                .doesNotContain("SERIAL_VERSION_UID");
+
+        FieldSummary gender = statistics.getSummary("gender");
+        assertThat(gender.getPopulationCount()).isEqualTo(1000);
+        assertThat(gender.getNullRate()).isZero();
+        assertThat(gender.getDistinctCount()).isEqualTo(2);
+
+        FieldSummary city = statistics.getSummary("address.city");
+        assertThat(city.getNullRate()).isCloseTo(0.5, within(0.1));
+        assertThat(city.getDistinctCount()).isEqualTo(1);
+        assertThat(city.getMin()).isEqualTo(5);
+        assertThat(city.getMax()).isEqualTo(5);
+
+        FieldSummary nicknames = statistics.getSummary("nicknames");
+        assertThat(nicknames.getMin()).isGreaterThanOrEqualTo(1);
+        assertThat(nicknames.getMax()).isLessThanOrEqualTo(100);
+        assertThat(nicknames.getQuantile(0.5)).isCloseTo(50, within(10.0));
+
+        assertThat(statistics.getSummary("phoneNumber").getExclusionRate()).isEqualTo(1);
+        assertThat(statistics.getSummary("excluded").getExcludedCount()).isEqualTo(1000);
+    }
+
+    @Test
+    public void quantileFractionShouldBeBetweenZeroAndOne() {
+        // Given
+        FieldStatistics statistics = new FieldStatistics();
+        new EasyRandom(new EasyRandomParameters().generationListener(statistics)).nextObject(Person.class);
+        FieldSummary summary = statistics.getSummary("name");
+
+        // When / Then
+        assertThatThrownBy(() -> summary.getQuantile(1.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The quantile fraction must be between 0 and 1");
+    }
+
+    @Test
+    public void resetShouldDiscardTheStatistics() {
+        // Given
+        FieldStatistics statistics = new FieldStatistics();
+        new EasyRandom(new EasyRandomParameters().generationListener(statistics)).nextObject(Person.class);
+
+        // When
+        statistics.reset();
+
+        // Then
+        assertThat(statistics.getPaths()).isEmpty();
+        assertThat(statistics.getSummary("name")).isNull();
+    }
+}
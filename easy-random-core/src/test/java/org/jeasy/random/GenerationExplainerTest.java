@@ -0,0 +1,126 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import org.jeasy.random.GenerationReport.Resolution;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.randomizers.registry.InternalRandomizerRegistry;
+import org.jeasy.random.randomizers.text.StringRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+public class GenerationExplainerTest {
+
+    @Test
+    public void explainShouldDescribeHowEachFieldIsGenerated() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        GenerationReport report = easyRandom.explain(Person.class);
+
+        // Then
+        assertThat(report.getType()).isEqualTo(Person.class);
+        assertThat(report.getField("email").getResolution()).isEqualTo(Resolution.RANDOMIZER);
+        assertThat(report.getField("email").getRandomizer()).isEqualTo(StringRandomizer.class);
+        assertThat(report.getField("email").getRegistry()).isEqualTo(InternalRandomizerRegistry.class);
+        assertThat(report.getField("address").getResolution()).isEqualTo(Resolution.BEAN);
+        assertThat(report.getField("address.street.name").getResolution()).isEqualTo(Resolution.RANDOMIZER);
+        assertThat(report.getField("nicknames").getResolution()).isEqualTo(Resolution.COLLECTION);
+        assertThat(report.getField("nicknames").getExpectedSize()).isPositive();
+        assertThat(report.getField("excluded").getResolution()).isEqualTo(Resolution.SKIPPED);
+        assertThat(report.getExcludedFields()).extracting("path").contains("excluded", "parent.excluded");
+        assertThat(report.getCutPoints()).extracting("path").containsExactly(String.join(".", Collections.nCopies(10, "parent")));
+        assertThat(report.getEstimatedObjectCount()).isGreaterThan(1);
+        assertThat(report.getEstimatedBytes()).isPositive();
+        assertThat(report.getSamples()).isZero();
+    }
+
+    @Test
+    public void explainShouldCutRecursionsWhenTheObjectPoolIsFull() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().objectPoolSize(3));
+
+        // When
+        GenerationReport report = easyRandom.explain(Person.class);
+
+        // Then
+        assertThat(report.getField("parent").getResolution()).isEqualTo(Resolution.BEAN);
+        assertThat(report.getField("parent.parent").getResolution()).isEqualTo(Resolution.BEAN);
+        assertThat(report.getCutPoints()).extracting("path").containsExactly("parent.parent.parent");
+        assertThat(report.getCutPoints()).extracting("resolution").containsExactly(Resolution.OBJECT_POOL);
+    }
+
+    @Test
+    public void explainShouldWalkEachTypeAtMostObjectPoolSizeTimes() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().objectPoolSize(16));
+
+        // When
+        GenerationReport report = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> easyRandom.explain(Tri.class));
+
+        // Then
+        assertThat(report.getFields()).hasSize(16 * 4);
+        assertThat(report.getCutPoints()).extracting("resolution").containsOnly(Resolution.OBJECT_POOL);
+    }
+
+    @Test
+    public void explainShouldSampleGenerationCosts() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        GenerationReport report = easyRandom.explain(Person.class, 10);
+
+        // Then
+        assertThat(report.getSamples()).isEqualTo(10);
+        assertThat(report.getSampledObjectCount()).isGreaterThanOrEqualTo(1);
+        assertThat(report.getSampledNanos()).isPositive();
+        assertThat(report.getField("address").getSampledNanos()).isPositive();
+    }
+
+    @Test
+    public void explainShouldRejectNonPositiveNumberOfSamples() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When / Then
+        assertThatThrownBy(() -> easyRandom.explain(Person.class, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The number of samples must be greater than zero");
+    }
+
+    static class Tri {
+        String name;
+        Tri a;
+        Tri b;
+        Tri c;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void estimateShouldBeExactForSmallCardinalities() {
+        // Given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            hyperLogLog.add(HyperLogLog.hash(i % 10));
+        }
+
+        // Then
+        assertThat(hyperLogLog.estimate()).isEqualTo(10);
+    }
+
+    @Test
+    public void estimateShouldBeCloseToTheNumberOfDistinctValues() {
+        // Given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 1_000_000; i++) {
+            hyperLogLog.add(HyperLogLog.hash(i));
+        }
+
+        // Then
+        assertThat((double) hyperLogLog.estimate()).isCloseTo(1_000_000, within(50_000.0));
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+public class JfrRecorderTest {
+
+    @Test
+    public void generationShouldEmitFlightRecorderEvents() throws Exception {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+        Path dump = Files.createTempFile("easy-random", ".jfr");
+
+        // When
+        Person person;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.jeasy.random.ObjectGeneration");
+            recording.enable("org.jeasy.random.BeanGeneration").withThreshold(Duration.ZERO);
+            recording.enable("org.jeasy.random.CollectionPopulation").withThreshold(Duration.ZERO);
+            recording.enable("org.jeasy.random.SlowRandomizer").withThreshold(Duration.ZERO);
+            recording.start();
+            person = easyRandom.nextObject(Person.class);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+        assertThat(find(events, "org.jeasy.random.ObjectGeneration", "type", Person.class.getName()))
+                .hasValueSatisfying(event -> assertThat(event.getBoolean("recycled")).isFalse());
+        assertThat(find(events, "org.jeasy.random.BeanGeneration", "fieldPath", "address"))
+                .hasValueSatisfying(event -> {
+                    assertThat(event.getClass("type").getName()).isEqualTo("org.jeasy.random.beans.Address");
+                    assertThat(event.getInt("depth")).isEqualTo(1);
+                });
+        assertThat(find(events, "org.jeasy.random.CollectionPopulation", "fieldPath", "nicknames"))
+                .hasValueSatisfying(event -> assertThat(event.getInt("size")).isEqualTo(person.getNicknames().size()));
+        assertThat(find(events, "org.jeasy.random.SlowRandomizer", "fieldPath", "address.city"))
+                .hasValueSatisfying(event -> assertThat(event.getClass("type").getName()).isEqualTo(String.class.getName()));
+    }
+
+    private Optional<RecordedEvent> find(final List<RecordedEvent> events, final String name, final String field, final String value) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(event -> {
+                    Object actual = event.getValue(field);
+                    if (actual instanceof jdk.jfr.consumer.RecordedClass) {
+                        actual = ((jdk.jfr.consumer.RecordedClass) actual).getName();
+                    }
+                    return value.equals(actual);
+                })
+                .findFirst();
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KllSketchTest {
+
+    @Test
+    public void quantilesShouldBeExactForSmallStreams() {
+        // Given
+        KllSketch sketch = new KllSketch();
+
+        // When
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i);
+        }
+
+        // Then
+        assertThat(sketch.getCount()).isEqualTo(100);
+        assertThat(sketch.getQuantile(0)).isEqualTo(1);
+        assertThat(sketch.getQuantile(0.5)).isEqualTo(50);
+        assertThat(sketch.getQuantile(1)).isEqualTo(100);
+    }
+
+    @Test
+    public void quantilesShouldBeCloseToTheExactQuantilesOfLargeStreams() {
+        // Given
+        KllSketch sketch = new KllSketch();
+        Random random = new Random(123L);
+
+        // When
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.add(random.nextDouble() * 1000);
+        }
+
+        // Then
+        assertThat(sketch.getCount()).isEqualTo(1_000_000);
+        assertThat(sketch.getQuantile(0.1)).isCloseTo(100, within(20.0));
+        assertThat(sketch.getQuantile(0.5)).isCloseTo(500, within(20.0));
+        assertThat(sketch.getQuantile(0.99)).isCloseTo(990, within(20.0));
+        assertThat(sketch.getWeightedItems().length).isLessThan(2000);
+    }
+}
@@ -25,6 +25,7 @@ package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -66,8 +67,9 @@ public class MapPopulatorTest {
 
     @BeforeEach
     public void setUp() {
+        lenient().when(context.getGenerationBudget()).thenReturn(new GenerationBudget(new EasyRandomParameters()));
         ObjectFactory objectFactory = new ObjenesisObjectFactory();
-        mapPopulator = new MapPopulator(easyRandom, objectFactory);
+        mapPopulator = new MapPopulator(easyRandom, objectFactory, new LazyCollections(easyRandom, new EasyRandomParameters(), null), new CompactCollections(new EasyRandomParameters()));
     }
 
     /*
@@ -101,7 +103,7 @@ public class MapPopulatorTest {
     @Test
     public void typedInterfaceMapTypesMightBePopulated() throws Exception {
         // Given
-        when(easyRandom.getRandomCollectionSize()).thenReturn(SIZE);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(SIZE);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(FOO, BAR);
         Field field = Foo.class.getDeclaredField("typedMap");
 
@@ -115,7 +117,7 @@ public class MapPopulatorTest {
     @Test
     public void typedConcreteMapTypesMightBePopulated() throws Exception {
         // Given
-        when(easyRandom.getRandomCollectionSize()).thenReturn(SIZE);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(SIZE);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(FOO, BAR);
         Field field = Foo.class.getDeclaredField("typedConcreteMap");
 
@@ -136,7 +138,7 @@ public class MapPopulatorTest {
     @Test
     public void notAddNullKeysToMap() throws NoSuchFieldException {
         // Given
-        when(easyRandom.getRandomCollectionSize()).thenReturn(SIZE);
+        when(easyRandom.getRandomCollectionSize(context)).thenReturn(SIZE);
         when(easyRandom.doPopulateBean(String.class, context)).thenReturn(null);
         Field field = Foo.class.getDeclaredField("typedConcreteMap");
 
@@ -25,6 +25,7 @@ package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.Proxy;
 import java.util.function.Supplier;
 
 import org.jeasy.random.util.ReflectionUtils;
@@ -63,6 +64,18 @@ public class RandomizerProxyTest {
         assertThat(randomizer.getRandomValue()).isInstanceOf(String.class).isEqualTo(FOO);
     }
 
+    @Test
+    public void theRandomizerShouldNotBeAReflectiveProxy() {
+        // Given
+        Supplier<String> supplier = () -> FOO;
+
+        // When
+        Randomizer<?> randomizer = ReflectionUtils.asRandomizer(supplier);
+
+        // Then
+        assertThat(Proxy.isProxyClass(randomizer.getClass())).isFalse();
+    }
+
     private static class MySupplier implements Supplier<String> {
 
         @Override
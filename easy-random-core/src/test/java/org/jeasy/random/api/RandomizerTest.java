@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.randomizers.misc.ConstantRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.junit.jupiter.api.Test;
+
+public class RandomizerTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    public void fillShouldPassGeneratedValuesInOrder() {
+        // Given
+        AtomicInteger counter = new AtomicInteger();
+        Randomizer<Integer> randomizer = counter::incrementAndGet;
+        List<Integer> values = new ArrayList<>();
+
+        // When
+        randomizer.fill(3, values::add);
+
+        // Then
+        assertThat(values).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void mapShouldApplyTheFunctionToGeneratedValues() {
+        // Given
+        Randomizer<Integer> randomizer = new ConstantRandomizer<>(21);
+
+        // When
+        Integer value = randomizer.map(i -> i * 2).getRandomValue();
+
+        // Then
+        assertThat(value).isEqualTo(42);
+    }
+
+    @Test
+    public void flatMapShouldUseTheSelectedRandomizer() {
+        // Given
+        Randomizer<String> randomizer = new ConstantRandomizer<>("foo");
+
+        // When
+        String value = randomizer.flatMap(s -> new ConstantRandomizer<>(s + "bar")).getRandomValue();
+
+        // Then
+        assertThat(value).isEqualTo("foobar");
+    }
+
+    @Test
+    public void zipShouldCombineValuesOfBothRandomizers() {
+        // Given
+        Randomizer<String> first = new ConstantRandomizer<>("foo");
+        Randomizer<Integer> second = new ConstantRandomizer<>(42);
+
+        // When
+        String value = first.zip(second, (s, i) -> s + i).getRandomValue();
+
+        // Then
+        assertThat(value).isEqualTo("foo42");
+    }
+
+    @Test
+    public void filterShouldOnlyGenerateMatchingValues() {
+        // Given
+        Randomizer<Integer> randomizer = new IntegerRandomizer(SEED).filter(i -> i % 2 == 0, 100);
+
+        // When
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(randomizer.getRandomValue());
+        }
+
+        // Then
+        assertThat(values).allMatch(i -> i % 2 == 0);
+    }
+
+    @Test
+    public void filterShouldFailWhenRetriesAreExhausted() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Randomizer<Integer> randomizer = ((Randomizer<Integer>) attempts::incrementAndGet).filter(i -> false, 3);
+
+        // When/Then
+        assertThatThrownBy(randomizer::getRandomValue).isInstanceOf(ObjectCreationException.class);
+        assertThat(attempts.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void filterShouldRejectNegativeRetries() {
+        assertThatThrownBy(() -> new ConstantRandomizer<>(1).filter(i -> true, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void nullableShouldGenerateNullsAccordingToProbability() {
+        // Given
+        Randomizer<String> always = new ConstantRandomizer<>("foo").nullable(1, SEED);
+        Randomizer<String> never = new ConstantRandomizer<>("foo").nullable(0, SEED);
+
+        // When/Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(always.getRandomValue()).isNull();
+            assertThat(never.getRandomValue()).isEqualTo("foo");
+        }
+    }
+
+    @Test
+    public void nullableShouldBeDeterministicForTheSameSeed() {
+        // Given
+        Randomizer<String> first = new ConstantRandomizer<>("foo").nullable(0.5, SEED);
+        Randomizer<String> second = new ConstantRandomizer<>("foo").nullable(0.5, SEED);
+
+        // When/Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.getRandomValue()).isEqualTo(second.getRandomValue());
+        }
+    }
+
+    @Test
+    public void nullableShouldRejectInvalidProbability() {
+        assertThatThrownBy(() -> new ConstantRandomizer<>(1).nullable(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jeasy.random.AllocationStatistics;
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+public class AllocationTrackingParameterTests {
+
+    @Test
+    public void allocationsShouldBeRecordedPerRootTypeTypeAndField() throws Exception {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().allocationTracking(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            easyRandom.nextObject(Person.class);
+        }
+        easyRandom.nextObject(Street.class);
+
+        // Then
+        AllocationStatistics statistics = easyRandom.getAllocationStatistics();
+        assertThat(statistics.getRootTypes()).containsOnly(Person.class, Street.class);
+        assertThat(statistics.getGenerationCount()).isEqualTo(11);
+        assertThat(statistics.getGenerationCount(Person.class)).isEqualTo(10);
+        assertThat(statistics.getTotalBytes(Person.class)).isPositive().isLessThanOrEqualTo(statistics.getTotalBytes());
+        assertThat(statistics.getTypes()).contains(Person.class, Address.class, Street.class);
+        assertThat(statistics.getObjectCount(Street.class)).isGreaterThan(10);
+        assertThat(statistics.getAllocatedBytes(Address.class)).isGreaterThan(statistics.getSelfAllocatedBytes(Address.class));
+        assertThat(statistics.getAllocatedBytes(Person.class)).isLessThanOrEqualTo(statistics.getTotalBytes());
+        assertThat(statistics.getAllocatedBytes(Person.class.getDeclaredField("nicknames"))).isPositive();
+        assertThat(statistics.getPopulationCount(Address.class.getDeclaredField("street"))).isGreaterThanOrEqualTo(10);
+        assertThat(statistics.getTopFields(3)).hasSize(3);
+    }
+
+    @Test
+    public void allocationsShouldBeExposedThroughTheContext() throws Exception {
+        // Given
+        List<AllocationStatistics> observed = new ArrayList<>();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .allocationTracking(true)
+                .randomize(named("city"), new StatisticsRecordingRandomizer(observed));
+
+        // When
+        new EasyRandom(parameters).nextObject(Address.class);
+
+        // Then
+        assertThat(observed).hasSize(1);
+        assertThat(observed.get(0).getAllocatedBytes(Address.class.getDeclaredField("street"))).isPositive();
+    }
+
+    @Test
+    public void allocationsShouldNotBeRecordedByDefault() {
+        // Given
+        List<AllocationStatistics> observed = new ArrayList<>();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(named("city"), new StatisticsRecordingRandomizer(observed));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        easyRandom.nextObject(Address.class);
+
+        // Then
+        assertThat(observed).containsOnly((AllocationStatistics) null);
+        assertThat(easyRandom.getAllocationStatistics().getGenerationCount()).isZero();
+    }
+
+    static class StatisticsRecordingRandomizer implements ContextAwareRandomizer<String> {
+
+        private final List<AllocationStatistics> observed;
+        private RandomizerContext context;
+
+        StatisticsRecordingRandomizer(final List<AllocationStatistics> observed) {
+            this.observed = observed;
+        }
+
+        @Override
+        public void setRandomizerContext(final RandomizerContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public String getRandomValue() {
+            observed.add(context.getAllocationStatistics());
+            return "Paris";
+        }
+    }
+}
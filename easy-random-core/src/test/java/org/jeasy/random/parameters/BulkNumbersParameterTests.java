@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+
+import lombok.Data;
+import org.jeasy.random.Columns;
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.junit.jupiter.api.Test;
+
+public class BulkNumbersParameterTests {
+
+    @Test
+    public void numericArraysShouldBeGeneratedInTheRangesOfTheDefaultRandomizers() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().bulkNumbers(true).collectionSizeRange(100, 200);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        NumberArrays numbers = easyRandom.nextObject(NumberArrays.class);
+
+        // Then
+        assertThat(numbers.getInts()).isNotEmpty();
+        assertThat(numbers.getLongs()).isNotEmpty();
+        assertThat(numbers.getFloats()).isNotEmpty();
+        for (float value : numbers.getFloats()) {
+            assertThat(value).isGreaterThanOrEqualTo(0f).isLessThan(1f);
+        }
+        assertThat(numbers.getDoubles()).isNotEmpty();
+        for (double value : numbers.getDoubles()) {
+            assertThat(value).isGreaterThanOrEqualTo(0d).isLessThan(1d);
+        }
+        assertThat(numbers.getInts()).doesNotHaveDuplicates();
+        assertThat(numbers.getLongs()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void numericArraysShouldBeReproducible() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().bulkNumbers(true).seed(42);
+
+        // When
+        NumberArrays first = new EasyRandom(parameters).nextObject(NumberArrays.class);
+        NumberArrays second = new EasyRandom(parameters).nextObject(NumberArrays.class);
+        NumberArrays scalar = new EasyRandom(new EasyRandomParameters().seed(42)).nextObject(NumberArrays.class);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.getInts()).hasSameSizeAs(scalar.getInts()).isNotEqualTo(scalar.getInts());
+    }
+
+    @Test
+    public void numericColumnsShouldBeGeneratedInBulk() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().bulkNumbers(true).seed(42);
+
+        // When
+        Columns<Numbers> columns = new EasyRandom(parameters).columns(Numbers.class, 1000);
+        Columns<Numbers> scalarColumns = new EasyRandom(new EasyRandomParameters().seed(42)).columns(Numbers.class, 1000);
+
+        // Then
+        double[] doubles = columns.getColumn("doubleValue", double[].class);
+        assertThat(doubles).hasSize(1000);
+        for (double value : doubles) {
+            assertThat(value).isGreaterThanOrEqualTo(0d).isLessThan(1d);
+        }
+        assertThat(columns.getColumn("intValue", int[].class)).doesNotHaveDuplicates()
+                .isNotEqualTo(scalarColumns.getColumn("intValue", int[].class));
+    }
+
+    @Test
+    public void customRandomizersShouldStillBeUsed() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .bulkNumbers(true)
+                .seed(42)
+                .randomize(int.class, new IntegerRandomizer(42));
+
+        // When
+        NumberArrays numbers = new EasyRandom(parameters).nextObject(NumberArrays.class);
+
+        // Then
+        IntegerRandomizer expected = new IntegerRandomizer(42);
+        for (int value : numbers.getInts()) {
+            assertThat(value).isEqualTo(expected.getRandomValue());
+        }
+    }
+
+    @Data
+    public static class NumberArrays {
+        private int[] ints;
+        private long[] longs;
+        private float[] floats;
+        private double[] doubles;
+    }
+
+    @Data
+    public static class Numbers {
+        private int intValue;
+        private double doubleValue;
+    }
+}
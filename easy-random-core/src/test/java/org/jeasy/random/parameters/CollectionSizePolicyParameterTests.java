@@ -0,0 +1,131 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.CollectionSizePolicies;
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class CollectionSizePolicyParameterTests {
+
+    @Test
+    public void geometricDecayShouldShrinkCollectionsOfDeeperLevels() {
+        // Given
+        EasyRandomParameters parameters = treeParameters()
+                .collectionSizePolicy(CollectionSizePolicies.geometricDecay(0.5));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertMaxSizes(tree, 1, new int[]{8, 4, 2, 1, 0});
+    }
+
+    @Test
+    public void levelCapsShouldCapCollectionsOfEachLevel() {
+        // Given
+        EasyRandomParameters parameters = treeParameters()
+                .randomizationDepth(10)
+                .collectionSizePolicy(CollectionSizePolicies.levelCaps(5, 2, 1));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertMaxSizes(tree, 1, new int[]{5, 2, 1, 1, 1, 1, 1, 1});
+    }
+
+    @Test
+    public void customPolicyShouldReceiveTheFieldPath() {
+        // Given
+        EasyRandomParameters parameters = treeParameters()
+                .collectionSizePolicy((context, random) -> context.getCurrentField().equals("children") ? 3 : 0);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertThat(tree.getChildren()).hasSize(3);
+        assertThat(tree.getChildren()).allSatisfy(child -> assertThat(child.getChildren()).isEmpty());
+    }
+
+    @Test
+    public void uniformPolicyShouldBeTheDefault() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().collectionSizeRange(2, 7);
+
+        // When
+        List<Integer> defaultList = new EasyRandom(parameters).objects(Tree.class, 5)
+                .map(tree -> tree.getChildren().size()).collect(Collectors.toList());
+        List<Integer> uniformList = new EasyRandom(parameters.collectionSizePolicy(CollectionSizePolicies.uniform()))
+                .objects(Tree.class, 5).map(tree -> tree.getChildren().size()).collect(Collectors.toList());
+
+        // Then
+        assertThat(uniformList).isEqualTo(defaultList);
+    }
+
+    @Test
+    public void invalidPoliciesShouldBeRejected() {
+        assertThatThrownBy(() -> CollectionSizePolicies.geometricDecay(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CollectionSizePolicies.geometricDecay(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CollectionSizePolicies.levelCaps()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CollectionSizePolicies.levelCaps(3, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EasyRandomParameters treeParameters() {
+        return new EasyRandomParameters().objectPoolSize(100_000).collectionSizeRange(1, 8);
+    }
+
+    private static void assertMaxSizes(Tree tree, int level, int[] maxSizes) {
+        if (tree == null) {
+            return;
+        }
+        int maxSize = maxSizes[Math.min(level, maxSizes.length) - 1];
+        if (tree.getChildren() == null) { // beyond the randomization depth
+            return;
+        }
+        assertThat(tree.getChildren().size()).as("level %s", level).isLessThanOrEqualTo(maxSize);
+        for (Tree child : tree.getChildren()) {
+            assertMaxSizes(child, level + 1, maxSizes);
+        }
+    }
+
+    @Data
+    public static class Tree {
+        private String name;
+        private List<Tree> children;
+    }
+}
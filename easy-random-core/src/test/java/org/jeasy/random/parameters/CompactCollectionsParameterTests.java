@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+public class CompactCollectionsParameterTests {
+
+    @Test
+    public void compactCollectionsShouldHaveTheSameContentAsDefaultOnes() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compactCollections(true);
+
+        // When
+        Fixture compact = new EasyRandom(parameters).nextObject(Fixture.class);
+        Fixture standard = new EasyRandom().nextObject(Fixture.class);
+
+        // Then
+        assertThat(compact.strings).isNotEmpty().isEqualTo(standard.strings);
+        assertThat(compact.integers).isNotEmpty().isEqualTo(standard.integers);
+        assertThat(compact.longs).isNotEmpty().containsExactlyElementsOf(standard.longs);
+        assertThat(compact.ages).isNotEmpty().isEqualTo(standard.ages);
+        assertThat(compact.ages.hashCode()).isEqualTo(standard.ages.hashCode());
+        for (String name : standard.ages.keySet()) {
+            assertThat(compact.ages.get(name)).isEqualTo(standard.ages.get(name));
+            assertThat(compact.ages.containsKey(name)).isTrue();
+        }
+        for (Integer integer : standard.integers) {
+            assertThat(compact.integers.contains(integer)).isTrue();
+        }
+        assertThat(compact.integers.contains(null)).isFalse();
+        assertThat(compact.persons).hasSameSizeAs(standard.persons);
+    }
+
+    @Test
+    public void compactCollectionsShouldBeImmutable() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compactCollections(true);
+
+        // When
+        Fixture fixture = new EasyRandom(parameters).nextObject(Fixture.class);
+
+        // Then
+        assertThatThrownBy(() -> fixture.strings.add("foo")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> fixture.integers.clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> fixture.ages.put("foo", 1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void concreteCollectionTypesShouldNotBeCompact() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compactCollections(true);
+
+        // When
+        Fixture fixture = new EasyRandom(parameters).nextObject(Fixture.class);
+
+        // Then
+        assertThat(fixture.arrayList).isExactlyInstanceOf(ArrayList.class);
+        assertThat(fixture.hashMap).isExactlyInstanceOf(HashMap.class);
+    }
+
+    static class Fixture {
+        private List<String> strings;
+        private Set<Integer> integers;
+        private Collection<Long> longs;
+        private Map<String, Integer> ages;
+        private List<Person> persons;
+        private ArrayList<String> arrayList;
+        private HashMap<String, String> hashMap;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.junit.jupiter.api.Test;
+
+public class ConstructorInjectionParameterTests {
+
+    @Test
+    public void immutableObjectsShouldBeCreatedThroughTheirConstructor() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().constructorInjection(true);
+
+        // When
+        Money money = new EasyRandom(parameters).nextObject(Money.class);
+
+        // Then
+        assertThat(money.currency).isNotEmpty().isUpperCase();
+        assertThat(money.amount).isNotNull();
+        assertThat(money.cents).isNotZero();
+    }
+
+    @Test
+    public void objectsShouldBeCreatedWithoutConstructorByDefault() {
+        // When
+        Money money = new EasyRandom().nextObject(Money.class);
+
+        // Then
+        assertThat(money.currency).isNotEqualTo(money.currency.toUpperCase());
+    }
+
+    @Test
+    public void excludedFieldsShouldBePassedDefaultValues() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .constructorInjection(true)
+                .excludeField(named("cents").or(named("amount")));
+
+        // When
+        Money money = new EasyRandom(parameters).nextObject(Money.class);
+
+        // Then
+        assertThat(money.cents).isZero();
+        assertThat(money.amount).isNull();
+        assertThat(money.currency).isUpperCase();
+    }
+
+    @Test
+    public void recursiveTypesShouldBeCreatedThroughTheirConstructor() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().constructorInjection(true);
+
+        // When
+        Link link = new EasyRandom(parameters).nextObject(Link.class);
+
+        // Then
+        assertThat(link.label).isUpperCase();
+        assertThat(link.next).isNotNull();
+    }
+
+    @Test
+    public void typesWithoutAllArgsConstructorShouldBePopulatedAsUsual() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().constructorInjection(true);
+
+        // When
+        Mutable mutable = new EasyRandom(parameters).nextObject(Mutable.class);
+
+        // Then
+        assertThat(mutable.name).isNotEmpty();
+        assertThat(mutable.value).isNotNull();
+    }
+
+    static final class Money {
+        private static final String DEFAULT_CURRENCY = "EUR";
+        private final String currency;
+        private final Double amount;
+        private final long cents;
+
+        Money(String currency, Double amount, long cents) {
+            this.currency = currency == null ? DEFAULT_CURRENCY : currency.toUpperCase();
+            this.amount = amount;
+            this.cents = cents;
+        }
+    }
+
+    static final class Link {
+        private final String label;
+        private final Link next;
+
+        Link(String label, Link next) {
+            this.label = label.toUpperCase();
+            this.next = next;
+        }
+    }
+
+    static class Mutable {
+        private String name;
+        private Integer value;
+
+        Mutable(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.GenerationBudget;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class GenerationBudgetParameterTests {
+
+    @Test
+    public void generatedObjectsShouldNotExceedTheObjectBudget() {
+        // Given
+        EasyRandomParameters parameters = unboundedTreeParameters().maxObjects(500);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertThat(countNodes(tree)).isBetween(1, 500);
+    }
+
+    @Test
+    public void generatedElementsShouldNotExceedTheCollectionElementBudget() {
+        // Given
+        EasyRandomParameters parameters = unboundedTreeParameters().maxCollectionElements(300);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertThat(countElements(tree)).isEqualTo(300);
+    }
+
+    @Test
+    public void generatedObjectsShouldNotExceedTheByteBudget() {
+        // Given
+        EasyRandomParameters parameters = unboundedTreeParameters().maxBytes(10_000);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Tree tree = easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertThat(countNodes(tree)).isLessThan(10_000 / 16);
+    }
+
+    @Test
+    public void truncatedGraphsShouldBeTheSameForTheSameSeed() {
+        // Given
+        EasyRandom easyRandom1 = new EasyRandom(unboundedTreeParameters().maxObjects(200));
+        EasyRandom easyRandom2 = new EasyRandom(unboundedTreeParameters().maxObjects(200));
+
+        // When
+        Tree tree1 = easyRandom1.nextObject(Tree.class);
+        Tree tree2 = easyRandom2.nextObject(Tree.class);
+
+        // Then
+        assertThat(tree1).isEqualTo(tree2);
+    }
+
+    @Test
+    public void consumedBudgetShouldBeExposedInTheContext() {
+        // Given
+        List<Long> consumedObjects = new ArrayList<>();
+        EasyRandomParameters parameters = unboundedTreeParameters()
+                .maxObjects(50)
+                .randomize(named("name"), new ContextAwareRandomizer<String>() {
+                    private RandomizerContext context;
+
+                    @Override
+                    public void setRandomizerContext(RandomizerContext context) {
+                        this.context = context;
+                    }
+
+                    @Override
+                    public String getRandomValue() {
+                        GenerationBudget budget = context.getGenerationBudget();
+                        consumedObjects.add(budget.getObjects());
+                        return "node";
+                    }
+                });
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        easyRandom.nextObject(Tree.class);
+
+        // Then
+        assertThat(consumedObjects).isNotEmpty().isSorted();
+        assertThat(consumedObjects.get(0)).isEqualTo(1);
+        assertThat(consumedObjects.get(consumedObjects.size() - 1)).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    public void containersShouldStopGrowingWhenTheBudgetRunsOut() {
+        for (boolean iterativePopulation : new boolean[] {false, true}) {
+            for (int maxObjects : new int[] {2, 3, 5}) {
+                // Given
+                EasyRandomParameters parameters = new EasyRandomParameters()
+                        .maxObjects(maxObjects)
+                        .collectionSizeRange(3, 5)
+                        .iterativePopulation(iterativePopulation);
+                EasyRandom easyRandom = new EasyRandom(parameters);
+
+                // When
+                Containers containers = easyRandom.nextObject(Containers.class);
+                Containers recycled = easyRandom.populate(new Containers());
+
+                // Then
+                for (Containers generated : new Containers[] {containers, recycled}) {
+                    if (generated.getNodes() != null) {
+                        assertThat(generated.getNodes()).doesNotContainNull();
+                    }
+                    if (generated.getSortedNodes() != null) {
+                        assertThat(generated.getSortedNodes()).doesNotContainNull();
+                    }
+                    if (generated.getNodesByName() != null) {
+                        assertThat(generated.getNodesByName().values()).doesNotContainNull();
+                    }
+                    if (generated.getNamesByNode() != null) {
+                        assertThat(generated.getNamesByNode().keySet()).doesNotContainNull();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void budgetsShouldBePositive() {
+        assertThatThrownBy(() -> new EasyRandomParameters().maxObjects(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EasyRandomParameters().maxBytes(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EasyRandomParameters().maxCollectionElements(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // without a budget, trees would grow until 100 000 nodes are pooled
+    private static EasyRandomParameters unboundedTreeParameters() {
+        return new EasyRandomParameters().objectPoolSize(100_000).collectionSizeRange(1, 10);
+    }
+
+    private static int countNodes(Tree tree) {
+        if (tree == null) {
+            return 0;
+        }
+        int count = 1;
+        for (Tree child : tree.getChildren()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static int countElements(Tree tree) {
+        if (tree == null) {
+            return 0;
+        }
+        int count = tree.getChildren().size();
+        for (Tree child : tree.getChildren()) {
+            count += countElements(child);
+        }
+        return count;
+    }
+
+    @Data
+    public static class Containers {
+        private List<Node> nodes;
+        private TreeSet<Node> sortedNodes;
+        private ConcurrentMap<String, Node> nodesByName;
+        private ConcurrentMap<Node, String> namesByNode;
+    }
+
+    @Data
+    public static class Node implements Comparable<Node> {
+        private String name;
+
+        @Override
+        public int compareTo(Node other) {
+            return name.compareTo(other.name);
+        }
+    }
+
+    @Data
+    public static class Tree {
+        private String name;
+        private List<Tree> children;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.FieldStatistics;
+import org.jeasy.random.GenerationMetrics;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+public class GenerationListenerParameterTests {
+
+    @Test
+    public void listenerShouldBeNotifiedOfObjectsAndFields() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        EasyRandomParameters parameters = new EasyRandomParameters().generationListener(listener);
+
+        // When
+        Person person = new EasyRandom(parameters).nextObject(Person.class);
+
+        // Then
+        assertThat(listener.events.get(0)).isEqualTo("start Person");
+        assertThat(listener.events.get(listener.events.size() - 1)).isEqualTo("end Person");
+        assertThat(listener.events).contains("start Address", "end Address", "start Street", "end Street",
+                "field address", "field street", "field nicknames");
+        assertThat(listener.depth).isZero();
+        assertThat(listener.randomizers).isPositive();
+        assertThat(listener.collectionSizes).contains(person.getNicknames().size());
+    }
+
+    @Test
+    public void listenerShouldBeNotifiedOfFailures() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .generationListener(listener)
+                .randomize(named("city"), () -> {
+                    throw new IllegalStateException();
+                });
+
+        // When
+        assertThatThrownBy(() -> new EasyRandom(parameters).nextObject(Person.class))
+                .isInstanceOf(ObjectCreationException.class);
+
+        // Then
+        assertThat(listener.events).contains("fail Address", "fail Person");
+        assertThat(listener.depth).isZero();
+    }
+
+    @Test
+    public void metricsShouldAggregateCountersAndLatencies() throws Exception {
+        // Given
+        GenerationMetrics metrics = new GenerationMetrics();
+        EasyRandomParameters parameters = new EasyRandomParameters().generationListener(metrics);
+        Field street = Address.class.getDeclaredField("street");
+
+        // When
+        new EasyRandom(parameters).objects(Person.class, 10).forEach(person -> { });
+
+        // Then
+        assertThat(metrics.getObjectCount(Person.class)).isGreaterThanOrEqualTo(10);
+        assertThat(metrics.getObjectCount(Street.class)).isGreaterThanOrEqualTo(10);
+        assertThat(metrics.getObjectCount()).isGreaterThanOrEqualTo(30);
+        assertThat(metrics.getFieldCount(street)).isGreaterThanOrEqualTo(10);
+        assertThat(metrics.getFieldTime(street)).isPositive();
+        assertThat(metrics.getFailureCount()).isZero();
+        assertThat(metrics.getObjectsPerSecond()).isPositive();
+        assertThat(metrics.getRegistryHitRate()).isBetween(0.5, 1.0);
+        assertThat(metrics.getTypes()).contains(Person.class, Address.class, Street.class);
+        long median = metrics.getLatencyPercentile(Person.class, 50);
+        assertThat(median).isPositive();
+        assertThat(metrics.getLatencyPercentile(Person.class, 99)).isGreaterThanOrEqualTo(median);
+        assertThat(metrics.getLatencyPercentile(Person.class, 50)).isGreaterThanOrEqualTo(metrics.getLatencyPercentile(Street.class, 50));
+    }
+
+    @Test
+    public void metricsShouldCountFailuresWhenErrorsAreIgnored() {
+        // Given
+        GenerationMetrics metrics = new GenerationMetrics();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .generationListener(metrics)
+                .ignoreRandomizationErrors(true)
+                .randomize(named("city"), () -> {
+                    throw new IllegalStateException();
+                });
+
+        // When
+        Person person = new EasyRandom(parameters).nextObject(Person.class);
+
+        // Then
+        assertThat(person.getAddress()).isNull();
+        assertThat(metrics.getFailureCount()).isPositive();
+        assertThat(metrics.getObjectCount(Person.class)).isPositive();
+    }
+
+    @Test
+    public void metricsShouldBeReset() {
+        // Given
+        GenerationMetrics metrics = new GenerationMetrics();
+        new EasyRandom(new EasyRandomParameters().generationListener(metrics)).nextObject(Person.class);
+
+        // When
+        metrics.reset();
+
+        // Then
+        assertThat(metrics.getObjectCount()).isZero();
+        assertThat(metrics.getFieldCount()).isZero();
+        assertThat(metrics.getTypes()).isEmpty();
+    }
+
+    @Test
+    public void combinedListenersShouldAllBeNotified() {
+        // Given
+        GenerationMetrics metrics = new GenerationMetrics();
+        FieldStatistics statistics = new FieldStatistics();
+        RecordingListener listener = new RecordingListener();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .generationListener(GenerationListener.of(metrics, statistics, listener));
+
+        // When
+        new EasyRandom(parameters).nextObject(Person.class);
+
+        // Then
+        assertThat(metrics.getObjectCount(Person.class)).isPositive();
+        assertThat(statistics.getSummary("address.city").getPopulationCount()).isPositive();
+        assertThat(listener.events).startsWith("start Person").endsWith("end Person");
+        assertThat(listener.depth).isZero();
+    }
+
+    static class RecordingListener implements GenerationListener {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<Integer> collectionSizes = new ArrayList<>();
+        private int depth;
+        private int randomizers;
+
+        @Override
+        public void objectStarted(Class<?> type, RandomizerContext context) {
+            depth++;
+            events.add("start " + type.getSimpleName());
+        }
+
+        @Override
+        public void objectCompleted(Class<?> type, Object object, RandomizerContext context) {
+            depth--;
+            events.add("end " + type.getSimpleName());
+        }
+
+        @Override
+        public void objectFailed(Class<?> type, Throwable error, RandomizerContext context) {
+            depth--;
+            events.add("fail " + type.getSimpleName());
+        }
+
+        @Override
+        public void fieldCompleted(Field field, RandomizerContext context) {
+            events.add("field " + field.getName());
+        }
+
+        @Override
+        public void randomizerSelected(Class<?> type, Field field, Randomizer<?> randomizer, RandomizerContext context) {
+            if (randomizer != null) {
+                randomizers++;
+            }
+        }
+
+        @Override
+        public void collectionSized(int size, RandomizerContext context) {
+            collectionSizes.add(size);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.*;
+import org.junit.jupiter.api.Test;
+
+public class IterativePopulationParameterTests {
+
+    @Test
+    public void deepObjectGraphsShouldBeGeneratedWithoutOverflowingTheStack() throws Exception {
+        // Given
+        int length = 10_000;
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .iterativePopulation(true)
+                .randomizationDepth(length)
+                .objectPoolSize(length);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        AtomicReference<Link> head = new AtomicReference<>();
+        // the recursive population of the list overflows such a stack
+        Thread thread = new Thread(null, () -> head.set(easyRandom.nextObject(Link.class)), "iterative-population", 256 * 1024);
+        thread.start();
+        thread.join();
+
+        // Then
+        Set<Link> links = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Link link = head.get(); link != null && links.add(link); link = link.next) {
+            assertThat(link.label).isNotNull();
+        }
+        assertThat(links).hasSize(length);
+    }
+
+    @Test
+    public void iterativePopulationShouldGenerateTheSameObjectsAsRecursivePopulation() {
+        for (Class<?> type : Arrays.asList(ArrayBean.class, CollectionBean.class, CompositeCollectionBean.class, CompositeMapBean.class,
+                EnumMapBean.class)) {
+            // Given
+            // objects reused from the object pool are picked at random, so recursive types are cut by the depth instead
+            EasyRandom recursive = new EasyRandom(parameters());
+            EasyRandom iterative = new EasyRandom(parameters().iterativePopulation(true));
+
+            // When
+            Object expected = recursive.nextObject(type);
+            Object actual = iterative.nextObject(type);
+
+            // Then
+            assertThat(actual).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(iterative.nextLong()).isEqualTo(recursive.nextLong());
+        }
+    }
+
+    @Test
+    public void iterativePopulationShouldGenerateTheSameEventsAsRecursivePopulation() {
+        for (Class<?> type : Arrays.asList(Person.class, Node.class, Tree.class, CollectionBean.class, MapBean.class)) {
+            // When
+            List<String> expected = trace(new EasyRandomParameters(), type);
+            List<String> actual = trace(new EasyRandomParameters().iterativePopulation(true), type);
+
+            // Then
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void iterativePopulationShouldInjectTheSameConstructorArgumentsAsRecursivePopulation() {
+        // When
+        List<String> expected = trace(new EasyRandomParameters().constructorInjection(true), ImmutableTree.class);
+        List<String> actual = trace(new EasyRandomParameters().constructorInjection(true).iterativePopulation(true), ImmutableTree.class);
+
+        // Then
+        assertThat(actual).isEqualTo(expected).contains("fieldPopulated children ArrayList");
+    }
+
+    @Test
+    public void iterativePopulationShouldFailLikeRecursivePopulation() {
+        // When
+        Throwable expected = catchThrowable(() -> new EasyRandom().nextObject(Wrapper.class));
+        Throwable actual = catchThrowable(() -> new EasyRandom(new EasyRandomParameters().iterativePopulation(true)).nextObject(Wrapper.class));
+
+        // Then
+        assertThat(messages(actual)).isEqualTo(messages(expected)).hasSize(4);
+    }
+
+    @Test
+    public void iterativePopulationShouldIgnoreErrorsLikeRecursivePopulation() {
+        // When
+        List<String> expected = trace(new EasyRandomParameters().ignoreRandomizationErrors(true), Wrapper.class);
+        List<String> actual = trace(new EasyRandomParameters().ignoreRandomizationErrors(true).iterativePopulation(true), Wrapper.class);
+
+        // Then
+        assertThat(actual).isEqualTo(expected).contains("fieldPopulated failing null");
+    }
+
+    private static EasyRandomParameters parameters() {
+        return new EasyRandomParameters().seed(123).randomizationDepth(3).objectPoolSize(1000).collectionSizeRange(0, 10);
+    }
+
+    private static List<String> trace(final EasyRandomParameters parameters, final Class<?> type) {
+        List<String> events = new ArrayList<>();
+        EasyRandom easyRandom = new EasyRandom(parameters.seed(123).generationListener(new GenerationListener() {
+            @Override
+            public void objectStarted(Class<?> type, RandomizerContext context) {
+                events.add("objectStarted " + type.getSimpleName() + " " + context.getCurrentField());
+            }
+
+            @Override
+            public void objectCompleted(Class<?> type, Object object, RandomizerContext context) {
+                events.add("objectCompleted " + type.getSimpleName());
+            }
+
+            @Override
+            public void objectFailed(Class<?> type, Throwable error, RandomizerContext context) {
+                events.add("objectFailed " + type.getSimpleName() + " " + messages(error));
+            }
+
+            @Override
+            public void fieldStarted(Field field, RandomizerContext context) {
+                events.add("fieldStarted " + field.getName() + " " + context.getCurrentRandomizationDepth());
+            }
+
+            @Override
+            public void fieldPopulated(Field field, Object value, RandomizerContext context) {
+                events.add("fieldPopulated " + field.getName() + " " + describe(value));
+            }
+
+            @Override
+            public void fieldExcluded(Field field, RandomizerContext context) {
+                events.add("fieldExcluded " + field.getName());
+            }
+
+            @Override
+            public void fieldCompleted(Field field, RandomizerContext context) {
+                events.add("fieldCompleted " + field.getName());
+            }
+
+            @Override
+            public void randomizerSelected(Class<?> type, Field field, Randomizer<?> randomizer, RandomizerContext context) {
+                events.add("randomizerSelected " + type.getSimpleName() + " " + describe(randomizer));
+            }
+
+            @Override
+            public void collectionSized(int size, RandomizerContext context) {
+                events.add("collectionSized " + size + " " + context.getCurrentField());
+            }
+        }));
+        easyRandom.nextObject(type);
+        events.add("nextLong " + easyRandom.nextLong());
+        return events;
+    }
+
+    // values of beans are compared by type, since objects reused from the object pool are picked at random
+    private static String describe(final Object value) {
+        if (value == null || value instanceof Number || value instanceof CharSequence || value instanceof Boolean || value instanceof Enum) {
+            return String.valueOf(value);
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static List<String> messages(Throwable error) {
+        List<String> messages = new ArrayList<>();
+        for (; error != null; error = error.getCause()) {
+            messages.add(error.getMessage());
+        }
+        return messages;
+    }
+
+    static class Link {
+        private String label;
+        private Link next;
+    }
+
+    static class Tree {
+        private String name;
+        private List<Tree> children;
+        private Tree[] siblings;
+        private Map<String, Tree> index;
+    }
+
+    static final class ImmutableTree {
+        private final String name;
+        private final List<ImmutableTree> children;
+
+        ImmutableTree(String name, List<ImmutableTree> children) {
+            this.name = name;
+            this.children = children;
+        }
+    }
+
+    static class Failing {
+        private SynchronousQueue<String> queue;
+    }
+
+    static class Wrapper {
+        private String name;
+        private Failing failing;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Gender;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+public class LazyCollectionsParameterTests {
+
+    @Test
+    public void lazyCollectionElementsShouldNotDependOnAccessOrder() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().lazyCollections(true);
+        Library library = new EasyRandom(parameters).nextObject(Library.class);
+        Library sameLibrary = new EasyRandom(parameters).nextObject(Library.class);
+
+        // When
+        List<String> names = new ArrayList<>();
+        for (Person person : library.persons) {
+            names.add(person.getName());
+        }
+        List<String> namesInReverseOrder = new ArrayList<>();
+        for (int i = sameLibrary.persons.size() - 1; i >= 0; i--) {
+            namesInReverseOrder.add(0, sameLibrary.persons.get(i).getName());
+        }
+
+        // Then
+        assertThat(names).isNotEmpty().containsExactlyElementsOf(namesInReverseOrder);
+        assertThat(library.persons.get(0)).isSameAs(library.persons.get(0));
+        assertThat(library.persons.get(0).getAddress()).isNotNull();
+    }
+
+    @Test
+    public void lazyCollectionsShouldBeReadOnly() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().lazyCollections(true);
+
+        // When
+        Library library = new EasyRandom(parameters).nextObject(Library.class);
+
+        // Then
+        assertThatThrownBy(() -> library.persons.add(new Person())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void lazySetsAndMapsShouldBePopulated() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().lazyCollections(true);
+
+        // When
+        Library library = new EasyRandom(parameters).nextObject(Library.class);
+
+        // Then
+        assertThat(library.members).isNotEmpty().doesNotContainNull();
+        assertThat(library.personsByName).isNotEmpty();
+        for (Map.Entry<String, Person> entry : library.personsByName.entrySet()) {
+            assertThat(library.personsByName.get(entry.getKey())).isSameAs(entry.getValue());
+        }
+        // sets of enumerations are not lazy, their elements would collide
+        assertThat(library.genders).isInstanceOf(HashSet.class);
+    }
+
+    @Test
+    public void softlyReferencedElementsShouldBeGeneratedAgainIdentically() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().lazyCollections(true).softLazyCollections(true);
+        Library library = new EasyRandom(parameters).nextObject(Library.class);
+        Library sameLibrary = new EasyRandom(new EasyRandomParameters().lazyCollections(true)).nextObject(Library.class);
+
+        // When
+        Person person = library.persons.get(library.persons.size() - 1);
+
+        // Then
+        assertThat(person.getName()).isEqualTo(sameLibrary.persons.get(sameLibrary.persons.size() - 1).getName());
+    }
+
+    @Test
+    public void collectionsShouldNotBeLazyByDefault() {
+        // When
+        Library library = new EasyRandom().nextObject(Library.class);
+
+        // Then
+        assertThat(library.persons).isInstanceOf(ArrayList.class);
+    }
+
+    static class Library {
+        private List<Person> persons;
+        private Set<Person> members;
+        private Map<String, Person> personsByName;
+        private Set<Gender> genders;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.lang.reflect.Proxy;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.beans.Mamals;
+import org.jeasy.random.beans.Mammal;
+import org.junit.jupiter.api.Test;
+
+public class LazyProxiesParameterTests {
+
+    @Test
+    public void interfaceTypedFieldsShouldBePopulatedWithLazyProxies() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .lazyProxies(true)
+                .scanClasspathForConcreteTypes(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+        // Then
+        Mammal mammal = mamals.getMamal();
+        assertThat(Proxy.isProxyClass(mammal.getClass())).isTrue();
+        assertThat(mammal.getName()).isNotEmpty().isEqualTo(mammal.getName());
+        mammal.setName("foo");
+        assertThat(mammal.getName()).isEqualTo("foo");
+        assertThat(mamals.getMamalImpl()).isNotNull().isNotInstanceOf(Proxy.class);
+    }
+
+    @Test
+    public void lazyProxiesShouldOnlyGenerateTheRealObjectOnFirstInvocation() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .lazyProxies(true)
+                .excludeField(named("mamal").negate());
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+        // Then
+        // without classpath scanning, no instance of the interface can be created, but only on first use
+        assertThat(mamals.getMamal()).isNotNull();
+        assertThatThrownBy(() -> mamals.getMamal().getName()).isInstanceOf(ObjectCreationException.class);
+    }
+
+    @Test
+    public void interfaceTypedFieldsShouldNotBeLazyByDefault() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().scanClasspathForConcreteTypes(true);
+
+        // When
+        Mamals mamals = new EasyRandom(parameters).nextObject(Mamals.class);
+
+        // Then
+        assertThat(Proxy.isProxyClass(mamals.getMamal().getClass())).isFalse();
+    }
+}
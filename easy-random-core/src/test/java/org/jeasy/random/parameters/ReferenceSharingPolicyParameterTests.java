@@ -0,0 +1,179 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ReferenceSharingPolicies;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceSharingPolicyParameterTests {
+
+    @Test
+    public void perTypePolicyShouldBoundTheNumberOfInstancesOfEachType() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .collectionSizeRange(20, 30)
+                .referenceSharingPolicy(ReferenceSharingPolicies.perType(3));
+
+        // When
+        Order order = new EasyRandom(parameters).nextObject(Order.class);
+
+        // Then
+        assertThat(distinct(order.products)).hasSize(3);
+        assertThat(order.products).contains(order.featured);
+    }
+
+    @Test
+    public void perFieldPathPolicyShouldShareInstancesOfTheSameFieldPath() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .collectionSizeRange(20, 30)
+                .referenceSharingPolicy(ReferenceSharingPolicies.perFieldPath(1));
+
+        // When
+        Order order = new EasyRandom(parameters).nextObject(Order.class);
+
+        // Then
+        assertThat(distinct(order.products)).hasSize(1);
+        assertThat(order.products.get(0)).isNotSameAs(order.featured);
+    }
+
+    @Test
+    public void probabilisticPolicyShouldShareInstancesWithTheGivenProbability() {
+        // Given
+        EasyRandomParameters always = new EasyRandomParameters()
+                .collectionSizeRange(20, 30)
+                .referenceSharingPolicy(ReferenceSharingPolicies.withProbability(1));
+        EasyRandomParameters never = new EasyRandomParameters()
+                .collectionSizeRange(20, 30)
+                .objectPoolSize(100)
+                .referenceSharingPolicy(ReferenceSharingPolicies.withProbability(0));
+
+        // When
+        Order order = new EasyRandom(always).nextObject(Order.class);
+        Order otherOrder = new EasyRandom(never).nextObject(Order.class);
+
+        // Then
+        assertThat(distinct(order.products)).hasSize(1);
+        assertThat(distinct(otherOrder.products)).hasSameSizeAs(otherOrder.products);
+    }
+
+    @Test
+    public void poolsShouldBeSharedAcrossObjectsWhenRequested() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .referenceSharingPolicy(ReferenceSharingPolicies.acrossObjects(ReferenceSharingPolicies.perType(2)));
+
+        // When
+        List<Product> products = new EasyRandom(parameters).objects(Order.class, 10)
+                .flatMap(order -> order.products.stream())
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(distinct(products)).hasSize(2);
+    }
+
+    @Test
+    public void rootObjectsShouldNotBeShared() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .referenceSharingPolicy(ReferenceSharingPolicies.acrossObjects(ReferenceSharingPolicies.perType(2)));
+
+        // When
+        List<Product> products = new EasyRandom(parameters).objects(Product.class, 10).collect(Collectors.toList());
+
+        // Then
+        assertThat(distinct(products)).hasSize(10);
+    }
+
+    @Test
+    public void probabilisticPolicyShouldShareOnlyTheInstancesItKeeps() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .collectionSizeRange(20, 30)
+                .objectPoolSize(100)
+                .referenceSharingPolicy(ReferenceSharingPolicies.acrossObjects(ReferenceSharingPolicies.withProbability(0.5, 2)));
+
+        // When
+        List<Product> products = new EasyRandom(parameters).objects(Order.class, 10)
+                .flatMap(order -> Stream.concat(Stream.of(order.featured), order.products.stream()))
+                .collect(Collectors.toList());
+
+        // Then
+        Set<Product> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Product> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Product product : products) {
+            if (!seen.add(product)) {
+                shared.add(product);
+            }
+        }
+        assertThat(shared).hasSize(2);
+        assertThat(distinct(products).size()).isGreaterThan(2);
+    }
+
+    @Test
+    public void referencesShouldNotBeSharedByDefault() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().objectPoolSize(100);
+
+        // When
+        Order order = new EasyRandom(parameters).nextObject(Order.class);
+
+        // Then
+        assertThat(distinct(order.products)).hasSameSizeAs(order.products);
+    }
+
+    @Test
+    public void invalidPolicyArgumentsShouldBeRejected() {
+        assertThatThrownBy(() -> ReferenceSharingPolicies.perType(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReferenceSharingPolicies.withProbability(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReferenceSharingPolicies.withProbability(0.5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<Product> distinct(final List<Product> products) {
+        Set<Product> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(products);
+        return distinct;
+    }
+
+    static class Order {
+        private Product featured;
+        private List<Product> products;
+    }
+
+    static class Product {
+        private String name;
+    }
+}
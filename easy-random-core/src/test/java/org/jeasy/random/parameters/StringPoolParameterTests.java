@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.StringPoolStatistics;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+public class StringPoolParameterTests {
+
+    @Test
+    public void stringsShouldBeDrawnFromABoundedPool() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().stringPool(5);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Person> persons = easyRandom.objects(Person.class, 100).collect(Collectors.toList());
+
+        // Then
+        Set<String> names = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> phoneNumbers = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> nicknames = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : persons) {
+            names.add(person.getName());
+            phoneNumbers.add(person.getPhoneNumber());
+            nicknames.addAll(person.getNicknames());
+        }
+        assertThat(names).hasSize(5);
+        assertThat(phoneNumbers).hasSize(5);
+        assertThat(nicknames).hasSize(5);
+        assertThat(names).doesNotContainAnyElementsOf(phoneNumbers);
+        StringPoolStatistics statistics = easyRandom.getStringPoolStatistics();
+        assertThat(statistics.getPooledValues() % 5).isZero();
+        assertThat(statistics.getServedValues()).isGreaterThan(statistics.getPooledValues());
+        assertThat(statistics.getSavedBytes()).isPositive();
+    }
+
+    @Test
+    public void fieldStringPoolShouldOnlyApplyToMatchingFields() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().stringPool(named("phoneNumber"), 3);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Person> persons = easyRandom.objects(Person.class, 100).collect(Collectors.toList());
+
+        // Then
+        assertThat(persons.stream().map(Person::getPhoneNumber).distinct().count()).isLessThanOrEqualTo(3);
+        assertThat(persons.stream().map(Person::getName).distinct().count()).isGreaterThan(3);
+        assertThat(easyRandom.getStringPoolStatistics().getPooledValues()).isEqualTo(3);
+    }
+
+    @Test
+    public void stringPoolShouldNotMixValuesOfFieldsWithDifferentRandomizers() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(named("name"), () -> "NAME")
+                .randomize(named("phoneNumber"), () -> "PHONE")
+                .stringPool(4);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Person> persons = easyRandom.objects(Person.class, 1000).collect(Collectors.toList());
+
+        // Then
+        assertThat(persons).extracting(Person::getName).containsOnly("NAME");
+        assertThat(persons).extracting(Person::getPhoneNumber).containsOnly("PHONE");
+    }
+
+    @Test
+    public void internedStringsShouldBeSharedInstances() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(named("name"), () -> new String("foo"))
+                .internStrings(named("name"));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Person> persons = easyRandom.objects(Person.class, 10).collect(Collectors.toList());
+
+        // Then
+        for (Person person : persons) {
+            assertThat(person.getName()).isSameAs(persons.get(0).getName());
+        }
+        StringPoolStatistics statistics = easyRandom.getStringPoolStatistics();
+        assertThat(statistics.getServedValues()).isGreaterThanOrEqualTo(10);
+        assertThat(statistics.getPooledValues()).isEqualTo(1);
+        assertThat(statistics.getSavedBytes()).isEqualTo((statistics.getServedValues() - 1) * statistics.getPooledBytes());
+    }
+
+    @Test
+    public void internedStringsShouldBeUnchanged() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().internStrings());
+
+        // When
+        Person person = easyRandom.nextObject(Person.class);
+
+        // Then
+        Person expected = new EasyRandom(new EasyRandomParameters()).nextObject(Person.class);
+        assertThat(person).isEqualToComparingFieldByFieldRecursively(expected);
+    }
+
+    @Test
+    public void stringPoolSizeShouldBePositive() {
+        assertThatThrownBy(() -> new EasyRandomParameters().stringPool(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
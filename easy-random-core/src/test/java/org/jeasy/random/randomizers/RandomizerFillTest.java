@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.misc.BooleanRandomizer;
+import org.jeasy.random.randomizers.number.ByteRandomizer;
+import org.jeasy.random.randomizers.number.DoubleRandomizer;
+import org.jeasy.random.randomizers.number.FloatRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.number.LongRandomizer;
+import org.jeasy.random.randomizers.number.ShortRandomizer;
+import org.jeasy.random.randomizers.range.ByteRangeRandomizer;
+import org.jeasy.random.randomizers.range.DateRangeRandomizer;
+import org.jeasy.random.randomizers.range.DoubleRangeRandomizer;
+import org.jeasy.random.randomizers.range.FloatRangeRandomizer;
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.jeasy.random.randomizers.range.LocalDateRangeRandomizer;
+import org.jeasy.random.randomizers.range.LongRangeRandomizer;
+import org.jeasy.random.randomizers.range.ShortRangeRandomizer;
+import org.jeasy.random.randomizers.text.StringRandomizer;
+import org.jeasy.random.randomizers.time.DateRandomizer;
+import org.jeasy.random.randomizers.time.InstantRandomizer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class RandomizerFillTest {
+
+    private static final long SEED = 123L;
+    private static final int COUNT = 100;
+
+    public static Object[] generateRandomizerFactories() {
+        return new Object[] {
+                (LongFunction<Randomizer<?>>) LongRandomizer::new,
+                (LongFunction<Randomizer<?>>) IntegerRandomizer::new,
+                (LongFunction<Randomizer<?>>) ShortRandomizer::new,
+                (LongFunction<Randomizer<?>>) ByteRandomizer::new,
+                (LongFunction<Randomizer<?>>) DoubleRandomizer::new,
+                (LongFunction<Randomizer<?>>) FloatRandomizer::new,
+                (LongFunction<Randomizer<?>>) BooleanRandomizer::new,
+                (LongFunction<Randomizer<?>>) seed -> new LongRangeRandomizer(-10L, 10L, seed),
+                (LongFunction<Randomizer<?>>) seed -> new IntegerRangeRandomizer(-10, 10, seed),
+                (LongFunction<Randomizer<?>>) seed -> new ShortRangeRandomizer((short) -10, (short) 10, seed),
+                (LongFunction<Randomizer<?>>) seed -> new ByteRangeRandomizer((byte) -10, (byte) 10, seed),
+                (LongFunction<Randomizer<?>>) seed -> new DoubleRangeRandomizer(-10d, 10d, seed),
+                (LongFunction<Randomizer<?>>) seed -> new FloatRangeRandomizer(-10f, 10f, seed),
+                (LongFunction<Randomizer<?>>) seed -> new DateRangeRandomizer(new Date(0), new Date(1_500_000_000_000L), seed),
+                (LongFunction<Randomizer<?>>) seed -> new LocalDateRangeRandomizer(LocalDate.of(2000, 1, 1), LocalDate.of(2020, 1, 1), seed),
+                (LongFunction<Randomizer<?>>) DateRandomizer::new,
+                (LongFunction<Randomizer<?>>) InstantRandomizer::new,
+                (LongFunction<Randomizer<?>>) StringRandomizer::new,
+                (LongFunction<Randomizer<?>>) seed -> new StringRandomizer(5, 5, seed),
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateRandomizerFactories")
+    public void fillShouldGenerateTheSameValuesAsSuccessiveCalls(LongFunction<Randomizer<?>> factory) {
+        // Given
+        Randomizer<?> randomizer = factory.apply(SEED);
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            expected.add(randomizer.getRandomValue());
+        }
+        List<Object> values = new ArrayList<>();
+
+        // When
+        factory.apply(SEED).fill(COUNT, values::add);
+
+        // Then
+        assertThat(values).isEqualTo(expected);
+    }
+}
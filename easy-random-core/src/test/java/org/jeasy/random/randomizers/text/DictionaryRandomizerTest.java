@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.text;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.randomizers.text.DictionaryRandomizer.aNewDictionaryRandomizer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jeasy.random.randomizers.AbstractRandomizerTest;
+
+class DictionaryRandomizerTest extends AbstractRandomizerTest<String> {
+
+    private static final List<String> VALUES = asList("foo", "", "bär", "baz qux", "日本");
+
+    @TempDir
+    Path directory;
+
+    private Path dictionary;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path values = Files.write(directory.resolve("values.txt"), VALUES, UTF_8);
+        dictionary = directory.resolve("values.dict");
+        MappedDictionaryBuilder.build(values, dictionary);
+    }
+
+    @Test
+    void dictionaryShouldContainAllValuesInOrder() {
+        // When
+        MappedDictionary mappedDictionary = MappedDictionary.open(dictionary);
+
+        // Then
+        assertThat(mappedDictionary.size()).isEqualTo(VALUES.size());
+        for (int i = 0; i < VALUES.size(); i++) {
+            assertThat(mappedDictionary.get(i)).isEqualTo(VALUES.get(i));
+        }
+    }
+
+    @Test
+    void dictionaryShouldBeMappedOnlyOnce() {
+        assertThat(MappedDictionary.open(dictionary)).isSameAs(MappedDictionary.open(dictionary));
+    }
+
+    @Test
+    void rebuiltDictionaryShouldBeMappedAgainWithoutAffectingOpenedDictionaries() throws IOException {
+        // Given
+        MappedDictionary opened = MappedDictionary.open(dictionary);
+        Path newValues = Files.write(directory.resolve("new-values.txt"), asList("one", "two"), UTF_8);
+
+        // When
+        MappedDictionaryBuilder.build(newValues, dictionary);
+        MappedDictionary reopened = MappedDictionary.open(dictionary);
+
+        // Then
+        assertThat(opened.size()).isEqualTo(VALUES.size());
+        assertThat(opened.get(4)).isEqualTo(VALUES.get(4));
+        assertThat(reopened).isNotSameAs(opened);
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(reopened.get(1)).isEqualTo("two");
+        assertThat(directory.toFile().list()).containsOnly("values.txt", "new-values.txt", "values.dict");
+    }
+
+    @Test
+    void generatedValuesShouldBeDictionaryValues() {
+        // Given
+        randomizer = aNewDictionaryRandomizer(dictionary);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            String value = randomizer.getRandomValue();
+
+            // Then
+            assertThat(value).isIn(VALUES);
+        }
+    }
+
+    @Test
+    void shouldGenerateTheSameValueForTheSameSeed() {
+        // Given
+        randomizer = aNewDictionaryRandomizer(dictionary, SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+
+        // Then
+        assertThat(actual).isEqualTo("bär");
+    }
+
+    @Test
+    void indexOutOfBoundsShouldBeRejected() {
+        MappedDictionary mappedDictionary = MappedDictionary.open(dictionary);
+
+        assertThatThrownBy(() -> mappedDictionary.get(VALUES.size())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void emptyDictionaryShouldBeRejected() throws IOException {
+        // Given
+        Path values = Files.createFile(directory.resolve("empty.txt"));
+        Path emptyDictionary = directory.resolve("empty.dict");
+        MappedDictionaryBuilder.build(values, emptyDictionary);
+
+        // Then
+        assertThatThrownBy(() -> aNewDictionaryRandomizer(emptyDictionary)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void invalidDictionaryFileShouldBeRejected() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("invalid.dict"), asList("not a dictionary"), UTF_8);
+
+        // Then
+        assertThatThrownBy(() -> MappedDictionary.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a dictionary file");
+    }
+}
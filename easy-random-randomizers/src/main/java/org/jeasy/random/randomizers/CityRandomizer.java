@@ -91,6 +91,6 @@ public class CityRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().city();
+        return dictionary.resolve("address.city", random);
     }
 }
@@ -91,6 +91,6 @@ public class CompanyRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.company().name();
+        return dictionary.resolve("company.name", random);
     }
 }
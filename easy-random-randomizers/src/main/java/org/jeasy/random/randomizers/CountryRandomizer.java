@@ -91,7 +91,7 @@ public class CountryRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().country();
+        return dictionary.resolve("address.country", random);
     }
 
 }
@@ -91,6 +91,6 @@ public class CreditCardNumberRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.business().creditCardNumber();
+        return dictionary.resolve("business.credit_card_numbers", random);
     }
 }
@@ -23,10 +23,14 @@
  */
 package org.jeasy.random.randomizers;
 
+import com.github.javafaker.service.FakerIDN;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.Locale;
 
+import static org.apache.commons.lang3.StringUtils.deleteWhitespace;
+import static org.apache.commons.lang3.StringUtils.stripAccents;
+
 /**
  * A {@link Randomizer} that generates random emails.
  *
@@ -117,7 +121,11 @@ public class EmailRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return safe ? faker.internet().safeEmailAddress() : faker.internet().emailAddress();
+        String firstName = dictionary.resolve("name.first_name", random);
+        String lastName = dictionary.resolve("name.last_name", random);
+        String domain = dictionary.resolve(safe ? "internet.safe_email" : "internet.free_email", random);
+        String username = deleteWhitespace(firstName.replaceAll("'", "").toLowerCase() + "." + lastName.replaceAll("'", "").toLowerCase());
+        return stripAccents(username) + "@" + FakerIDN.toASCII(domain);
     }
 
 }
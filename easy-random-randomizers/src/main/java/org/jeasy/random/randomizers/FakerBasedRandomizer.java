@@ -29,17 +29,26 @@ import org.jeasy.random.api.Randomizer;
 import java.util.Locale;
 
 /**
- * Abstract {@link Randomizer} based on <a href="https://github.com/DiUS/java-faker">Faker</a>.
+ * Abstract {@link Randomizer} based on <a href="https://github.com/DiUS/java-faker">Faker</a> data.
+ *
+ * <p>Faker data is loaded once per locale and shared by all randomizers (see {@link FakerDictionary}),
+ * so creating a randomizer is cheap. Values are sampled with the randomizer's own (seeded) random
+ * generator.</p>
  *
  * @param <T> the element type
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
-    final Faker faker;
+    final Locale locale;
+
+    final FakerDictionary dictionary;
+
+    private Faker faker;
 
     FakerBasedRandomizer() {
-        faker = new Faker(Locale.ENGLISH);
+        locale = Locale.ENGLISH;
+        dictionary = FakerDictionary.of(locale);
     }
 
     FakerBasedRandomizer(final long seed) {
@@ -48,7 +57,21 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
     FakerBasedRandomizer(final long seed, final Locale locale) {
         super(seed);
-        faker = new Faker(locale, random);
+        this.locale = locale;
+        dictionary = FakerDictionary.of(locale);
+    }
+
+    /**
+     * Get a {@link Faker} sharing this randomizer's random generator, for values that are
+     * computed rather than sampled from Faker data. The faker is created on first use.
+     *
+     * @return a faker using this randomizer's random generator
+     */
+    Faker faker() {
+        if (faker == null) {
+            faker = new Faker(locale, random);
+        }
+        return faker;
     }
 
     @Override
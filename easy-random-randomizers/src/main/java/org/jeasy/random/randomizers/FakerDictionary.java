@@ -0,0 +1,341 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import com.github.javafaker.service.FakeValuesService;
+import com.github.javafaker.service.RandomService;
+import com.mifmif.common.regex.Generex;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.capitalize;
+
+/**
+ * Process-wide, per-locale dictionary of the <a href="https://github.com/DiUS/java-faker">Faker</a> data
+ * used by the randomizers of this module.
+ *
+ * <p>Faker data files are loaded and parsed only once per locale. Each value is flattened into a {@code String[]}
+ * table and each Faker expression (like {@code #{first_name} #{last_name}}) is compiled into a template referencing
+ * other tables. Values are then sampled with the caller's {@link Random}, drawing random numbers in the same order
+ * as Faker does, so that a seeded randomizer generates the same values as the equivalent Faker call.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class FakerDictionary {
+
+    // same syntax as the one supported by Faker's FakeValuesService
+    private static final Pattern EXPRESSION_PATTERN = Pattern.compile("#\\{([a-z0-9A-Z_.]+)\\s?(?:'([^']+)')?(?:,'([^']+)')*\\}");
+
+    private static final String[] KEYS = {
+            "address.city",
+            "address.country",
+            "address.state",
+            "address.street_name",
+            "address.postcode",
+            "business.credit_card_numbers",
+            "company.name",
+            "internet.free_email",
+            "internet.safe_email",
+            "lorem.words",
+            "name.first_name",
+            "name.last_name",
+            "name.name",
+            "phone_number.formats"
+    };
+
+    private static final Map<Locale, FakerDictionary> DICTIONARIES = new ConcurrentHashMap<>();
+
+    // Faker methods that post-process the value of their key when referenced from an expression
+    private static final Set<String> NUMERIFIED_KEYS = Collections.singleton("address.building_number");
+
+    // Faker method referenced from expressions which is not backed by Faker data
+    private static final String DIGIT_KEY = "number.digit";
+
+    private final Map<String, Table> tables;
+
+    private FakerDictionary(final Locale locale) {
+        FakeValuesService fakeValuesService = new FakeValuesService(locale, new RandomService());
+        Map<String, Table> compiledTables = new HashMap<>();
+        for (String key : KEYS) {
+            compile(key, fakeValuesService, compiledTables, new ArrayDeque<>());
+        }
+        tables = Collections.unmodifiableMap(compiledTables);
+    }
+
+    /**
+     * Get the dictionary of the given locale, loading it on first use.
+     *
+     * @param locale of the dictionary
+     * @return the dictionary of the given locale
+     */
+    static FakerDictionary of(final Locale locale) {
+        return DICTIONARIES.computeIfAbsent(locale, FakerDictionary::new);
+    }
+
+    /**
+     * Generate a random value for the given key.
+     *
+     * @param key    of the Faker value, for example {@code name.first_name}
+     * @param random to use
+     * @return a random value for the given key
+     */
+    String resolve(final String key, final Random random) {
+        Table table = tables.get(key);
+        if (table == null) {
+            throw new IllegalArgumentException(format("Unknown dictionary key: %s", key));
+        }
+        return table.resolve(random);
+    }
+
+    /**
+     * Generate a random lorem sentence of 3 to 8 words.
+     *
+     * @param random to use
+     * @return a random sentence
+     */
+    String sentence(final Random random) {
+        int wordCount = 3 + random.nextInt(6);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(resolve("lorem.words", random));
+        }
+        return capitalize(sentence.append('.').toString());
+    }
+
+    /**
+     * Generate a random lorem paragraph of 3 to 5 sentences.
+     *
+     * @param random to use
+     * @return a random paragraph
+     */
+    String paragraph(final Random random) {
+        int sentenceCount = 3 + random.nextInt(3);
+        StringBuilder paragraph = new StringBuilder();
+        for (int i = 0; i < sentenceCount; i++) {
+            if (i > 0) {
+                paragraph.append(' ');
+            }
+            paragraph.append(sentence(random));
+        }
+        return paragraph.toString();
+    }
+
+    /**
+     * Replace each '#' character of the given string with a random digit.
+     *
+     * @param string to numerify
+     * @param random to use
+     * @return the numerified string
+     */
+    static String numerify(final String string, final Random random) {
+        if (string.indexOf('#') < 0) {
+            return string;
+        }
+        char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == '#') {
+                chars[i] = (char) ('0' + random.nextInt(10));
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Replace each '#' character of the given string with a random digit,
+     * then each '?' character with a random lower case letter.
+     *
+     * @param string to bothify
+     * @param random to use
+     * @return the bothified string
+     */
+    static String bothify(final String string, final Random random) {
+        String numerified = numerify(string, random);
+        if (numerified.indexOf('?') < 0) {
+            return numerified;
+        }
+        char[] chars = numerified.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == '?') {
+                chars[i] = (char) ('a' + random.nextInt(26));
+            }
+        }
+        return new String(chars);
+    }
+
+    private static Table compile(final String key, final FakeValuesService fakeValuesService,
+                                 final Map<String, Table> compiledTables, final Deque<String> path) {
+        Table table = compiledTables.get(key);
+        if (table != null) {
+            return table;
+        }
+        if (path.contains(key)) {
+            throw new IllegalStateException(format("Cyclic Faker expression: %s -> %s", path, key));
+        }
+        Object data = fakeValuesService.fetchObject(key);
+        if (data == null) {
+            return null;
+        }
+        path.push(key);
+        String section = key.substring(0, key.indexOf('.'));
+        boolean sampled = data instanceof List;
+        List<?> rawValues = sampled ? (List<?>) data : Collections.singletonList(data);
+        if (rawValues.isEmpty()) {
+            throw new IllegalStateException(format("Empty Faker data for key: %s", key));
+        }
+        String[] values = new String[rawValues.size()];
+        Node[] templates = new Node[rawValues.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(rawValues.get(i));
+            templates[i] = compileTemplate(values[i], section, fakeValuesService, compiledTables, path);
+        }
+        path.pop();
+        table = new Table(values, templates, sampled);
+        compiledTables.put(key, table);
+        return table;
+    }
+
+    private static Node compileTemplate(final String value, final String section, final FakeValuesService fakeValuesService,
+                                     final Map<String, Table> compiledTables, final Deque<String> path) {
+        if (value.startsWith("/") && value.endsWith("/") && value.length() > 1) {
+            // Faker resolves slash delimited values as '#{regexify ...}' expressions
+            Generex generex = new Generex(value.substring(1, value.length() - 1));
+            return random -> generate(generex, random.nextLong());
+        }
+        Matcher matcher = EXPRESSION_PATTERN.matcher(value);
+        List<String> literals = new ArrayList<>();
+        List<Node> references = new ArrayList<>();
+        int start = 0;
+        while (matcher.find()) {
+            if (matcher.group(2) != null) {
+                throw new IllegalStateException(format("Expressions with arguments are not supported: %s", matcher.group()));
+            }
+            String directive = matcher.group(1);
+            String key = directive.contains(".") ? toYamlKey(directive) : section + "." + directive;
+            Table reference = compile(key, fakeValuesService, compiledTables, path);
+            literals.add(value.substring(start, matcher.start()));
+            if (reference == null) {
+                if (!DIGIT_KEY.equals(key)) {
+                    throw new IllegalStateException(format("Unable to resolve Faker expression: %s", matcher.group()));
+                }
+                references.add(FakerDictionary::digit);
+            } else if (NUMERIFIED_KEYS.contains(key)) {
+                references.add(random -> numerify(reference.resolve(random), random));
+            } else {
+                references.add(reference);
+            }
+            start = matcher.end();
+        }
+        if (references.isEmpty()) {
+            return null;
+        }
+        literals.add(value.substring(start));
+        if (references.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            // an alias like '#{female_first_name}' needs no rendering
+            return references.get(0);
+        }
+        return new Template(literals.toArray(new String[0]), references.toArray(new Node[0]));
+    }
+
+    // same algorithm as Faker's Number#digit, so that the same random numbers are drawn
+    private static String digit(final Random random) {
+        double chunkSize = Math.sqrt(10);
+        long chunkCount = (long) chunkSize;
+        long bits;
+        long chunk;
+        do {
+            bits = (random.nextLong() << 1) >>> 1;
+            chunk = bits % chunkCount;
+        } while (bits - chunk + (chunkCount - 1) < 0L);
+        return String.valueOf((int) (chunk * chunkSize + chunkSize * random.nextDouble()));
+    }
+
+    private static String generate(final Generex generex, final long seed) {
+        // generex instances are shared by all randomizers of the locale
+        synchronized (generex) {
+            generex.setSeed(seed);
+            return generex.random();
+        }
+    }
+
+    // Name.first_name -> name.first_name, PhoneNumber.formats -> phone_number.formats
+    private static String toYamlKey(final String directive) {
+        int separator = directive.indexOf('.');
+        String section = directive.substring(0, separator);
+        String yamlSection = section.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ENGLISH);
+        return yamlSection + directive.substring(separator);
+    }
+
+    private interface Node {
+
+        String resolve(Random random);
+
+    }
+
+    private static final class Table implements Node {
+
+        private final String[] values;
+        private final Node[] templates;
+        private final boolean sampled;
+
+        private Table(final String[] values, final Node[] templates, final boolean sampled) {
+            this.values = values;
+            this.templates = templates;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public String resolve(final Random random) {
+            int index = sampled ? random.nextInt(values.length) : 0;
+            Node template = templates[index];
+            return template == null ? values[index] : template.resolve(random);
+        }
+    }
+
+    private static final class Template implements Node {
+
+        private final String[] literals;
+        private final Node[] references;
+
+        private Template(final String[] literals, final Node[] references) {
+            this.literals = literals;
+            this.references = references;
+        }
+
+        @Override
+        public String resolve(final Random random) {
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < references.length; i++) {
+                builder.append(references[i].resolve(random)).append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -91,6 +91,6 @@ public class FirstNameRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.name().firstName();
+        return dictionary.resolve("name.first_name", random);
     }
 }
@@ -91,6 +91,6 @@ public class FullNameRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.name().fullName();
+        return dictionary.resolve("name.name", random);
     }
 }
@@ -78,7 +78,7 @@ public class GenericStringRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.options().option(words);
+        return words[random.nextInt(words.length)];
     }
 
 }
@@ -91,6 +91,6 @@ public class IsbnRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.code().isbn13();
+        return faker().code().isbn13();
     }
 }
@@ -91,6 +91,6 @@ public class LastNameRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.name().lastName();
+        return dictionary.resolve("name.last_name", random);
     }
 }
@@ -91,6 +91,6 @@ public class LatitudeRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().latitude();
+        return String.format("%.8g", (random.nextDouble() * 180) - 90);
     }
 }
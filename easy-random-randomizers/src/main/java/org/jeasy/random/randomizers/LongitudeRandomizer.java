@@ -91,6 +91,6 @@ public class LongitudeRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().longitude();
+        return String.format("%.8g", (random.nextDouble() * 360) - 180);
     }
 }
@@ -91,6 +91,6 @@ public class ParagraphRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.lorem().paragraph();
+        return dictionary.paragraph(random);
     }
 }
@@ -91,6 +91,6 @@ public class PhoneNumberRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.phoneNumber().phoneNumber();
+        return FakerDictionary.numerify(dictionary.resolve("phone_number.formats", random), random);
     }
 }
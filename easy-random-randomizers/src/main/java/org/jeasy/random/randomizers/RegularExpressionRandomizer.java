@@ -24,22 +24,27 @@
 package org.jeasy.random.randomizers;
 
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.regex.RegularExpression;
 
 /**
  * A {@link Randomizer} that generates random strings matching a regular expression.
+ *
+ * <p>The regular expression is compiled once (and cached) by {@link RegularExpression#compile(String)},
+ * see its documentation for the supported syntax.</p>
  */
-public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
+public class RegularExpressionRandomizer extends AbstractRandomizer<String> {
 
-    private final String regularExpression;
+    private final RegularExpression regularExpression;
 
     /**
      * Create a new {@link RegularExpressionRandomizer}.
      *
      * @param regularExpression the regular expression which strings generated by this randomizer will match.
+     * @throws IllegalArgumentException if the regular expression is invalid or not supported
      */
     public RegularExpressionRandomizer(final String regularExpression) {
         super();
-        this.regularExpression = regularExpression;
+        this.regularExpression = RegularExpression.compile(regularExpression);
     }
 
     /**
@@ -47,10 +52,11 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
      *
      * @param regularExpression the regular expression which strings generated by this randomizer will match.
      * @param seed              the initial seed
+     * @throws IllegalArgumentException if the regular expression is invalid or not supported
      */
     public RegularExpressionRandomizer(final String regularExpression, final long seed) {
         super(seed);
-        this.regularExpression = regularExpression;
+        this.regularExpression = RegularExpression.compile(regularExpression);
     }
 
     /**
@@ -76,19 +82,6 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.regexify(removeLeadingAndTailingBoundaryMatchers(regularExpression));
-    }
-
-    private static String removeLeadingAndTailingBoundaryMatchers(String regularExpression) {
-        String regularExpressionWithoutBoundaryMatchers = regularExpression;
-        int lastIndex = regularExpressionWithoutBoundaryMatchers.length() - 1;
-        if (regularExpressionWithoutBoundaryMatchers.indexOf('^') == 0) {
-            regularExpressionWithoutBoundaryMatchers = regularExpressionWithoutBoundaryMatchers.substring(1, lastIndex + 1);
-            lastIndex = regularExpressionWithoutBoundaryMatchers.length() - 1;
-        }
-        if (regularExpressionWithoutBoundaryMatchers.lastIndexOf('$') == lastIndex) {
-            regularExpressionWithoutBoundaryMatchers = regularExpressionWithoutBoundaryMatchers.substring(0, lastIndex);
-        }
-        return regularExpressionWithoutBoundaryMatchers;
+        return regularExpression.generate(random);
     }
 }
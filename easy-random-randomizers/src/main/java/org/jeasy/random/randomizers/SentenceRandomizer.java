@@ -91,6 +91,6 @@ public class SentenceRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.lorem().sentence();
+        return dictionary.sentence(random);
     }
 }
@@ -91,6 +91,6 @@ public class StateRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().state();
+        return dictionary.resolve("address.state", random);
     }
 }
@@ -91,7 +91,7 @@ public class StreetRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().streetName();
+        return dictionary.resolve("address.street_name", random);
     }
 
 }
@@ -91,6 +91,6 @@ public class WordRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.lorem().word();
+        return dictionary.resolve("lorem.words", random);
     }
 }
@@ -91,6 +91,6 @@ public class ZipCodeRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().zipCode();
+        return FakerDictionary.bothify(dictionary.resolve("address.postcode", random), random);
     }
 }
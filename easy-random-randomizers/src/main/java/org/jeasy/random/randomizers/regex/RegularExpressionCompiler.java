@@ -0,0 +1,603 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.regex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.jeasy.random.randomizers.regex.RegularExpression.*;
+
+/**
+ * Compiler of regular expressions to {@link RegularExpression} programs.
+ *
+ * <p>The pattern is first parsed into a tree of nodes, which is then flattened into
+ * a program of opcodes (see {@link RegularExpression}).</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class RegularExpressionCompiler {
+
+    private static final BitSet PRINTABLE = range(' ', '~');
+    private static final BitSet DIGIT = range('0', '9');
+    private static final BitSet LOWER = range('a', 'z');
+    private static final BitSet UPPER = range('A', 'Z');
+    private static final BitSet ALPHA = union(LOWER, UPPER);
+    private static final BitSet ALNUM = union(ALPHA, DIGIT);
+    private static final BitSet WORD = union(ALNUM, chars("_"));
+    private static final BitSet SPACE = chars(" \t\n\u000B\f\r");
+    private static final BitSet PUNCT = chars("!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~");
+    private static final BitSet GRAPH = union(ALNUM, PUNCT);
+    private static final Map<String, BitSet> POSIX_CLASSES = new HashMap<>();
+
+    static {
+        POSIX_CLASSES.put("Lower", LOWER);
+        POSIX_CLASSES.put("Upper", UPPER);
+        POSIX_CLASSES.put("ASCII", range('\u0000', '\u007F'));
+        POSIX_CLASSES.put("Alpha", ALPHA);
+        POSIX_CLASSES.put("Digit", DIGIT);
+        POSIX_CLASSES.put("Alnum", ALNUM);
+        POSIX_CLASSES.put("Punct", PUNCT);
+        POSIX_CLASSES.put("Graph", GRAPH);
+        POSIX_CLASSES.put("Print", union(GRAPH, chars(" ")));
+        POSIX_CLASSES.put("Blank", chars(" \t"));
+        POSIX_CLASSES.put("Space", SPACE);
+        POSIX_CLASSES.put("XDigit", union(DIGIT, chars("abcdefABCDEF")));
+    }
+
+    private final String pattern;
+    private int index;
+
+    private final List<Integer> program = new ArrayList<>();
+    private final List<String> literals = new ArrayList<>();
+    private final Map<String, Integer> literalIndexes = new HashMap<>();
+    private final List<char[]> tables = new ArrayList<>();
+    private final Map<BitSet, Integer> tableIndexes = new HashMap<>();
+    private int nesting;
+    private int maxNesting;
+
+    private RegularExpressionCompiler(final String pattern) {
+        this.pattern = pattern;
+    }
+
+    static RegularExpression compile(final String pattern) {
+        // reject invalid syntax with the same errors as java.util.regex
+        Pattern.compile(pattern);
+        return new RegularExpressionCompiler(pattern).compile();
+    }
+
+    private RegularExpression compile() {
+        Node root = parseAlternation();
+        if (index < pattern.length()) {
+            throw unsupported(String.valueOf(pattern.charAt(index)));
+        }
+        root.emit(this);
+        program.add(MATCH);
+        int[] code = new int[program.size()];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = program.get(i);
+        }
+        int expectedLength = (int) Math.min(root.expectedLength(), 1024);
+        return new RegularExpression(pattern, code, literals.toArray(new String[0]),
+                tables.toArray(new char[0][]), maxNesting, expectedLength);
+    }
+
+    /*
+     * Parsing
+     */
+
+    private Node parseAlternation() {
+        List<Node> branches = new ArrayList<>();
+        branches.add(parseSequence());
+        while (index < pattern.length() && pattern.charAt(index) == '|') {
+            index++;
+            branches.add(parseSequence());
+        }
+        return branches.size() == 1 ? branches.get(0) : new Alternation(branches);
+    }
+
+    private Node parseSequence() {
+        Sequence sequence = new Sequence();
+        while (index < pattern.length() && pattern.charAt(index) != '|' && pattern.charAt(index) != ')') {
+            boolean quote = pattern.startsWith("\\Q", index);
+            Node atom = parseAtom();
+            if (atom == null) { // boundary matcher
+                continue;
+            }
+            if (quote && isQuantifier() && ((Literal) atom).text.length() > 1) {
+                // a quantifier after a quoted sequence only applies to its last character
+                String text = ((Literal) atom).text;
+                sequence.add(new Literal(text.substring(0, text.length() - 1)));
+                atom = new Literal(text.substring(text.length() - 1));
+            }
+            while (isQuantifier()) {
+                atom = parseQuantifier(atom);
+            }
+            sequence.add(atom);
+        }
+        return sequence.nodes.size() == 1 ? sequence.nodes.get(0) : sequence;
+    }
+
+    private Node parseAtom() {
+        char c = pattern.charAt(index++);
+        switch (c) {
+            case '(':
+                return parseGroup();
+            case '[':
+                return characterClass(parseClass());
+            case '.':
+                return characterClass(PRINTABLE);
+            case '^':
+            case '$':
+                return null;
+            case '\\':
+                return parseEscape();
+            default:
+                return new Literal(String.valueOf(c));
+        }
+    }
+
+    private Node parseGroup() {
+        if (pattern.startsWith("?:", index) || pattern.startsWith("?>", index)) {
+            index += 2;
+        } else if (pattern.startsWith("?<", index) && index + 2 < pattern.length()
+                && pattern.charAt(index + 2) != '=' && pattern.charAt(index + 2) != '!') {
+            index = pattern.indexOf('>', index) + 1;
+        } else if (pattern.startsWith("?", index)) {
+            throw unsupported("(?");
+        }
+        Node group = parseAlternation();
+        index++; // closing parenthesis
+        return group;
+    }
+
+    private Node parseEscape() {
+        char c = pattern.charAt(index++);
+        BitSet predefinedClass = parsePredefinedClass(c);
+        if (predefinedClass != null) {
+            return characterClass(predefinedClass);
+        }
+        switch (c) {
+            case 'A':
+            case 'z':
+            case 'Z':
+                return null;
+            case 'Q':
+                return new Literal(parseQuote());
+            default:
+                return new Literal(String.valueOf(parseEscapedCharacter(c)));
+        }
+    }
+
+    private BitSet parsePredefinedClass(final char c) {
+        switch (c) {
+            case 'd':
+                return DIGIT;
+            case 'D':
+                return complement(DIGIT);
+            case 'w':
+                return WORD;
+            case 'W':
+                return complement(WORD);
+            case 's':
+                return SPACE;
+            case 'S':
+                return complement(SPACE);
+            case 'p':
+            case 'P':
+                int end = pattern.indexOf('}', index);
+                if (pattern.charAt(index) != '{' || end < 0) {
+                    throw unsupported("\\" + c);
+                }
+                String name = pattern.substring(index + 1, end);
+                BitSet posixClass = POSIX_CLASSES.get(name);
+                if (posixClass == null) {
+                    throw unsupported("\\" + c + "{" + name + "}");
+                }
+                index = end + 1;
+                return c == 'p' ? posixClass : complement(posixClass);
+            default:
+                return null;
+        }
+    }
+
+    private String parseQuote() {
+        int end = pattern.indexOf("\\E", index);
+        String quote = pattern.substring(index, end < 0 ? pattern.length() : end);
+        index = end < 0 ? pattern.length() : end + 2;
+        return quote;
+    }
+
+    private char parseEscapedCharacter(final char c) {
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'c':
+                return (char) (pattern.charAt(index++) ^ 64);
+            case '0':
+                int octal = 0;
+                for (int digits = 0; digits < 3 && index < pattern.length(); digits++) {
+                    int digit = pattern.charAt(index) - '0';
+                    if (digit < 0 || digit > 7 || octal * 8 + digit > 0377) {
+                        break;
+                    }
+                    octal = octal * 8 + digit;
+                    index++;
+                }
+                return (char) octal;
+            case 'x':
+                if (pattern.charAt(index) == '{') {
+                    int end = pattern.indexOf('}', index);
+                    return toCharacter(Integer.parseInt(pattern.substring(index + 1, end), 16), end + 1);
+                }
+                return toCharacter(Integer.parseInt(pattern.substring(index, index + 2), 16), index + 2);
+            case 'u':
+                return toCharacter(Integer.parseInt(pattern.substring(index, index + 4), 16), index + 4);
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    // back references, word boundaries, line breaks, etc
+                    throw unsupported("\\" + c);
+                }
+                return c;
+        }
+    }
+
+    private char toCharacter(final int codePoint, final int nextIndex) {
+        if (codePoint > Character.MAX_VALUE) {
+            throw unsupported("supplementary character " + Integer.toHexString(codePoint));
+        }
+        index = nextIndex;
+        return (char) codePoint;
+    }
+
+    private BitSet parseClass() {
+        boolean negated = pattern.charAt(index) == '^';
+        if (negated) {
+            index++;
+        }
+        BitSet characters = new BitSet();
+        while (pattern.charAt(index) != ']') {
+            char c = pattern.charAt(index++);
+            if (c == '[') {
+                characters.or(parseClass());
+                continue;
+            }
+            if (c == '&' && pattern.charAt(index) == '&') {
+                throw unsupported("&&");
+            }
+            char from = c;
+            if (c == '\\') {
+                char escaped = pattern.charAt(index++);
+                BitSet predefinedClass = parsePredefinedClass(escaped);
+                if (predefinedClass != null) {
+                    characters.or(predefinedClass);
+                    continue;
+                }
+                if (escaped == 'Q') {
+                    parseQuote().chars().forEach(characters::set);
+                    continue;
+                }
+                from = parseEscapedCharacter(escaped);
+            }
+            if (pattern.charAt(index) == '-' && pattern.charAt(index + 1) != ']') {
+                index++;
+                char to = pattern.charAt(index++);
+                if (to == '\\') {
+                    to = parseEscapedCharacter(pattern.charAt(index++));
+                }
+                characters.set(from, to + 1);
+            } else {
+                characters.set(from);
+            }
+        }
+        index++; // closing bracket
+        return negated ? complement(characters) : characters;
+    }
+
+    private boolean isQuantifier() {
+        if (index >= pattern.length()) {
+            return false;
+        }
+        char c = pattern.charAt(index);
+        return c == '?' || c == '*' || c == '+' || c == '{';
+    }
+
+    private Node parseQuantifier(final Node atom) {
+        char c = pattern.charAt(index++);
+        int min;
+        int max;
+        switch (c) {
+            case '?':
+                min = 0;
+                max = 1;
+                break;
+            case '*':
+                min = 0;
+                max = MAX_UNBOUNDED_REPETITIONS;
+                break;
+            case '+':
+                min = 1;
+                max = 1 + MAX_UNBOUNDED_REPETITIONS;
+                break;
+            default: // {n}, {n,} or {n,m}
+                int end = pattern.indexOf('}', index);
+                String bounds = pattern.substring(index, end);
+                int comma = bounds.indexOf(',');
+                if (comma < 0) {
+                    min = Integer.parseInt(bounds);
+                    max = min;
+                } else {
+                    min = Integer.parseInt(bounds.substring(0, comma));
+                    max = comma == bounds.length() - 1
+                            ? min + MAX_UNBOUNDED_REPETITIONS
+                            : Integer.parseInt(bounds.substring(comma + 1));
+                }
+                index = end + 1;
+        }
+        // reluctant and possessive quantifiers generate the same strings as greedy ones
+        if (index < pattern.length() && (pattern.charAt(index) == '?' || pattern.charAt(index) == '+')) {
+            index++;
+        }
+        return new Repetition(atom, min, max);
+    }
+
+    private Node characterClass(final BitSet characters) {
+        if (characters.isEmpty()) {
+            throw unsupported("character class without printable characters");
+        }
+        if (characters.cardinality() == 1) {
+            return new Literal(String.valueOf((char) characters.nextSetBit(0)));
+        }
+        return new CharacterClass(characters);
+    }
+
+    private IllegalArgumentException unsupported(final String construct) {
+        return new IllegalArgumentException(format("Unsupported construct '%s' at index %d in regular expression: %s",
+                construct, index, pattern));
+    }
+
+    private static BitSet range(final char from, final char to) {
+        BitSet characters = new BitSet();
+        characters.set(from, to + 1);
+        return characters;
+    }
+
+    private static BitSet chars(final String characters) {
+        BitSet set = new BitSet();
+        characters.chars().forEach(set::set);
+        return set;
+    }
+
+    private static BitSet union(final BitSet first, final BitSet second) {
+        BitSet union = (BitSet) first.clone();
+        union.or(second);
+        return union;
+    }
+
+    // complements are restricted to printable characters
+    private static BitSet complement(final BitSet characters) {
+        BitSet complement = (BitSet) PRINTABLE.clone();
+        complement.andNot(characters);
+        return complement;
+    }
+
+    /*
+     * Code generation
+     */
+
+    private int emit(final int opcode) {
+        program.add(opcode);
+        return program.size() - 1;
+    }
+
+    private void patch(final int address, final int value) {
+        program.set(address, value);
+    }
+
+    private int literalIndex(final String literal) {
+        return literalIndexes.computeIfAbsent(literal, key -> {
+            literals.add(key);
+            return literals.size() - 1;
+        });
+    }
+
+    private int tableIndex(final BitSet characters) {
+        return tableIndexes.computeIfAbsent(characters, key -> {
+            char[] table = new char[key.cardinality()];
+            int i = 0;
+            for (int c = key.nextSetBit(0); c >= 0; c = key.nextSetBit(c + 1)) {
+                table[i++] = (char) c;
+            }
+            tables.add(table);
+            return tables.size() - 1;
+        });
+    }
+
+    private interface Node {
+
+        void emit(RegularExpressionCompiler compiler);
+
+        double expectedLength();
+
+    }
+
+    private static final class Literal implements Node {
+
+        private final String text;
+
+        private Literal(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void emit(final RegularExpressionCompiler compiler) {
+            if (!text.isEmpty()) {
+                compiler.emit(LITERAL);
+                compiler.emit(compiler.literalIndex(text));
+            }
+        }
+
+        @Override
+        public double expectedLength() {
+            return text.length();
+        }
+    }
+
+    private static final class CharacterClass implements Node {
+
+        private final BitSet characters;
+
+        private CharacterClass(final BitSet characters) {
+            this.characters = characters;
+        }
+
+        @Override
+        public void emit(final RegularExpressionCompiler compiler) {
+            compiler.emit(CLASS);
+            compiler.emit(compiler.tableIndex(characters));
+        }
+
+        @Override
+        public double expectedLength() {
+            return 1;
+        }
+    }
+
+    private static final class Sequence implements Node {
+
+        private final List<Node> nodes = new ArrayList<>();
+
+        private void add(final Node node) {
+            int last = nodes.size() - 1;
+            if (node instanceof Literal && last >= 0 && nodes.get(last) instanceof Literal) {
+                // adjacent literals are appended at once
+                nodes.set(last, new Literal(((Literal) nodes.get(last)).text + ((Literal) node).text));
+            } else {
+                nodes.add(node);
+            }
+        }
+
+        @Override
+        public void emit(final RegularExpressionCompiler compiler) {
+            for (Node node : nodes) {
+                node.emit(compiler);
+            }
+        }
+
+        @Override
+        public double expectedLength() {
+            return nodes.stream().mapToDouble(Node::expectedLength).sum();
+        }
+    }
+
+    private static final class Alternation implements Node {
+
+        private final List<Node> branches;
+
+        private Alternation(final List<Node> branches) {
+            this.branches = branches;
+        }
+
+        @Override
+        public void emit(final RegularExpressionCompiler compiler) {
+            compiler.emit(SPLIT);
+            compiler.emit(branches.size());
+            int branchAddresses = compiler.program.size();
+            for (int i = 0; i < branches.size(); i++) {
+                compiler.emit(-1);
+            }
+            List<Integer> jumps = new ArrayList<>();
+            for (int i = 0; i < branches.size(); i++) {
+                compiler.patch(branchAddresses + i, compiler.program.size());
+                branches.get(i).emit(compiler);
+                if (i < branches.size() - 1) {
+                    compiler.emit(JUMP);
+                    jumps.add(compiler.emit(-1));
+                }
+            }
+            for (int jump : jumps) {
+                compiler.patch(jump, compiler.program.size());
+            }
+        }
+
+        @Override
+        public double expectedLength() {
+            return branches.stream().mapToDouble(Node::expectedLength).average().orElse(0);
+        }
+    }
+
+    private static final class Repetition implements Node {
+
+        private final Node body;
+        private final int min;
+        private final int max;
+
+        private Repetition(final Node body, final int min, final int max) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public void emit(final RegularExpressionCompiler compiler) {
+            if (max == 0) {
+                return;
+            }
+            if (min == 1 && max == 1) {
+                body.emit(compiler);
+                return;
+            }
+            compiler.emit(REPEAT);
+            compiler.emit(min);
+            compiler.emit(max);
+            int exit = compiler.emit(-1);
+            int bodyAddress = compiler.program.size();
+            compiler.maxNesting = Math.max(compiler.maxNesting, ++compiler.nesting);
+            body.emit(compiler);
+            compiler.nesting--;
+            compiler.emit(LOOP);
+            compiler.emit(bodyAddress);
+            compiler.patch(exit, compiler.program.size());
+        }
+
+        @Override
+        public double expectedLength() {
+            return body.expectedLength() * (min + max) / 2.0;
+        }
+    }
+}
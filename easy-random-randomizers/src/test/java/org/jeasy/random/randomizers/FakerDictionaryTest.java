@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import com.github.javafaker.Faker;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.jeasy.random.api.Randomizer;
+
+public class FakerDictionaryTest {
+
+    private static final String[] LOCALES = {"bg", "by", "ca-CAT", "ca", "da-DK", "de-AT", "de-CH", "de", "en", "en-AU", "en-BORK", "en-CA", "en-GB", "en-IND", "en-MS", "en-NEP", "en-NG", "en-NZ", "en-PAK", "en-SG", "en-UG", "en-US", "en-ZA", "en-au-ocker", "es-MX", "es", "fa", "fi-FI", "fr", "he", "in-ID", "it", "ja", "ko", "nb-NO", "nl", "pl", "pt-BR", "pt", "ru", "sk", "sv-SE", "sv", "th", "tr", "uk", "vi", "zh-CN", "zh-TW"};
+
+    // Faker instances are expensive to create, so each locale gets one faker which is re-seeded through its random
+    private static final Map<Locale, Random> RANDOMS = new HashMap<>();
+    private static final Map<Locale, Faker> FAKERS = new HashMap<>();
+
+    static Stream<Arguments> randomizersAndFakerEquivalents() {
+        Stream.Builder<Arguments> arguments = Stream.builder();
+        for (String tag : LOCALES) {
+            Locale locale = new Locale(tag);
+            arguments.add(Arguments.of(locale, "city", (LongFunction<Randomizer<?>>) seed -> new CityRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().city()));
+            arguments.add(Arguments.of(locale, "company", (LongFunction<Randomizer<?>>) seed -> new CompanyRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.company().name()));
+            arguments.add(Arguments.of(locale, "country", (LongFunction<Randomizer<?>>) seed -> new CountryRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().country()));
+            arguments.add(Arguments.of(locale, "creditCard", (LongFunction<Randomizer<?>>) seed -> new CreditCardNumberRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.business().creditCardNumber()));
+            arguments.add(Arguments.of(locale, "email", (LongFunction<Randomizer<?>>) seed -> new EmailRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.internet().emailAddress()));
+            arguments.add(Arguments.of(locale, "safeEmail", (LongFunction<Randomizer<?>>) seed -> new EmailRandomizer(seed, locale, true), (Function<Faker, ?>) faker -> faker.internet().safeEmailAddress()));
+            arguments.add(Arguments.of(locale, "firstName", (LongFunction<Randomizer<?>>) seed -> new FirstNameRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.name().firstName()));
+            arguments.add(Arguments.of(locale, "fullName", (LongFunction<Randomizer<?>>) seed -> new FullNameRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.name().fullName()));
+            arguments.add(Arguments.of(locale, "lastName", (LongFunction<Randomizer<?>>) seed -> new LastNameRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.name().lastName()));
+            arguments.add(Arguments.of(locale, "latitude", (LongFunction<Randomizer<?>>) seed -> new LatitudeRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().latitude()));
+            arguments.add(Arguments.of(locale, "longitude", (LongFunction<Randomizer<?>>) seed -> new LongitudeRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().longitude()));
+            arguments.add(Arguments.of(locale, "paragraph", (LongFunction<Randomizer<?>>) seed -> new ParagraphRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.lorem().paragraph()));
+            arguments.add(Arguments.of(locale, "phoneNumber", (LongFunction<Randomizer<?>>) seed -> new PhoneNumberRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.phoneNumber().phoneNumber()));
+            arguments.add(Arguments.of(locale, "sentence", (LongFunction<Randomizer<?>>) seed -> new SentenceRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.lorem().sentence()));
+            arguments.add(Arguments.of(locale, "state", (LongFunction<Randomizer<?>>) seed -> new StateRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().state()));
+            arguments.add(Arguments.of(locale, "street", (LongFunction<Randomizer<?>>) seed -> new StreetRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().streetName()));
+            arguments.add(Arguments.of(locale, "word", (LongFunction<Randomizer<?>>) seed -> new WordRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.lorem().word()));
+            arguments.add(Arguments.of(locale, "zipCode", (LongFunction<Randomizer<?>>) seed -> new ZipCodeRandomizer(seed, locale), (Function<Faker, ?>) faker -> faker.address().zipCode()));
+        }
+        return arguments.build();
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("randomizersAndFakerEquivalents")
+    public void shouldGenerateTheSameValuesAsFaker(Locale locale, String name, LongFunction<Randomizer<?>> randomizerFactory, Function<Faker, ?> fakerEquivalent) {
+        Random random = RANDOMS.computeIfAbsent(locale, l -> new Random());
+        Faker faker = FAKERS.computeIfAbsent(locale, l -> new Faker(l, random));
+        for (long seed = 0; seed < 5; seed++) {
+            Randomizer<?> randomizer = randomizerFactory.apply(seed);
+            random.setSeed(seed);
+            for (int i = 0; i < 10; i++) {
+                then(randomizer.getRandomValue()).isEqualTo(fakerEquivalent.apply(faker));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.regex;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RegularExpressionTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "abc",
+            "\\d+[A-Z]{5}",
+            "^[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,6}$",
+            "[A-Z]{3}-\\d{6}",
+            "(foo|bar|baz)+",
+            "(?:ab|c(d|e){2,3})*x?",
+            "(?<year>\\d{4})-(?<month>0[1-9]|1[0-2])",
+            "[^a-z]{10}",
+            "\\D\\W\\S.",
+            "[\\w&]+",
+            "[a-f[0-9]]{8}",
+            "[-a]+[b-]+",
+            "\\p{Lower}\\p{Upper}\\p{Alnum}\\P{Punct}\\p{XDigit}{4}",
+            "\\Q.*+?\\E+",
+            "(ab){2}",
+            "(?:foo)+",
+            "x(?<word>yz)?",
+            "\\t\\x41\\x{42}\\u0043\\0101\\.\\\\",
+            "a{3,}?b{0,2}+c??",
+            "\\A(a|)(|b)\\z"
+    })
+    void generatedStringsShouldMatchTheRegularExpression(String pattern) {
+        // given
+        RegularExpression regularExpression = RegularExpression.compile(pattern);
+        Pattern javaPattern = Pattern.compile(pattern);
+        Random random = new Random(123L);
+
+        for (int i = 0; i < 1000; i++) {
+            // when
+            String value = regularExpression.generate(random);
+
+            // then
+            then(javaPattern.matcher(value).matches()).as("'%s' matches %s", value, pattern).isTrue();
+        }
+    }
+
+    @Test
+    void generationShouldBeDeterministicForTheSameSeed() {
+        // given
+        RegularExpression regularExpression = RegularExpression.compile("[a-z]{2,8}(-\\d+)?");
+
+        // when
+        String first = regularExpression.generate(new Random(42L));
+        String second = regularExpression.generate(new Random(42L));
+
+        // then
+        then(first).isEqualTo(second);
+    }
+
+    @Test
+    void repetitionCountsShouldCoverTheirBounds() {
+        // given
+        RegularExpression regularExpression = RegularExpression.compile("a{2,5}");
+        Random random = new Random(123L);
+        Set<Integer> lengths = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            lengths.add(regularExpression.generate(random).length());
+        }
+
+        // then
+        then(lengths).containsExactlyInAnyOrder(2, 3, 4, 5);
+    }
+
+    @Test
+    void unboundedRepetitionsShouldBeBounded() {
+        // given
+        RegularExpression regularExpression = RegularExpression.compile("a+");
+        Random random = new Random(123L);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            String value = regularExpression.generate(random);
+
+            // then
+            then(value.length()).isBetween(1, 1 + RegularExpression.MAX_UNBOUNDED_REPETITIONS);
+        }
+    }
+
+    @Test
+    void compiledRegularExpressionsShouldBeCached() {
+        then(RegularExpression.compile("[a-z]+")).isSameAs(RegularExpression.compile("[a-z]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a)\\1", "a(?=b)", "(?i)a", "\\bword", "[a-z&&[def]]", "\\p{L}"})
+    void unsupportedConstructsShouldBeRejected(String pattern) {
+        assertThatThrownBy(() -> RegularExpression.compile(pattern))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported construct");
+    }
+
+    @Test
+    void invalidRegularExpressionsShouldBeRejected() {
+        assertThatThrownBy(() -> RegularExpression.compile("[a-z"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
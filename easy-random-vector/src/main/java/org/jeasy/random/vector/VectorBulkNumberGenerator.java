@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.jeasy.random.BulkNumberGenerators;
+import org.jeasy.random.api.BulkNumberGenerator;
+
+import static jdk.incubator.vector.VectorOperators.AND;
+import static jdk.incubator.vector.VectorOperators.D2F;
+import static jdk.incubator.vector.VectorOperators.L2I;
+import static jdk.incubator.vector.VectorOperators.LSHL;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+import static jdk.incubator.vector.VectorOperators.OR;
+import static jdk.incubator.vector.VectorOperators.XOR;
+import static org.jeasy.random.BulkNumberGenerators.GAMMA;
+
+/**
+ * {@link BulkNumberGenerator} computing the counter-based SplitMix64 generator of {@link BulkNumberGenerators}
+ * in SIMD lanes with the {@code jdk.incubator.vector} module, which must be added to the JVM with
+ * {@code --add-modules jdk.incubator.vector}. Values are the same as the scalar ones: lanes compute the raw values
+ * of consecutive indexes and map them to ranges with the same operations, in the same order, and the remaining
+ * elements of arrays are generated by the scalar generator.
+ *
+ * <p>This generator is registered with {@link java.util.ServiceLoader} and is only supported when the preferred
+ * vector shape of the platform is at least 512 bits wide (like AVX-512): SplitMix64 relies on 64-bit multiplications,
+ * which narrower SIMD units (like AVX2 or Neon) emulate in lanes no faster than the scalar generator.</p>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class VectorBulkNumberGenerator implements BulkNumberGenerator {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    // same number of lanes as longs, in half the bits
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private static final int LANES = LONGS.length();
+
+    // bits of 1.0, the exponent of doubles in [1, 2)
+    private static final long ONE = Double.doubleToRawLongBits(1d);
+
+    // counter increments of the lanes: 0, GAMMA, 2 * GAMMA, ...
+    private static final LongVector LANE_INCREMENTS = LongVector.zero(LONGS).addIndex(1).mul(GAMMA);
+
+    @Override
+    public boolean isSupported() {
+        return LONGS.vectorBitSize() >= 512;
+    }
+
+    @Override
+    public void fill(final long seed, final int[] values, final int from, final int to, final int min, final int max) {
+        long bound = (long) max - min + 1;
+        int i = from;
+        for (int upperBound = to - LANES; i <= upperBound; i += LANES) {
+            LongVector raw = nextLongs(seed, i);
+            LongVector scaled = raw.lanewise(LSHR, 32).mul(bound).lanewise(LSHR, 32).add(min);
+            ((IntVector) scaled.convertShape(L2I, INTS, 0)).intoArray(values, i);
+        }
+        BulkNumberGenerators.scalar().fill(seed, values, i, to, min, max);
+    }
+
+    @Override
+    public void fill(final long seed, final long[] values, final int from, final int to, final long min, final long max) {
+        long bound = max - min + 1;
+        int i = from;
+        for (int upperBound = to - LANES; i <= upperBound; i += LANES) {
+            LongVector raw = nextLongs(seed, i);
+            (bound == 0 ? raw : multiplyHighUnsigned(raw, bound).add(min)).intoArray(values, i);
+        }
+        BulkNumberGenerators.scalar().fill(seed, values, i, to, min, max);
+    }
+
+    @Override
+    public void fill(final long seed, final float[] values, final int from, final int to, final float min, final float max) {
+        float range = max - min;
+        int i = from;
+        for (int upperBound = to - LANES; i <= upperBound; i += LANES) {
+            // mantissas of floats in [1, 2) computed as doubles, which are exactly narrowed to floats
+            LongVector raw = nextLongs(seed, i);
+            DoubleVector one = raw.lanewise(LSHR, 41).lanewise(LSHL, 29).lanewise(OR, ONE).reinterpretAsDoubles();
+            FloatVector unit = (FloatVector) one.sub(1d).convertShape(D2F, FLOATS, 0);
+            unit.mul(range).add(min).intoArray(values, i);
+        }
+        BulkNumberGenerators.scalar().fill(seed, values, i, to, min, max);
+    }
+
+    @Override
+    public void fill(final long seed, final double[] values, final int from, final int to, final double min, final double max) {
+        double range = max - min;
+        int i = from;
+        for (int upperBound = to - LANES; i <= upperBound; i += LANES) {
+            LongVector raw = nextLongs(seed, i);
+            DoubleVector unit = raw.lanewise(LSHR, 12).lanewise(OR, ONE).reinterpretAsDoubles().sub(1d);
+            unit.mul(range).add(min).intoArray(values, i);
+        }
+        BulkNumberGenerators.scalar().fill(seed, values, i, to, min, max);
+    }
+
+    /*
+     * Raw values of the indexes i to i + LANES - 1, see BulkNumberGenerators#nextLong(long, int).
+     */
+    private static LongVector nextLongs(final long seed, final int i) {
+        LongVector z = LANE_INCREMENTS.add(seed + (i + 1L) * GAMMA);
+        z = z.lanewise(XOR, z.lanewise(LSHR, 30)).mul(0xbf58476d1ce4e5b9L);
+        z = z.lanewise(XOR, z.lanewise(LSHR, 27)).mul(0x94d049bb133111ebL);
+        return z.lanewise(XOR, z.lanewise(LSHR, 31));
+    }
+
+    /*
+     * High 64 bits of the unsigned 128 bits products, from 32 bits halves (there is no vector multiply high).
+     */
+    private static LongVector multiplyHighUnsigned(final LongVector x, final long y) {
+        LongVector xLow = x.lanewise(AND, 0xffffffffL);
+        LongVector xHigh = x.lanewise(LSHR, 32);
+        long yLow = y & 0xffffffffL;
+        long yHigh = y >>> 32;
+        LongVector lowHigh = xLow.mul(yHigh);
+        LongVector highLow = xHigh.mul(yLow);
+        LongVector carry = xLow.mul(yLow).lanewise(LSHR, 32)
+                .add(lowHigh.lanewise(AND, 0xffffffffL))
+                .add(highLow.lanewise(AND, 0xffffffffL));
+        return xHigh.mul(yHigh)
+                .add(lowHigh.lanewise(LSHR, 32))
+                .add(highLow.lanewise(LSHR, 32))
+                .add(carry.lanewise(LSHR, 32));
+    }
+}
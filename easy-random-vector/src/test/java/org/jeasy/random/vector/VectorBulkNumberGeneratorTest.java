@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2019, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jeasy.random.BulkNumberGenerators;
+import org.jeasy.random.api.BulkNumberGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+public class VectorBulkNumberGeneratorTest {
+
+    private static final long SEED = 123L;
+
+    private final BulkNumberGenerator vector = new VectorBulkNumberGenerator();
+
+    private final BulkNumberGenerator scalar = BulkNumberGenerators.scalar();
+
+    @Test
+    public void vectorGeneratorShouldBeTheDefaultGeneratorWhenSupported() {
+        if (vector.isSupported()) {
+            assertThat(BulkNumberGenerators.getDefault()).isInstanceOf(VectorBulkNumberGenerator.class);
+        } else {
+            assertThat(BulkNumberGenerators.getDefault()).isSameAs(scalar);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 63, 1000})
+    public void integersShouldBeTheScalarOnes(int length) {
+        assertSameInts(length, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertSameInts(length, -10, 10);
+        assertSameInts(length, 42, 42);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 63, 1000})
+    public void longsShouldBeTheScalarOnes(int length) {
+        assertSameLongs(length, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertSameLongs(length, -10, 10);
+        assertSameLongs(length, Long.MIN_VALUE, Long.MAX_VALUE - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 63, 1000})
+    public void floatsShouldBeTheScalarOnes(int length) {
+        assertSameFloats(length, 0f, 1f);
+        assertSameFloats(length, -3.5f, 1e6f);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 63, 1000})
+    public void doublesShouldBeTheScalarOnes(int length) {
+        assertSameDoubles(length, 0d, 1d);
+        assertSameDoubles(length, -1e300, 1e300);
+    }
+
+    @Test
+    public void subRangesShouldBeTheScalarOnes() {
+        // Given
+        long[] expected = new long[100];
+        long[] actual = new long[100];
+
+        // When
+        scalar.fill(SEED, expected, 3, 97, -1000, 1000);
+        vector.fill(SEED, actual, 3, 97, -1000, 1000);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual[0]).isZero();
+        assertThat(actual[99]).isZero();
+    }
+
+    private void assertSameInts(int length, int min, int max) {
+        int[] expected = new int[length];
+        int[] actual = new int[length];
+        scalar.fill(SEED, expected, 0, length, min, max);
+        vector.fill(SEED, actual, 0, length, min, max);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void assertSameLongs(int length, long min, long max) {
+        long[] expected = new long[length];
+        long[] actual = new long[length];
+        scalar.fill(SEED, expected, 0, length, min, max);
+        vector.fill(SEED, actual, 0, length, min, max);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void assertSameFloats(int length, float min, float max) {
+        float[] expected = new float[length];
+        float[] actual = new float[length];
+        scalar.fill(SEED, expected, 0, length, min, max);
+        vector.fill(SEED, actual, 0, length, min, max);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void assertSameDoubles(int length, double min, double max) {
+        double[] expected = new double[length];
+        double[] actual = new double[length];
+        scalar.fill(SEED, expected, 0, length, min, max);
+        vector.fill(SEED, actual, 0, length, min, max);
+        assertThat(actual).isEqualTo(expected);
+    }
+}